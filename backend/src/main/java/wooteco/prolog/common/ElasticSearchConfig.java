@@ -1,20 +1,38 @@
 package wooteco.prolog.common;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import org.apache.http.Header;
+import org.apache.http.HttpHeaders;
 import org.apache.http.HttpHost;
-import org.apache.http.auth.AuthScope;
-import org.apache.http.auth.UsernamePasswordCredentials;
-import org.apache.http.impl.client.BasicCredentialsProvider;
+import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
+import org.apache.http.impl.nio.reactor.DefaultConnectingIOReactor;
+import org.apache.http.impl.nio.reactor.IOReactorConfig;
+import org.apache.http.message.BasicHeader;
+import org.apache.http.nio.reactor.IOReactorException;
+import org.elasticsearch.action.bulk.BackoffPolicy;
+import org.elasticsearch.action.bulk.BulkProcessor;
+import org.elasticsearch.client.RequestOptions;
 import org.elasticsearch.client.RestClient;
 import org.elasticsearch.client.RestHighLevelClient;
+import org.elasticsearch.common.unit.ByteSizeUnit;
+import org.elasticsearch.common.unit.ByteSizeValue;
+import org.elasticsearch.common.unit.TimeValue;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
-import org.springframework.data.elasticsearch.client.ClientConfiguration;
-import org.springframework.data.elasticsearch.client.RestClients;
 import org.springframework.data.elasticsearch.config.AbstractElasticsearchConfiguration;
 import org.springframework.data.elasticsearch.repository.config.EnableElasticsearchRepositories;
 
+/**
+ * Elasticsearch 클라이언트의 커넥션 풀, 타임아웃, 인증과 색인용 BulkProcessor 를 설정한다.
+ * 커넥션 풀을 직접 만들어서 사용 중/대기 중인 커넥션 수를 Prometheus 로 내보낸다.
+ * 인증 헤더는 매 요청에 미리 실어 보내서 401 응답 후 다시 보내는 왕복이 생기지 않게 한다.
+ */
 @Profile({"elastic", "dev", "prod"})
 @Configuration
 @EnableElasticsearchRepositories
@@ -29,22 +47,111 @@ public class ElasticSearchConfig extends AbstractElasticsearchConfiguration {
     @Value("${elasticsearch.password}")
     private String password;
 
+    @Value("${elasticsearch.client.max-connections-per-route:50}")
+    private int maxConnectionsPerRoute;
+    @Value("${elasticsearch.client.max-connections-total:100}")
+    private int maxConnectionsTotal;
+    @Value("${elasticsearch.client.io-thread-count:0}")
+    private int ioThreadCount;
+    @Value("${elasticsearch.client.connect-timeout-millis:1000}")
+    private int connectTimeoutMillis;
+    @Value("${elasticsearch.client.socket-timeout-millis:5000}")
+    private int socketTimeoutMillis;
+    @Value("${elasticsearch.client.connection-request-timeout-millis:500}")
+    private int connectionRequestTimeoutMillis;
+
+    @Value("${elasticsearch.bulk.actions:500}")
+    private int bulkActions;
+    @Value("${elasticsearch.bulk.size-mb:5}")
+    private long bulkSizeMb;
+    @Value("${elasticsearch.bulk.flush-interval-millis:1000}")
+    private long bulkFlushIntervalMillis;
+    @Value("${elasticsearch.bulk.concurrent-requests:1}")
+    private int bulkConcurrentRequests;
 
     @Bean
     @Override
     public RestHighLevelClient elasticsearchClient() {
-        final BasicCredentialsProvider basicCredentialsProvider = new BasicCredentialsProvider();
-        basicCredentialsProvider.setCredentials(
-            AuthScope.ANY,
-            new UsernamePasswordCredentials(user, password)
-        );
-
+        final PoolingNHttpClientConnectionManager connectionManager = elasticsearchConnectionManager();
         return new RestHighLevelClient(
             RestClient.builder(new HttpHost(host, port, "http"))
-                .setHttpClientConfigCallback(httpClientBuilder -> {
-                    httpClientBuilder.disableAuthCaching();
-                    return httpClientBuilder.setDefaultCredentialsProvider(basicCredentialsProvider);
-                })
+                .setDefaultHeaders(new Header[]{basicAuthorization()})
+                .setRequestConfigCallback(requestConfigBuilder -> requestConfigBuilder
+                    .setConnectTimeout(connectTimeoutMillis)
+                    .setSocketTimeout(socketTimeoutMillis)
+                    .setConnectionRequestTimeout(connectionRequestTimeoutMillis))
+                .setHttpClientConfigCallback(httpClientBuilder -> httpClientBuilder
+                    .setConnectionManager(connectionManager))
         );
     }
+
+    /**
+     * 커넥션 풀은 클라이언트가 닫힐 때 함께 닫힌다.
+     */
+    @Bean(destroyMethod = "")
+    public PoolingNHttpClientConnectionManager elasticsearchConnectionManager() {
+        final IOReactorConfig.Builder ioReactorConfig = IOReactorConfig.custom()
+            .setConnectTimeout(connectTimeoutMillis)
+            .setSoTimeout(socketTimeoutMillis);
+        if (ioThreadCount > 0) {
+            ioReactorConfig.setIoThreadCount(ioThreadCount);
+        }
+
+        try {
+            final PoolingNHttpClientConnectionManager connectionManager = new PoolingNHttpClientConnectionManager(
+                new DefaultConnectingIOReactor(ioReactorConfig.build()));
+            connectionManager.setDefaultMaxPerRoute(maxConnectionsPerRoute);
+            connectionManager.setMaxTotal(maxConnectionsTotal);
+            return connectionManager;
+        } catch (IOReactorException e) {
+            throw new IllegalStateException("Elasticsearch 커넥션 풀을 만들 수 없습니다.", e);
+        }
+    }
+
+    @Bean
+    public MeterBinder elasticsearchConnectionPoolMetrics(PoolingNHttpClientConnectionManager connectionManager) {
+        return registry -> {
+            Gauge.builder("elasticsearch.client.pool.leased", connectionManager,
+                    it -> it.getTotalStats().getLeased())
+                .description("사용 중인 Elasticsearch 커넥션 수")
+                .register(registry);
+            Gauge.builder("elasticsearch.client.pool.pending", connectionManager,
+                    it -> it.getTotalStats().getPending())
+                .description("커넥션을 기다리는 요청 수")
+                .register(registry);
+            Gauge.builder("elasticsearch.client.pool.available", connectionManager,
+                    it -> it.getTotalStats().getAvailable())
+                .description("놀고 있는 Elasticsearch 커넥션 수")
+                .register(registry);
+            Gauge.builder("elasticsearch.client.pool.max", connectionManager,
+                    it -> it.getTotalStats().getMax())
+                .description("Elasticsearch 커넥션 최대 수")
+                .register(registry);
+        };
+    }
+
+    @Bean
+    public ElasticsearchBulkListener elasticsearchBulkListener(MeterRegistry meterRegistry) {
+        return new ElasticsearchBulkListener(meterRegistry);
+    }
+
+    @Bean(destroyMethod = "close")
+    public BulkProcessor elasticsearchBulkProcessor(RestHighLevelClient elasticsearchClient,
+                                                    ElasticsearchBulkListener elasticsearchBulkListener) {
+        return BulkProcessor.builder(
+                (request, listener) -> elasticsearchClient.bulkAsync(request, RequestOptions.DEFAULT, listener),
+                elasticsearchBulkListener)
+            .setBulkActions(bulkActions)
+            .setBulkSize(new ByteSizeValue(bulkSizeMb, ByteSizeUnit.MB))
+            .setFlushInterval(TimeValue.timeValueMillis(bulkFlushIntervalMillis))
+            .setConcurrentRequests(bulkConcurrentRequests)
+            .setBackoffPolicy(BackoffPolicy.exponentialBackoff(TimeValue.timeValueMillis(100), 3))
+            .build();
+    }
+
+    private Header basicAuthorization() {
+        final String credentials = user + ":" + password;
+        return new BasicHeader(HttpHeaders.AUTHORIZATION,
+            "Basic " + Base64.getEncoder().encodeToString(credentials.getBytes(StandardCharsets.UTF_8)));
+    }
 }
@@ -0,0 +1,102 @@
+package wooteco.prolog.common;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.elasticsearch.action.bulk.BulkItemResponse;
+import org.elasticsearch.action.bulk.BulkProcessor;
+import org.elasticsearch.action.bulk.BulkRequest;
+import org.elasticsearch.action.bulk.BulkResponse;
+
+/**
+ * 공용 BulkProcessor 의 요청 수, 실패 수, 처리 시간을 기록하고 실패한 항목을 남긴다.
+ * BulkProcessor 는 비동기로 보내므로, 보낸 요청이 모두 끝날 때까지 기다리거나 실패 수를 비교할 수 있게 해 준다.
+ */
+@Slf4j
+public class ElasticsearchBulkListener implements BulkProcessor.Listener {
+
+    private final AtomicLong inFlight = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private final Counter actions;
+    private final Counter failedActions;
+    private final Timer latency;
+
+    public ElasticsearchBulkListener(MeterRegistry meterRegistry) {
+        this.actions = Counter.builder("elasticsearch.bulk.actions")
+            .description("bulk 로 보낸 색인/삭제 요청 수")
+            .register(meterRegistry);
+        this.failedActions = Counter.builder("elasticsearch.bulk.failures")
+            .description("bulk 안에서 실패한 요청 수")
+            .register(meterRegistry);
+        this.latency = Timer.builder("elasticsearch.bulk.latency")
+            .description("bulk 요청 한 번의 처리 시간")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public void beforeBulk(long executionId, BulkRequest request) {
+        inFlight.incrementAndGet();
+        actions.increment(request.numberOfActions());
+    }
+
+    @Override
+    public void afterBulk(long executionId, BulkRequest request, BulkResponse response) {
+        try {
+            latency.record(response.getTook().millis(), TimeUnit.MILLISECONDS);
+            if (response.hasFailures()) {
+                final long failed = Arrays.stream(response.getItems())
+                    .filter(BulkItemResponse::isFailed)
+                    .count();
+                failures.addAndGet(failed);
+                failedActions.increment(failed);
+                log.warn("bulk 요청 중 {}건이 실패했습니다. {}", failed, response.buildFailureMessage());
+            }
+        } finally {
+            finish();
+        }
+    }
+
+    @Override
+    public void afterBulk(long executionId, BulkRequest request, Throwable failure) {
+        try {
+            failures.addAndGet(request.numberOfActions());
+            failedActions.increment(request.numberOfActions());
+            log.warn("bulk 요청 {}건을 보내지 못했습니다.", request.numberOfActions(), failure);
+        } finally {
+            finish();
+        }
+    }
+
+    public long getFailureCount() {
+        return failures.get();
+    }
+
+    /**
+     * 보낸 bulk 요청이 모두 끝날 때까지 기다린다. 시간 안에 끝나지 않으면 false 를 돌려준다.
+     */
+    public boolean awaitIdle(Duration timeout) throws InterruptedException {
+        final long deadline = System.nanoTime() + timeout.toNanos();
+        synchronized (inFlight) {
+            while (inFlight.get() > 0) {
+                final long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                TimeUnit.NANOSECONDS.timedWait(inFlight, remaining);
+            }
+        }
+        return true;
+    }
+
+    private void finish() {
+        synchronized (inFlight) {
+            inFlight.decrementAndGet();
+            inFlight.notifyAll();
+        }
+    }
+}
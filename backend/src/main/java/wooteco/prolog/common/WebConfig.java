@@ -1,8 +1,16 @@
 package wooteco.prolog.common;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.List;
+import java.util.Map;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Scope;
@@ -11,10 +19,16 @@ import org.springframework.data.web.config.PageableHandlerMethodArgumentResolver
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
 import wooteco.prolog.common.slacklogger.RequestStorage;
 import wooteco.prolog.studylog.application.dto.search.SearchArgumentResolver;
+import wooteco.support.performance.NPlusOneDetector;
+import wooteco.support.performance.PerformanceLogSink;
 import wooteco.support.performance.PerformanceLogger;
+import wooteco.support.performance.PerformanceMetrics;
+import wooteco.support.performance.PerformanceProfilingFilter;
 import wooteco.support.performance.RequestApiExtractor;
+import wooteco.support.performance.RequestApiRegistry;
 
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
@@ -24,7 +38,8 @@ public class WebConfig implements WebMvcConfigurer {
 
     @Override
     public void addCorsMappings(CorsRegistry registry) {
-        registry.addMapping("/**").allowedMethods("*").allowedOriginPatterns("*");
+        registry.addMapping("/**").allowedMethods("*").allowedOriginPatterns("*")
+            .exposedHeaders("X-Search-Degraded");
     }
 
     @Override
@@ -38,8 +53,65 @@ public class WebConfig implements WebMvcConfigurer {
     }
 
     @Bean
-    public PerformanceLogger performanceLogger(ObjectMapper objectMapper) {
-        return new PerformanceLogger(objectMapper, new RequestApiExtractor());
+    public RequestApiRegistry requestApiRegistry() {
+        return new RequestApiRegistry(new RequestApiExtractor());
+    }
+
+    @Bean
+    public SmartInitializingSingleton requestApiRegistryInitializer(RequestApiRegistry requestApiRegistry,
+        @Qualifier("requestMappingHandlerMapping") RequestMappingHandlerMapping handlerMapping) {
+        return () -> requestApiRegistry.initialize(handlerMapping.getHandlerMethods().values());
+    }
+
+    @Bean
+    public PerformanceLogger performanceLogger(RequestApiRegistry requestApiRegistry,
+                                               NPlusOneDetector nPlusOneDetector) {
+        return new PerformanceLogger(requestApiRegistry, nPlusOneDetector);
+    }
+
+    /**
+     * 테스트 클래스패스의 application.yml 이 main 의 것을 가리므로, API 별 예산 기본값은 설정 파일 대신 여기에 한 번만 둔다.
+     */
+    @Bean
+    public NPlusOneDetector nPlusOneDetector(
+        @Value("${performance.query-budget.repeat-threshold:5}") int repeatThreshold,
+        @Value("${performance.query-budget.default:0}") int defaultBudget,
+        @Value("#{${performance.query-budget.routes:{'GET /studylogs': 50, 'GET /studylogs/popular': 50}}}")
+            Map<String, Integer> routeBudgets,
+        @Value("${performance.query-budget.fail-on-breach:false}") boolean failOnBreach,
+        ObjectProvider<MeterRegistry> meterRegistry) {
+        return new NPlusOneDetector(repeatThreshold, defaultBudget, routeBudgets, failOnBreach,
+            meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+    }
+
+    /**
+     * MeterRegistry 가 없는 WebMvcTest 슬라이스에서도 뜰 수 있도록 없으면 메모리 레지스트리를 쓴다.
+     */
+    @Bean
+    public PerformanceMetrics performanceMetrics(ObjectProvider<MeterRegistry> meterRegistry,
+                                                 @Value("${performance.metrics.max-routes:200}") int maxRoutes,
+                                                 @Value("${performance.metrics.max-fingerprints:500}") int maxFingerprints) {
+        return new PerformanceMetrics(meterRegistry.getIfAvailable(SimpleMeterRegistry::new), maxRoutes,
+            maxFingerprints);
+    }
+
+    @Bean
+    public PerformanceLogSink performanceLogSink(PerformanceMetrics performanceMetrics) {
+        return new PerformanceLogSink(performanceMetrics);
+    }
+
+    @Bean
+    public MeterBinder performanceLogSinkMetrics(PerformanceLogSink performanceLogSink) {
+        return registry -> FunctionCounter.builder("performance.log.dropped", performanceLogSink,
+                PerformanceLogSink::getDroppedCount)
+            .description("큐가 가득 차서 버린 성능 기록 수")
+            .register(registry);
+    }
+
+    @Bean
+    public PerformanceProfilingFilter performanceProfilingFilter(NPlusOneDetector nPlusOneDetector,
+                                                                 PerformanceLogSink performanceLogSink) {
+        return new PerformanceProfilingFilter(nPlusOneDetector, performanceLogSink);
     }
 
     @Bean
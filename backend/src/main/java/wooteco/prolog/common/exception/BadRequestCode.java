@@ -36,6 +36,7 @@ import wooteco.prolog.studylog.exception.AbilityNameDuplicateException;
 import wooteco.prolog.studylog.exception.AuthorNotValidException;
 import wooteco.prolog.studylog.exception.DuplicateMissionException;
 import wooteco.prolog.studylog.exception.DuplicateTagException;
+import wooteco.prolog.studylog.exception.InvalidCursorException;
 import wooteco.prolog.studylog.exception.MissionNotFoundException;
 import wooteco.prolog.studylog.exception.NotValidSortNameException;
 import wooteco.prolog.studylog.exception.StudylogArgumentException;
@@ -72,6 +73,7 @@ public enum BadRequestCode {
     ONLY_AUTHOR_CAN_EDIT(2006, "작성자만 수정할 수 있습니다.", AuthorNotValidException.class),
     STUDYLOG_DOCUMENT_NOT_FOUND(2007, "검색용 스터디로그가 존재하지 않습니다.",
                                 StudylogDocumentNotFoundException.class),
+    INVALID_CURSOR(2008, "페이지 커서 형식이 올바르지 않습니다.", InvalidCursorException.class),
 
     MISSION_NOT_FOUND(3000, "존재하지 않는 미션입니다.", MissionNotFoundException.class),
     DUPLICATE_MISSION(3001, "미션이 중복됩니다.", DuplicateMissionException.class),
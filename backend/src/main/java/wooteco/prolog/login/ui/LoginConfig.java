@@ -2,35 +2,50 @@ package wooteco.prolog.login.ui;
 
 import java.util.List;
 import lombok.AllArgsConstructor;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
 import wooteco.prolog.login.aop.MemberAuthorityCache;
 import wooteco.prolog.login.application.GithubLoginService;
 import wooteco.prolog.login.application.JwtTokenProvider;
 import wooteco.prolog.login.domain.AuthMemberPrincipal;
-import wooteco.support.autoceptor.AutoInterceptorPatternMaker;
+import wooteco.support.autoceptor.HandlerMappingPatternMaker;
+import wooteco.support.autoceptor.PatternMatchingInterceptor;
 
 @Configuration
 @AllArgsConstructor
 @Profile("!docu")
 public class LoginConfig implements WebMvcConfigurer {
 
-    private final static String BASE_PACKAGE = "wooteco.prolog";
-
     private final GithubLoginService githubLoginService;
     private final JwtTokenProvider jwtTokenProvider;
     private final MemberAuthorityCache memberAuthorityCache;
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
-        AutoInterceptorPatternMaker mapper =
-            new AutoInterceptorPatternMaker(BASE_PACKAGE, AuthMemberPrincipal.class);
+        registry.addInterceptor(loginInterceptor());
+    }
+
+    @Bean
+    public PatternMatchingInterceptor loginInterceptor() {
+        return new PatternMatchingInterceptor(new LoginInterceptor(githubLoginService));
+    }
 
-        registry.addInterceptor(new LoginInterceptor(githubLoginService))
-            .addPathPatterns(mapper.extractPatterns());
+    /**
+     * 핸들러 매핑이 컨트롤러를 모두 찾은 뒤, 서버가 요청을 받기 전에 로그인 검사 대상 URL 을 정한다.
+     */
+    @Bean
+    public SmartInitializingSingleton loginInterceptorPatterns(
+        @Qualifier("requestMappingHandlerMapping") RequestMappingHandlerMapping handlerMapping) {
+        return () -> loginInterceptor().initialize(
+            new HandlerMappingPatternMaker(handlerMapping.getHandlerMethods(), AuthMemberPrincipal.class)
+                .extractPatterns());
     }
 
     @Override
@@ -1,6 +1,8 @@
 package wooteco.prolog.member.application;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -9,6 +11,7 @@ import wooteco.prolog.member.domain.MemberTag;
 import wooteco.prolog.member.domain.MemberTags;
 import wooteco.prolog.member.domain.repository.MemberTagRepository;
 import wooteco.prolog.studylog.application.dto.MemberTagResponse;
+import wooteco.prolog.studylog.domain.Tag;
 import wooteco.prolog.studylog.domain.Tags;
 import wooteco.prolog.studylog.domain.repository.StudylogRepository;
 
@@ -32,6 +35,16 @@ public class MemberTagService {
         memberTagRepository.register(new MemberTags(memberTags));
     }
 
+    public void registerMemberTags(List<Tags> tagsOfStudylogs, Member member) {
+        final Map<Long, Integer> countsByTagId = new HashMap<>();
+        for (Tags tags : tagsOfStudylogs) {
+            for (Tag tag : tags.getList()) {
+                countsByTagId.merge(tag.getId(), 1, Integer::sum);
+            }
+        }
+        memberTagRepository.register(member.getId(), countsByTagId);
+    }
+
     public void updateMemberTag(Tags originalTags, Tags newTags, Member member) {
         final List<MemberTag> originalMemberTags = originalTags.toMemberTags(member);
         final List<MemberTag> newMemberTags = newTags.toMemberTags(member);
@@ -5,6 +5,7 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.jdbc.core.BatchPreparedStatementSetter;
@@ -29,6 +30,58 @@ public class JdbcMemberTagRepository implements MemberTagRepository {
         insertMemberTags(memberTags.getValues());
     }
 
+    /**
+     * 여러 스터디로그를 한 번에 등록할 때 태그별로 등장한 횟수만큼 한 번에 count 를 올린다.
+     */
+    @Override
+    public void register(Long memberId, Map<Long, Integer> countsByTagId) {
+        if (countsByTagId == null || countsByTagId.isEmpty()) {
+            return;
+        }
+
+        final List<Long> tagIds = new ArrayList<>(countsByTagId.keySet());
+        addCounts(memberId, tagIds, countsByTagId);
+        insertMemberTags(memberId, tagIds, countsByTagId);
+    }
+
+    private void addCounts(Long memberId, List<Long> tagIds, Map<Long, Integer> countsByTagId) {
+        String sql = "update member_tag set count = count + ? where member_id = ? and tag_id = ?";
+
+        jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setInt(1, countsByTagId.get(tagIds.get(i)));
+                ps.setLong(2, memberId);
+                ps.setLong(3, tagIds.get(i));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return tagIds.size();
+            }
+        });
+    }
+
+    private void insertMemberTags(Long memberId, List<Long> tagIds, Map<Long, Integer> countsByTagId) {
+        String sql = "insert into member_tag(member_id, tag_id, count) select ?,?,? from dual where not exists (select * from member_tag where member_id = ? and tag_id = ? limit 1)";
+
+        jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setLong(1, memberId);
+                ps.setLong(2, tagIds.get(i));
+                ps.setInt(3, countsByTagId.get(tagIds.get(i)));
+                ps.setLong(4, memberId);
+                ps.setLong(5, tagIds.get(i));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return tagIds.size();
+            }
+        });
+    }
+
     private void addCount(List<MemberTag> memberTags) {
         if (memberTags == null || memberTags.isEmpty()) return;
 
@@ -1,11 +1,14 @@
 package wooteco.prolog.member.domain.repository;
 
+import java.util.Map;
 import wooteco.prolog.member.domain.MemberTags;
 
 public interface MemberTagRepository {
 
     void register(MemberTags memberTags);
 
+    void register(Long memberId, Map<Long, Integer> countsByTagId);
+
     void update(MemberTags originalMemberTags, MemberTags newMemberTags);
 
     void unregister(MemberTags memberTags);
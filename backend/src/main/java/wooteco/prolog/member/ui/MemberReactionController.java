@@ -23,6 +23,7 @@ import wooteco.prolog.member.application.dto.MemberScrapRequest;
 import wooteco.prolog.member.application.dto.MemberScrapResponse;
 import wooteco.prolog.studylog.application.StudylogScrapService;
 import wooteco.prolog.studylog.application.dto.StudylogsResponse;
+import wooteco.prolog.studylog.application.dto.search.StudylogCursor;
 
 @RestController
 @RequiredArgsConstructor
@@ -35,8 +36,14 @@ public class MemberReactionController {
     @MemberOnly
     public ResponseEntity<StudylogsResponse> showScrap(
         @AuthMemberPrincipal LoginMember member,
-        @PageableDefault(direction = DESC) Pageable pageable
+        @PageableDefault(direction = DESC) Pageable pageable,
+        @RequestParam(required = false) String cursor
     ) {
+        if (cursor != null) {
+            return ResponseEntity.ok(studylogScrapService
+                .showScrap(member.getId(), StudylogCursor.decode(cursor), pageable.getPageSize()));
+        }
+
         StudylogsResponse studylogsResponse = studylogScrapService
             .showScrap(member.getId(), pageable);
         return ResponseEntity.ok(studylogsResponse);
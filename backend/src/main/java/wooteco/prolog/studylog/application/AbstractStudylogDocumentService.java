@@ -1,32 +1,49 @@
 package wooteco.prolog.studylog.application;
 
-import wooteco.prolog.studylog.domain.Studylog;
 import wooteco.prolog.studylog.domain.StudylogDocument;
+import wooteco.prolog.studylog.domain.repository.JdbcStudylogDocumentReader;
 import wooteco.prolog.studylog.domain.repository.StudylogDocumentRepository;
 import wooteco.prolog.studylog.domain.repository.StudylogRepository;
 import wooteco.prolog.studylog.exception.StudylogDocumentNotFoundException;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 public abstract class AbstractStudylogDocumentService implements DocumentService {
 
     private static final String EMPTY = " ";
+    protected static final String INDEX_ALIAS = "studylog-document";
+    private static final int REINDEX_CHUNK_SIZE = 500;
 
     protected final StudylogDocumentRepository studylogDocumentRepository;
     protected final StudylogRepository studylogRepository;
+    protected final JdbcStudylogDocumentReader studylogDocumentReader;
 
     public AbstractStudylogDocumentService(StudylogDocumentRepository studylogDocumentRepository,
-                                           StudylogRepository studylogRepository) {
+                                           StudylogRepository studylogRepository,
+                                           JdbcStudylogDocumentReader studylogDocumentReader) {
         this.studylogDocumentRepository = studylogDocumentRepository;
         this.studylogRepository = studylogRepository;
+        this.studylogDocumentReader = studylogDocumentReader;
     }
 
     @Override
     public void save(StudylogDocument studylogDocument) {
         studylogDocumentRepository.save(studylogDocument);
+        onIndexChanged();
+    }
+
+    @Override
+    public void saveAll(List<StudylogDocument> studylogDocuments) {
+        if (studylogDocuments.isEmpty()) {
+            return;
+        }
+        studylogDocumentRepository.saveAll(studylogDocuments);
+        onIndexChanged();
     }
 
     @Override
@@ -38,29 +55,106 @@ public abstract class AbstractStudylogDocumentService implements DocumentService
     @Override
     public void delete(StudylogDocument studylogDocument) {
         studylogDocumentRepository.delete(studylogDocument);
+        onIndexChanged();
     }
 
     @Override
     public void deleteAll() {
         studylogDocumentRepository.deleteAll();
+        onIndexChanged();
+    }
+
+    @Override
+    public void deleteAllByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        final List<StudylogDocument> studylogDocuments = new ArrayList<>();
+        for (Long id : ids) {
+            studylogDocuments.add(StudylogDocument.builder().id(id).build());
+        }
+        studylogDocumentRepository.deleteAll(studylogDocuments);
+        onIndexChanged();
     }
 
     @Override
     public void sync() {
-        // sync between es and db
+        reindex(StudylogReindexProgress.running());
+    }
+
+    /**
+     * 삭제되지 않은 스터디로그를 id 순서의 청크로 읽어 새 색인에 넣고, 다 넣은 뒤에 검색 대상을 교체한다.
+     * 재색인 도중 작성/수정/삭제된 스터디로그는 교체 후 수정 시각 기준으로 한 번 더 반영한다.
+     */
+    @Override
+    public void reindex(StudylogReindexProgress progress) {
+        final LocalDateTime startedAt = LocalDateTime.now();
+        final String indexName = prepareReindex();
+        progress.start(studylogDocumentReader.count(), indexName);
+
+        try {
+            long lastId = 0L;
+            while (true) {
+                final List<StudylogDocument> chunk = studylogDocumentReader.findChunkAfter(lastId,
+                    REINDEX_CHUNK_SIZE);
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                indexChunk(indexName, chunk);
+                progress.addProcessed(chunk.size());
+                lastId = chunk.get(chunk.size() - 1).getId();
+            }
+            completeReindex(indexName);
+            onIndexChanged();
+        } catch (RuntimeException e) {
+            abortReindex(indexName);
+            throw e;
+        }
+
+        applyChangesSince(startedAt);
+    }
+
+    /**
+     * 문서를 넣을 색인을 준비하고 그 이름을 돌려준다. 기본 구현은 기존 문서를 지우고 같은 저장소를 쓴다.
+     */
+    protected String prepareReindex() {
         studylogDocumentRepository.deleteAll();
+        return INDEX_ALIAS;
+    }
+
+    protected void indexChunk(String indexName, List<StudylogDocument> studylogDocuments) {
+        studylogDocumentRepository.saveAll(studylogDocuments);
+    }
+
+    protected void completeReindex(String indexName) {
+    }
+
+    protected void abortReindex(String indexName) {
+    }
 
-        List<Studylog> studylogs = studylogRepository.findAll();
-        studylogDocumentRepository.saveAll(
-                studylogs.stream()
-                        .map(Studylog::toStudylogDocument)
-                        .collect(Collectors.toList())
-        );
+    /**
+     * 검색 대상 색인의 문서가 바뀐 뒤에 호출된다.
+     */
+    protected void onIndexChanged() {
+    }
+
+    private void applyChangesSince(LocalDateTime since) {
+        final List<Long> updatedIds = studylogDocumentReader.findIdsUpdatedSince(since);
+        for (int from = 0; from < updatedIds.size(); from += REINDEX_CHUNK_SIZE) {
+            final List<Long> ids = updatedIds.subList(from, Math.min(from + REINDEX_CHUNK_SIZE, updatedIds.size()));
+            final List<StudylogDocument> documents = studylogDocumentReader.findAllByIds(ids);
+            saveAll(documents);
+
+            final Set<Long> deletedIds = new HashSet<>(ids);
+            documents.forEach(document -> deletedIds.remove(document.getId()));
+            deleteAllByIds(new ArrayList<>(deletedIds));
+        }
     }
 
     @Override
     public void update(StudylogDocument studylogDocument) {
         studylogDocumentRepository.save(studylogDocument);
+        onIndexChanged();
     }
 
     protected List<String> preprocess(String searchKeyword) {
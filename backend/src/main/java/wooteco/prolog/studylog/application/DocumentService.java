@@ -11,14 +11,20 @@ public interface DocumentService {
 
     void save(StudylogDocument toStudylogDocument);
 
+    void saveAll(List<StudylogDocument> studylogDocuments);
+
     StudylogDocument findById(Long id);
 
     void delete(StudylogDocument studylogDocument);
 
     void deleteAll();
 
+    void deleteAllByIds(List<Long> ids);
+
     void sync();
 
+    void reindex(StudylogReindexProgress progress);
+
     void update(StudylogDocument studylogDocument);
 
     StudylogDocumentResponse findBySearchKeyword(
@@ -0,0 +1,127 @@
+package wooteco.prolog.studylog.application;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import wooteco.prolog.studylog.domain.MemberReactions;
+import wooteco.prolog.studylog.domain.repository.LikeRepository;
+import wooteco.prolog.studylog.domain.repository.StudylogReadRepository;
+import wooteco.prolog.studylog.domain.repository.StudylogScrapRepository;
+import wooteco.prolog.studylog.event.MemberReactionEvent;
+import wooteco.support.cache.ClearableCache;
+
+/**
+ * 멤버별 읽음/스크랩/좋아요 스터디로그 id 집합을 LRU 로 보관한다.
+ * 처음 조회할 때만 id 목록을 읽어오고, 이후 변경분은 커밋된 {@link MemberReactionEvent} 로만 반영한다.
+ * 읽어오는 도중 같은 멤버의 변경이 커밋되면 읽어온 값은 캐시에 넣지 않고 이번 조회에만 쓴다.
+ */
+@Component
+public class MemberReactionCache implements ClearableCache {
+
+    private static final int VERSION_STRIPES = 64;
+
+    private final StudylogReadRepository studylogReadRepository;
+    private final StudylogScrapRepository studylogScrapRepository;
+    private final LikeRepository likeRepository;
+    private final Map<Long, MemberReactions> reactionsByMemberId;
+    private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES);
+
+    public MemberReactionCache(StudylogReadRepository studylogReadRepository,
+                               StudylogScrapRepository studylogScrapRepository,
+                               LikeRepository likeRepository,
+                               @Value("${studylog.reaction-cache.max-members:10000}") int maxMembers) {
+        this.studylogReadRepository = studylogReadRepository;
+        this.studylogScrapRepository = studylogScrapRepository;
+        this.likeRepository = likeRepository;
+        this.reactionsByMemberId = new LinkedHashMap<Long, MemberReactions>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, MemberReactions> eldest) {
+                return size() > maxMembers;
+            }
+        };
+    }
+
+    public MemberReactions get(Long memberId) {
+        if (memberId == null) {
+            return MemberReactions.empty();
+        }
+
+        final int stripe = stripeOf(memberId);
+        final long version;
+        synchronized (reactionsByMemberId) {
+            final MemberReactions cached = reactionsByMemberId.get(memberId);
+            if (cached != null) {
+                return cached;
+            }
+            version = versions.get(stripe);
+        }
+
+        final MemberReactions loaded = new MemberReactions(
+            studylogReadRepository.findStudylogIdsByMemberId(memberId),
+            studylogScrapRepository.findStudylogIdsByMemberId(memberId),
+            likeRepository.findStudylogIdsByMemberId(memberId)
+        );
+        synchronized (reactionsByMemberId) {
+            final MemberReactions cached = reactionsByMemberId.get(memberId);
+            if (cached != null) {
+                return cached;
+            }
+            if (versions.get(stripe) == version) {
+                reactionsByMemberId.put(memberId, loaded);
+            }
+            return loaded;
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemberReaction(MemberReactionEvent event) {
+        final MemberReactions cached;
+        synchronized (reactionsByMemberId) {
+            versions.incrementAndGet(stripeOf(event.getMemberId()));
+            cached = reactionsByMemberId.get(event.getMemberId());
+        }
+        if (cached != null) {
+            apply(cached, event);
+        }
+    }
+
+    @Override
+    public void clear() {
+        synchronized (reactionsByMemberId) {
+            reactionsByMemberId.clear();
+        }
+    }
+
+    private void apply(MemberReactions reactions, MemberReactionEvent event) {
+        final Long studylogId = event.getStudylogId();
+        switch (event.getReaction()) {
+            case READ:
+                reactions.read(studylogId);
+                break;
+            case UNREAD:
+                reactions.unread(studylogId);
+                break;
+            case SCRAP:
+                reactions.scrap(studylogId);
+                break;
+            case UNSCRAP:
+                reactions.unscrap(studylogId);
+                break;
+            case LIKE:
+                reactions.like(studylogId);
+                break;
+            case UNLIKE:
+                reactions.unlike(studylogId);
+                break;
+            default:
+                throw new IllegalArgumentException(event.getReaction().name());
+        }
+    }
+
+    private int stripeOf(Long memberId) {
+        return (int) (memberId & (VERSION_STRIPES - 1));
+    }
+}
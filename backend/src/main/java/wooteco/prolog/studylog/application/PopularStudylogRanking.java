@@ -0,0 +1,219 @@
+package wooteco.prolog.studylog.application;
+
+import static java.util.stream.Collectors.toList;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.stereotype.Component;
+import wooteco.prolog.studylog.domain.Curriculum;
+import wooteco.support.cache.ClearableCache;
+
+/**
+ * 최근 3주간 작성된 스터디로그의 좋아요/조회수를 메모리에 들고 있으면서 커리큘럼별 인기 순위를 유지한다.
+ * 좋아요, 조회, 작성, 삭제가 일어날 때마다 후보 점수만 갱신하고,
+ * 순위는 변경이 있었을 때 다음 조회 시점에 커리큘럼별 상위 K 개만 힙으로 다시 뽑는다.
+ * 전체 후보 교체(rebuild)는 서버 시작과 주기적인 보정 때만 일어난다.
+ */
+@Component
+public class PopularStudylogRanking implements ClearableCache {
+
+    private static final int POPULAR_SCORE = 3;
+    private static final int A_WEEK = 7;
+    private static final int MAX_WEEKS = 3;
+    private static final int DEFAULT_RANKING_SIZE = 10;
+
+    private final Map<Long, Candidate> candidates = new ConcurrentHashMap<>();
+    private volatile int rankingSize = DEFAULT_RANKING_SIZE;
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    private volatile boolean dirty = true;
+
+    public static LocalDateTime oldestCandidateDate(LocalDateTime now) {
+        return now.minusDays((long) A_WEEK * MAX_WEEKS);
+    }
+
+    public static Candidate candidate(Long id, String sessionName, LocalDateTime createdAt,
+                                      long views, long likes) {
+        return new Candidate(id, Curriculum.findBySessionName(sessionName).orElse(null), createdAt,
+            views, likes);
+    }
+
+    public synchronized void replaceAll(Map<Long, Candidate> newCandidates, int rankingSize) {
+        candidates.clear();
+        candidates.putAll(newCandidates);
+        this.rankingSize = rankingSize;
+        this.snapshot = Snapshot.EMPTY;
+        this.dirty = true;
+    }
+
+    public void register(Long id, String sessionName, LocalDateTime createdAt) {
+        candidates.putIfAbsent(id, candidate(id, sessionName, createdAt, 0, 0));
+        dirty = true;
+    }
+
+    public void changeSession(Long id, String sessionName) {
+        candidates.computeIfPresent(id, (key, candidate) -> candidate.withCurriculum(
+            Curriculum.findBySessionName(sessionName).orElse(null)));
+        dirty = true;
+    }
+
+    public void remove(Long id) {
+        if (candidates.remove(id) != null) {
+            dirty = true;
+        }
+    }
+
+    public void addView(Long id) {
+        final Candidate candidate = candidates.get(id);
+        if (candidate != null) {
+            candidate.views.incrementAndGet();
+            dirty = true;
+        }
+    }
+
+    public void addLike(Long id, int delta) {
+        final Candidate candidate = candidates.get(id);
+        if (candidate != null) {
+            candidate.likes.addAndGet(delta);
+            dirty = true;
+        }
+    }
+
+    public int getRankingSize() {
+        return rankingSize;
+    }
+
+    public List<Long> findTopIds() {
+        return currentSnapshot().all;
+    }
+
+    public List<Long> findTopIds(Curriculum curriculum) {
+        return currentSnapshot().byCurriculum.getOrDefault(curriculum, Collections.emptyList());
+    }
+
+    @Override
+    public synchronized void clear() {
+        candidates.clear();
+        rankingSize = DEFAULT_RANKING_SIZE;
+        snapshot = Snapshot.EMPTY;
+        dirty = true;
+    }
+
+    private Snapshot currentSnapshot() {
+        if (!dirty) {
+            return snapshot;
+        }
+        synchronized (this) {
+            if (dirty) {
+                dirty = false;
+                snapshot = computeSnapshot(LocalDateTime.now());
+            }
+            return snapshot;
+        }
+    }
+
+    /**
+     * 7일, 14일, 21일 순서로 기간을 늘려가며 전체 후보 수가 순위 크기 이상이 되는 가장 짧은 기간을 고르고,
+     * 그 기간 안에서 커리큘럼별 상위 K 개를 점수 순으로 뽑는다.
+     */
+    private Snapshot computeSnapshot(LocalDateTime now) {
+        final LocalDateTime oldest = oldestCandidateDate(now);
+        candidates.values().removeIf(candidate -> candidate.createdAt.isBefore(oldest));
+
+        final LocalDateTime from = findWindowStart(now);
+        final Map<Curriculum, PriorityQueue<Candidate>> heaps = new EnumMap<>(Curriculum.class);
+        for (Candidate candidate : candidates.values()) {
+            if (candidate.curriculum == null || candidate.createdAt.isBefore(from)) {
+                continue;
+            }
+            final PriorityQueue<Candidate> heap = heaps.computeIfAbsent(candidate.curriculum,
+                key -> new PriorityQueue<>(Comparator.comparingLong(Candidate::score)));
+            heap.offer(candidate);
+            if (heap.size() > rankingSize) {
+                heap.poll();
+            }
+        }
+
+        final Map<Curriculum, List<Long>> byCurriculum = new EnumMap<>(Curriculum.class);
+        final List<Candidate> all = new ArrayList<>();
+        heaps.forEach((curriculum, heap) -> {
+            final List<Candidate> ranked = new ArrayList<>(heap);
+            ranked.sort(Comparator.comparingLong(Candidate::score).reversed());
+            byCurriculum.put(curriculum, toIds(ranked));
+            all.addAll(ranked);
+        });
+        all.sort(Comparator.comparingLong(Candidate::score).reversed());
+        return new Snapshot(toIds(all), byCurriculum);
+    }
+
+    private LocalDateTime findWindowStart(LocalDateTime now) {
+        for (int weeks = 1; weeks < MAX_WEEKS; weeks++) {
+            final LocalDateTime from = now.minusDays((long) A_WEEK * weeks);
+            final long count = candidates.values().stream()
+                .filter(candidate -> !candidate.createdAt.isBefore(from))
+                .count();
+            if (count >= rankingSize) {
+                return from;
+            }
+        }
+        return oldestCandidateDate(now);
+    }
+
+    private List<Long> toIds(List<Candidate> ranked) {
+        return Collections.unmodifiableList(ranked.stream()
+            .map(candidate -> candidate.id)
+            .collect(toList()));
+    }
+
+    public static class Candidate {
+
+        private final Long id;
+        private final Curriculum curriculum;
+        private final LocalDateTime createdAt;
+        private final AtomicLong views;
+        private final AtomicInteger likes;
+
+        private Candidate(Long id, Curriculum curriculum, LocalDateTime createdAt, long views, long likes) {
+            this(id, curriculum, createdAt, new AtomicLong(views), new AtomicInteger((int) likes));
+        }
+
+        private Candidate(Long id, Curriculum curriculum, LocalDateTime createdAt, AtomicLong views,
+                          AtomicInteger likes) {
+            this.id = id;
+            this.curriculum = curriculum;
+            this.createdAt = createdAt;
+            this.views = views;
+            this.likes = likes;
+        }
+
+        private Candidate withCurriculum(Curriculum curriculum) {
+            return new Candidate(id, curriculum, createdAt, views, likes);
+        }
+
+        private long score() {
+            return likes.get() * (long) POPULAR_SCORE + views.get();
+        }
+    }
+
+    private static class Snapshot {
+
+        private static final Snapshot EMPTY = new Snapshot(Collections.emptyList(),
+            Collections.emptyMap());
+
+        private final List<Long> all;
+        private final Map<Curriculum, List<Long>> byCurriculum;
+
+        private Snapshot(List<Long> all, Map<Curriculum, List<Long>> byCurriculum) {
+            this.all = all;
+            this.byCurriculum = byCurriculum;
+        }
+    }
+}
@@ -1,165 +1,165 @@
 package wooteco.prolog.studylog.application;
 
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import lombok.AllArgsConstructor;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import wooteco.prolog.studylog.application.PopularStudylogRanking.Candidate;
 import wooteco.prolog.studylog.application.dto.PopularStudylogsResponse;
 import wooteco.prolog.studylog.application.dto.StudylogResponse;
 import wooteco.prolog.studylog.application.dto.StudylogWithScrapedCountResponse;
-import wooteco.prolog.studylog.application.dto.StudylogsResponse;
 import wooteco.prolog.studylog.application.dto.StudylogsWithScrapCountResponse;
 import wooteco.prolog.studylog.domain.Curriculum;
-import wooteco.prolog.studylog.domain.PopularStudylog;
-import wooteco.prolog.studylog.domain.Studylog;
-import wooteco.prolog.studylog.domain.repository.PopularStudylogRepository;
+import wooteco.prolog.studylog.domain.repository.PopularStudylogCandidate;
 import wooteco.prolog.studylog.domain.repository.StudylogRepository;
+import wooteco.prolog.studylog.domain.repository.StudylogScrapCount;
 import wooteco.prolog.studylog.domain.repository.StudylogScrapRepository;
-
+import wooteco.prolog.studylog.event.StudylogCreateEvent;
+import wooteco.prolog.studylog.event.StudylogDeleteEvent;
+import wooteco.prolog.studylog.event.StudylogLikeEvent;
+import wooteco.prolog.studylog.event.StudylogUpdateEvent;
+import wooteco.prolog.studylog.event.StudylogViewEvent;
+
+/**
+ * 인기 스터디로그는 {@link PopularStudylogRanking} 이 메모리에서 유지하는 순위를 그대로 내려준다.
+ * 좋아요/조회/작성/수정/삭제 이벤트로 점수를 갱신하고, 전체 재계산은 서버 시작, 매 정각, 수동 동기화 때만 한다.
+ */
 @Service
 @AllArgsConstructor
 @Transactional(readOnly = true)
 public class PopularStudylogService {
 
-    private static final int ONE_INDEXED_PARAMETER = 1;
-    private static final int A_WEEK = 7;
+    private static final int REBUILD_CHUNK_SIZE = 500;
 
     private final StudylogService studylogService;
     private final StudylogRepository studylogRepository;
-    private final PopularStudylogRepository popularStudylogRepository;
     private final StudylogScrapRepository studylogScrapRepository;
-
-    @Transactional
+    private final StudylogListHydrator studylogListHydrator;
+    private final PopularStudylogRanking popularStudylogRanking;
+    private final ViewCountAccumulator viewCountAccumulator;
+
+    /**
+     * 최근 3주간의 스터디로그를 id 기준 keyset 으로 나누어 읽어 후보를 통째로 교체한다.
+     * 엔티티 대신 점수 계산에 필요한 컬럼만 projection 으로 가져온다.
+     */
     public void updatePopularStudylogs(Pageable pageable) {
-        deleteAllLegacyPopularStudylogs();
-        List<Studylog> studylogs = new ArrayList<>();
-        for (Curriculum curriculum : Curriculum.values()) {
-            List<Studylog> studylogsByDays = findStudylogsByDays(pageable, LocalDateTime.now(),
-                curriculum);
-            studylogs.addAll(studylogsByDays);
+        final LocalDateTime from = PopularStudylogRanking.oldestCandidateDate(LocalDateTime.now());
+        final Map<Long, Candidate> candidates = new HashMap<>();
+
+        long lastId = 0L;
+        while (true) {
+            final List<PopularStudylogCandidate> chunk = studylogRepository.findPopularCandidates(
+                from, lastId, PageRequest.of(0, REBUILD_CHUNK_SIZE));
+            for (PopularStudylogCandidate row : chunk) {
+                candidates.put(row.getId(), PopularStudylogRanking.candidate(row.getId(), row.getSessionName(),
+                    row.getCreatedAt(), row.getViews() + viewCountAccumulator.pendingOf(row.getId()),
+                    row.getLikeCount()));
+                lastId = row.getId();
+            }
+            if (chunk.size() < REBUILD_CHUNK_SIZE) {
+                break;
+            }
         }
 
-        List<PopularStudylog> popularStudylogs = studylogs.stream()
-            .map(it -> new PopularStudylog(it.getId()))
-            .collect(toList());
+        popularStudylogRanking.replaceAll(candidates, pageable.getPageSize());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initializePopularStudylogs() {
+        updatePopularStudylogs(PageRequest.of(0, popularStudylogRanking.getRankingSize()));
+    }
 
-        popularStudylogRepository.saveAll(popularStudylogs);
+    /**
+     * 이벤트 유실이나 기간 경계로 인한 오차를 주기적으로 바로잡는다.
+     * 순위 크기는 마지막으로 동기화를 요청한 크기를 그대로 쓴다.
+     */
+    @Scheduled(cron = "${studylog.popular.rebuild-cron:0 0 * * * *}")
+    public void rebuildPopularStudylogs() {
+        updatePopularStudylogs(PageRequest.of(0, popularStudylogRanking.getRankingSize()));
     }
 
     public PopularStudylogsResponse findPopularStudylogs(Pageable pageable, Long memberId,
         boolean isAnonymousMember) {
-        List<Studylog> allStudylogs = getSortedPopularStudyLogs();
-        List<Studylog> frontStudylogs = getSortedCurriculumPopularStudylogs(allStudylogs,
-            Curriculum.FRONTEND);
-        List<Studylog> backStudylogs = getSortedCurriculumPopularStudylogs(allStudylogs,
-            Curriculum.BACKEND);
-
-        StudylogsWithScrapCountResponse allResponse = getPageablePopularStudylogs(allStudylogs, pageable,
-            memberId);
-        StudylogsWithScrapCountResponse frontResponse = getPageablePopularStudylogs(frontStudylogs, pageable,
-            memberId);
-        StudylogsWithScrapCountResponse backResponse = getPageablePopularStudylogs(backStudylogs, pageable,
-            memberId);
-
-        if (isAnonymousMember) {
-            return new PopularStudylogsResponse(allResponse, frontResponse, backResponse);
-        }
-
-        List<StudylogResponse> allData = allResponse.getStudylogResponses();
-        updateScrapAndRead(allData, memberId);
-
-        List<StudylogResponse> frontendData = frontResponse.getStudylogResponses();
-        updateScrapAndRead(frontendData, memberId);
+        final List<Long> allIds = popularStudylogRanking.findTopIds();
+        final Map<Long, Integer> scrapCounts = findScrapCounts(allIds);
+        final Map<Long, StudylogWithScrapedCountResponse> responses = studylogListHydrator
+            .hydrateByIds(allIds, memberId)
+            .stream()
+            .map(it -> new StudylogWithScrapedCountResponse(it, scrapCounts.getOrDefault(it.getId(), 0)))
+            .collect(toMap(it -> it.getStudylogResponse().getId(), Function.identity()));
 
-        List<StudylogResponse> backendData = backResponse.getStudylogResponses();
-        updateScrapAndRead(backendData, memberId);
+        if (!isAnonymousMember) {
+            updateScrapAndRead(responses.values().stream()
+                .map(StudylogWithScrapedCountResponse::getStudylogResponse)
+                .collect(toList()), memberId);
+        }
 
-        return new PopularStudylogsResponse(allResponse, frontResponse, backResponse);
+        return new PopularStudylogsResponse(
+            toResponse(allIds, responses),
+            toResponse(popularStudylogRanking.findTopIds(Curriculum.FRONTEND), responses),
+            toResponse(popularStudylogRanking.findTopIds(Curriculum.BACKEND), responses)
+        );
     }
 
-    private List<Studylog> getSortedCurriculumPopularStudylogs(List<Studylog> allStudylogs,
-        Curriculum curriculum) {
-
-        return allStudylogs.stream()
-            .filter(studylog -> studylog.isContainsCurriculum(curriculum))
-            .collect(toList());
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStudylogCreateEvent(StudylogCreateEvent event) {
+        popularStudylogRanking.register(event.getStudylogId(), event.getSessionName(), event.getCreatedAt());
     }
 
-    private StudylogsWithScrapCountResponse getPageablePopularStudylogs(List<Studylog> allStudylogs,
-        Pageable pageable, Long memberId) {
-
-        final List<StudylogWithScrapedCountResponse> studylogsResponse = allStudylogs.stream()
-            .map(studylog -> new StudylogWithScrapedCountResponse(StudylogResponse.of(studylog),
-                studylogScrapRepository.countByStudylogId(studylog.getId())))
-            .collect(toList());
-
-        return new StudylogsWithScrapCountResponse(studylogsResponse, 0L, 0, 0);
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStudylogUpdateEvent(StudylogUpdateEvent event) {
+        popularStudylogRanking.changeSession(event.getStudylogId(), event.getSessionName());
     }
 
-    private void updateScrapAndRead(List<StudylogResponse> studylogResponses, Long memberId) {
-        studylogService.updateScrap(studylogResponses, studylogService.findScrapIds(memberId));
-        studylogService.updateRead(studylogResponses, studylogService.findReadIds(memberId));
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStudylogDeleteEvent(StudylogDeleteEvent event) {
+        popularStudylogRanking.remove(event.getStudylogId());
     }
 
-    private void deleteAllLegacyPopularStudylogs() {
-        List<PopularStudylog> popularStudylogs = popularStudylogRepository.findAllByDeletedFalse();
-
-        for (PopularStudylog popularStudylog : popularStudylogs) {
-            popularStudylog.delete();
-        }
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStudylogLikeEvent(StudylogLikeEvent event) {
+        popularStudylogRanking.addLike(event.getStudylogId(), event.isLiked() ? 1 : -1);
     }
 
-    private List<Studylog> getSortedPopularStudyLogs() {
-        return studylogRepository.findAllById(getPopularStudylogIds())
-            .stream()
-            .sorted(Comparator.comparing(Studylog::getPopularScore).reversed())
-            .collect(toList());
+    @EventListener
+    public void onStudylogViewEvent(StudylogViewEvent event) {
+        popularStudylogRanking.addView(event.getStudylogId());
     }
 
-    private List<Long> getPopularStudylogIds() {
-        return popularStudylogRepository.findAllByDeletedFalse()
+    private Map<Long, Integer> findScrapCounts(List<Long> studylogIds) {
+        if (studylogIds.isEmpty()) {
+            return new HashMap<>();
+        }
+        return studylogScrapRepository.countByStudylogIdIn(studylogIds)
             .stream()
-            .map(PopularStudylog::getStudylogId)
-            .collect(toList());
+            .collect(toMap(StudylogScrapCount::getStudylogId, it -> it.getScrapCount().intValue()));
     }
 
-    private List<Studylog> findStudylogsByDays(Pageable pageable, LocalDateTime dateTime,
-        Curriculum curriculum) {
-        int decreaseDays = 0;
-        int searchFailedCount = 0;
-
-        while (true) {
-            decreaseDays += A_WEEK;
-            List<Studylog> studylogs = studylogRepository.findByPastDays(
-                dateTime.minusDays(decreaseDays));
-
-            if (studylogs.size() >= pageable.getPageSize()) {
-                final List<Studylog> filteredStudylogs = studylogs.stream()
-                    .filter(it -> it.getSession().isSameAs(curriculum))
-                    .sorted(Comparator.comparing(Studylog::getPopularScore).reversed())
-                    .collect(toList());
-                if (filteredStudylogs.size() < pageable.getPageSize()) {
-                    return filteredStudylogs;
-                }
-                return filteredStudylogs
-                    .subList(0, pageable.getPageSize());
-            }
+    private StudylogsWithScrapCountResponse toResponse(List<Long> ids,
+                                                       Map<Long, StudylogWithScrapedCountResponse> responses) {
+        final List<StudylogWithScrapedCountResponse> studylogsResponse = ids.stream()
+            .map(responses::get)
+            .filter(Objects::nonNull)
+            .collect(toList());
 
-            if (searchFailedCount >= 2) {
-                return studylogs.stream()
-                    .filter(it -> it.getSession().isSameAs(curriculum))
-                    .sorted(Comparator.comparing(Studylog::getPopularScore).reversed())
-                    .collect(toList());
-            }
+        return new StudylogsWithScrapCountResponse(studylogsResponse, 0L, 0, 0);
+    }
 
-            searchFailedCount += 1;
-        }
+    private void updateScrapAndRead(List<StudylogResponse> studylogResponses, Long memberId) {
+        studylogService.updateScrapAndRead(studylogResponses, memberId);
     }
 }
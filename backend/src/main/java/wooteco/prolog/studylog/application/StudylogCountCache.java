@@ -0,0 +1,153 @@
+package wooteco.prolog.studylog.application;
+
+import static java.util.stream.Collectors.joining;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import wooteco.prolog.studylog.event.StudylogCreateEvent;
+import wooteco.prolog.studylog.event.StudylogDeleteEvent;
+import wooteco.prolog.studylog.event.StudylogUpdateEvent;
+import wooteco.support.cache.ClearableCache;
+
+/**
+ * 필터 조건별 스터디로그 전체 개수를 캐싱한다.
+ * 스터디로그가 작성/수정/삭제되면 세대(generation)를 올려 이전 세대의 값을 정확하지 않은 값으로 취급한다.
+ * estimated 모드에서는 max-staleness 안에 계산된 값이라면 세대가 바뀌었더라도 근사값으로 그대로 돌려준다.
+ */
+@Component
+public class StudylogCountCache implements ClearableCache {
+
+    private final Map<String, Entry> entries;
+    private final AtomicLong generation = new AtomicLong();
+    private final boolean estimated;
+    private final long maxStalenessNanos;
+    private final LongSupplier clock;
+
+    @Autowired
+    public StudylogCountCache(@Value("${studylog.count-cache.max-entries:1000}") int maxEntries,
+                              @Value("${studylog.count-cache.estimated:false}") boolean estimated,
+                              @Value("${studylog.count-cache.max-staleness-seconds:60}") long maxStalenessSeconds) {
+        this(maxEntries, estimated, maxStalenessSeconds, System::nanoTime);
+    }
+
+    StudylogCountCache(int maxEntries, boolean estimated, long maxStalenessSeconds, LongSupplier clock) {
+        this.clock = clock;
+        this.entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+        this.estimated = estimated;
+        this.maxStalenessNanos = TimeUnit.SECONDS.toNanos(maxStalenessSeconds);
+    }
+
+    public static String signatureOf(Collection<Long> sessionIds, Collection<Long> missionIds,
+                                     Collection<Long> tagIds, Collection<String> usernames,
+                                     Collection<Long> members, LocalDate startDate, LocalDate endDate) {
+        final Collection<Long> tags = tagIds == null || tagIds.contains(0L) ? null : tagIds;
+        return "sessions=" + normalize(sessionIds)
+            + "|missions=" + normalize(missionIds)
+            + "|tags=" + normalize(tags)
+            + "|usernames=" + normalize(usernames)
+            + "|members=" + normalize(members)
+            + "|start=" + Objects.toString(startDate, "")
+            + "|end=" + Objects.toString(endDate, "");
+    }
+
+    private static String normalize(Collection<?> values) {
+        if (values == null) {
+            return "";
+        }
+        return values.stream()
+            .map(String::valueOf)
+            .distinct()
+            .sorted()
+            .collect(joining(","));
+    }
+
+    public StudylogTotalCount count(String signature, LongSupplier counter) {
+        final long currentGeneration = generation.get();
+        final long now = clock.getAsLong();
+
+        final Entry cached = find(signature);
+        if (cached != null && cached.generation == currentGeneration) {
+            return new StudylogTotalCount(cached.count, true);
+        }
+        if (cached != null && estimated && now - cached.computedAt <= maxStalenessNanos) {
+            return new StudylogTotalCount(cached.count, false);
+        }
+
+        final long count = counter.getAsLong();
+        put(signature, new Entry(count, currentGeneration, now));
+        return new StudylogTotalCount(count, true);
+    }
+
+    public void invalidate() {
+        generation.incrementAndGet();
+    }
+
+    /**
+     * 같은 트랜잭션 안의 조회를 위해 즉시 세대를 올리고,
+     * 커밋 전에 다른 트랜잭션이 계산해 넣은 값을 버리기 위해 트랜잭션이 끝난 뒤 한 번 더 올린다.
+     */
+    @EventListener({StudylogCreateEvent.class, StudylogUpdateEvent.class, StudylogDeleteEvent.class})
+    public void onStudylogChanged() {
+        invalidate();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                invalidate();
+            }
+        });
+    }
+
+    @Override
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+        invalidate();
+    }
+
+    private Entry find(String signature) {
+        synchronized (entries) {
+            return entries.get(signature);
+        }
+    }
+
+    private void put(String signature, Entry entry) {
+        synchronized (entries) {
+            entries.put(signature, entry);
+        }
+    }
+
+    private static class Entry {
+
+        private final long count;
+        private final long generation;
+        private final long computedAt;
+
+        private Entry(long count, long generation, long computedAt) {
+            this.count = count;
+            this.generation = generation;
+            this.computedAt = computedAt;
+        }
+    }
+}
@@ -1,37 +1,181 @@
 package wooteco.prolog.studylog.application;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.elasticsearch.action.admin.indices.alias.IndicesAliasesRequest;
+import org.elasticsearch.action.admin.indices.alias.IndicesAliasesRequest.AliasActions;
+import org.elasticsearch.action.admin.indices.alias.get.GetAliasesRequest;
+import org.elasticsearch.action.admin.indices.settings.put.UpdateSettingsRequest;
+import org.elasticsearch.action.bulk.BulkProcessor;
+import org.elasticsearch.action.index.IndexRequest;
+import org.elasticsearch.client.GetAliasesResponse;
+import org.elasticsearch.client.RequestOptions;
+import org.elasticsearch.client.RestHighLevelClient;
+import org.elasticsearch.client.indices.GetIndexRequest;
+import org.elasticsearch.common.settings.Settings;
+import org.elasticsearch.common.xcontent.XContentType;
 import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.elasticsearch.core.ElasticsearchRestTemplate;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.ResourceUtil;
 import org.springframework.data.elasticsearch.core.SearchHitSupport;
 import org.springframework.data.elasticsearch.core.SearchHits;
 import org.springframework.data.elasticsearch.core.SearchPage;
+import org.springframework.data.elasticsearch.core.convert.ElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.document.Document;
 import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
 import org.springframework.data.elasticsearch.core.query.Query;
 import org.springframework.stereotype.Service;
+import wooteco.prolog.common.ElasticsearchBulkListener;
 import wooteco.prolog.studylog.application.dto.StudylogDocumentResponse;
 import wooteco.prolog.studylog.domain.StudylogDocument;
 import wooteco.prolog.studylog.domain.StudylogDocumentQueryBuilder;
+import wooteco.prolog.studylog.domain.repository.JdbcStudylogDocumentReader;
 import wooteco.prolog.studylog.domain.repository.StudylogDocumentRepository;
 import wooteco.prolog.studylog.domain.repository.StudylogRepository;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import static java.util.stream.Collectors.toList;
+import static wooteco.prolog.studylog.domain.DocumentQueryParser.removeSpecialChars;
 
 @Profile({"elastic", "dev", "prod"})
 @Service
 public class StudylogDocumentService extends AbstractStudylogDocumentService {
 
+    private static final DateTimeFormatter INDEX_VERSION_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+    private static final String REFRESH_INTERVAL = "refresh_interval";
+    private static final Duration BULK_FLUSH_TIMEOUT = Duration.ofMinutes(5);
+
     private final ElasticsearchRestTemplate elasticsearchRestTemplate;
+    private final RestHighLevelClient elasticsearchClient;
+    private final Timer searchTimer;
+    private final StudylogSearchResultCache searchResultCache;
+    private final BulkProcessor bulkProcessor;
+    private final ElasticsearchBulkListener bulkListener;
+    private volatile long bulkFailuresBeforeReindex;
 
     public StudylogDocumentService(
             StudylogDocumentRepository studylogDocumentRepository,
             StudylogRepository studylogRepository,
-            ElasticsearchRestTemplate elasticsearchRestTemplate) {
-        super(studylogDocumentRepository, studylogRepository);
+            JdbcStudylogDocumentReader studylogDocumentReader,
+            ElasticsearchRestTemplate elasticsearchRestTemplate,
+            RestHighLevelClient elasticsearchClient,
+            StudylogSearchResultCache searchResultCache,
+            BulkProcessor bulkProcessor,
+            ElasticsearchBulkListener bulkListener,
+            MeterRegistry meterRegistry) {
+        super(studylogDocumentRepository, studylogRepository, studylogDocumentReader);
         this.elasticsearchRestTemplate = elasticsearchRestTemplate;
+        this.elasticsearchClient = elasticsearchClient;
+        this.searchResultCache = searchResultCache;
+        this.bulkProcessor = bulkProcessor;
+        this.bulkListener = bulkListener;
+        this.searchTimer = Timer.builder("studylog.search.latency")
+            .description("Elasticsearch 스터디로그 검색 시간")
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .register(meterRegistry);
+    }
+
+    /**
+     * studylog-document 는 alias 로 두고, 재색인은 시각을 붙인 새 색인에 한다.
+     * 색인하는 동안에는 refresh 를 꺼서 bulk 처리량을 높이고, 검색은 기존 색인이 계속 처리한다.
+     */
+    @Override
+    protected String prepareReindex() {
+        final String indexName = INDEX_ALIAS + "-" + LocalDateTime.now().format(INDEX_VERSION_FORMAT);
+        final IndexOperations indexOperations = elasticsearchRestTemplate.indexOps(IndexCoordinates.of(indexName));
+        final Document settings = Document.parse(ResourceUtil.readFileFromClasspath(StudylogDocument.SETTING_PATH));
+        settings.put(REFRESH_INTERVAL, "-1");
+        indexOperations.create(settings);
+        indexOperations.putMapping(indexOperations.createMapping(StudylogDocument.class));
+        bulkFailuresBeforeReindex = bulkListener.getFailureCount();
+        return indexName;
+    }
+
+    /**
+     * 청크는 공용 BulkProcessor 에 넘기고 바로 다음 청크를 읽는다. 실제 전송은 BulkProcessor 가 크기와 주기에 맞춰 한다.
+     */
+    @Override
+    protected void indexChunk(String indexName, List<StudylogDocument> studylogDocuments) {
+        final ElasticsearchConverter converter = elasticsearchRestTemplate.getElasticsearchConverter();
+        for (StudylogDocument studylogDocument : studylogDocuments) {
+            bulkProcessor.add(new IndexRequest(indexName)
+                .id(String.valueOf(studylogDocument.getId()))
+                .source(converter.mapObject(studylogDocument).toJson(), XContentType.JSON));
+        }
+    }
+
+    @Override
+    protected void completeReindex(String indexName) {
+        try {
+            awaitBulkRequests();
+            elasticsearchClient.indices().putSettings(new UpdateSettingsRequest(indexName)
+                .settings(Settings.builder().putNull(REFRESH_INTERVAL)), RequestOptions.DEFAULT);
+            elasticsearchRestTemplate.indexOps(IndexCoordinates.of(indexName)).refresh();
+            swapAlias(indexName);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void awaitBulkRequests() {
+        bulkProcessor.flush();
+        try {
+            if (!bulkListener.awaitIdle(BULK_FLUSH_TIMEOUT)) {
+                throw new IllegalStateException("재색인 bulk 요청이 제한 시간 안에 끝나지 않았습니다.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("재색인 bulk 요청을 기다리는 중 중단되었습니다.", e);
+        }
+        if (bulkListener.getFailureCount() != bulkFailuresBeforeReindex) {
+            throw new IllegalStateException("재색인 bulk 요청 중 실패한 문서가 있습니다.");
+        }
+    }
+
+    @Override
+    protected void abortReindex(String indexName) {
+        elasticsearchRestTemplate.indexOps(IndexCoordinates.of(indexName)).delete();
+    }
+
+    @Override
+    protected void onIndexChanged() {
+        searchResultCache.invalidate();
+    }
+
+    /**
+     * alias 추가와 기존 색인 삭제를 한 번의 요청으로 보내 검색이 비는 순간 없이 교체한다.
+     * alias 도입 전처럼 같은 이름의 실제 색인이 있으면 그 색인을 지운다.
+     */
+    private void swapAlias(String indexName) throws IOException {
+        final IndicesAliasesRequest request = new IndicesAliasesRequest();
+        request.addAliasAction(AliasActions.add().index(indexName).alias(INDEX_ALIAS));
+        for (String oldIndex : findIndicesBehindAlias()) {
+            request.addAliasAction(AliasActions.removeIndex().index(oldIndex));
+        }
+        elasticsearchClient.indices().updateAliases(request, RequestOptions.DEFAULT);
+    }
+
+    private Set<String> findIndicesBehindAlias() throws IOException {
+        final GetAliasesResponse aliases = elasticsearchClient.indices()
+            .getAlias(new GetAliasesRequest(INDEX_ALIAS), RequestOptions.DEFAULT);
+        if (!aliases.getAliases().isEmpty()) {
+            return aliases.getAliases().keySet();
+        }
+        if (elasticsearchClient.indices().exists(new GetIndexRequest(INDEX_ALIAS), RequestOptions.DEFAULT)) {
+            return Collections.singleton(INDEX_ALIAS);
+        }
+        return Collections.emptySet();
     }
 
     @Override
@@ -45,13 +189,29 @@ public class StudylogDocumentService extends AbstractStudylogDocumentService {
             LocalDate end,
             Pageable pageable
     ) {
+        final List<String> keywords = removeSpecialChars(preprocess(keyword));
+        final StudylogSearchResultCache.Key key = StudylogSearchResultCache.key(keywords, tags, missions, levels,
+                usernames, start, end, pageable);
+        return searchResultCache.getOrSearch(key,
+                () -> search(keywords, tags, missions, levels, usernames, start, end, pageable));
+    }
 
-        final Query query = StudylogDocumentQueryBuilder.makeQuery(preprocess(keyword), tags, missions, levels,
+    private StudylogDocumentResponse search(
+            List<String> keywords,
+            List<Long> tags,
+            List<Long> missions,
+            List<Long> levels,
+            List<String> usernames,
+            LocalDate start,
+            LocalDate end,
+            Pageable pageable
+    ) {
+        final Query query = StudylogDocumentQueryBuilder.makeQuery(keywords, tags, missions, levels,
                 usernames, start, end, pageable);
 
         // Query 결과를 ES에서 조회한다.
-        final SearchHits<StudylogDocument> searchHits
-                = elasticsearchRestTemplate.search(query, StudylogDocument.class, IndexCoordinates.of("studylog-document"));
+        final SearchHits<StudylogDocument> searchHits = searchTimer.record(
+                () -> elasticsearchRestTemplate.search(query, StudylogDocument.class, IndexCoordinates.of(INDEX_ALIAS)));
 
         // 조회된 SearchHits를 페이징할 수 있는 SearchPage로 변경한다.
         final SearchPage<StudylogDocument> searchPages
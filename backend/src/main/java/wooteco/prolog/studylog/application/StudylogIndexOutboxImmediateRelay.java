@@ -0,0 +1,30 @@
+package wooteco.prolog.studylog.application;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import wooteco.prolog.studylog.event.StudylogCreateEvent;
+import wooteco.prolog.studylog.event.StudylogDeleteEvent;
+import wooteco.prolog.studylog.event.StudylogUpdateEvent;
+
+/**
+ * local/test 환경에서는 relay 주기를 기다리지 않고, 스터디로그를 바꾼 트랜잭션이 커밋되면 바로 색인 outbox 를 비운다.
+ * 작성 직후 검색하는 요청(인수 테스트 등)이 스케줄러 실행 시점에 따라 빈 결과를 받지 않게 한다.
+ * 커밋이 끝난 트랜잭션의 커넥션에 쓰지 않도록 outbox 삭제는 새 트랜잭션에서 한다.
+ */
+@Profile({"local", "test"})
+@Component
+@RequiredArgsConstructor
+public class StudylogIndexOutboxImmediateRelay {
+
+    private final StudylogIndexOutboxRelay studylogIndexOutboxRelay;
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @TransactionalEventListener({StudylogCreateEvent.class, StudylogUpdateEvent.class, StudylogDeleteEvent.class})
+    public void onStudylogChanged() {
+        studylogIndexOutboxRelay.relay();
+    }
+}
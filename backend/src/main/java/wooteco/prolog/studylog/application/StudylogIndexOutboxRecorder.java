@@ -0,0 +1,72 @@
+package wooteco.prolog.studylog.application;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import wooteco.prolog.studylog.domain.repository.JdbcStudylogIndexOutboxRepository;
+import wooteco.prolog.studylog.event.StudylogCreateEvent;
+import wooteco.prolog.studylog.event.StudylogDeleteEvent;
+import wooteco.prolog.studylog.event.StudylogUpdateEvent;
+
+/**
+ * 스터디로그 작성/수정/삭제 이벤트를 받아 색인 outbox 에 기록한다.
+ * 트랜잭션 안에서는 바뀐 id 를 모아두었다가 커밋 직전에 한 번의 batch insert 로 같은 트랜잭션에 넣으므로,
+ * 롤백되면 outbox 에도 남지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class StudylogIndexOutboxRecorder {
+
+    private final JdbcStudylogIndexOutboxRepository studylogIndexOutboxRepository;
+
+    @EventListener
+    public void onStudylogCreateEvent(StudylogCreateEvent event) {
+        record(event.getStudylogId());
+    }
+
+    @EventListener
+    public void onStudylogUpdateEvent(StudylogUpdateEvent event) {
+        record(event.getStudylogId());
+    }
+
+    @EventListener
+    public void onStudylogDeleteEvent(StudylogDeleteEvent event) {
+        record(event.getStudylogId());
+    }
+
+    private void record(Long studylogId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            studylogIndexOutboxRepository.append(Collections.singleton(studylogId), LocalDateTime.now());
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        Set<Long> pending = (Set<Long>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new LinkedHashSet<>();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            registerFlush(pending);
+        }
+        pending.add(studylogId);
+    }
+
+    private void registerFlush(Set<Long> pending) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                studylogIndexOutboxRepository.append(pending, LocalDateTime.now());
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(StudylogIndexOutboxRecorder.this);
+            }
+        });
+    }
+}
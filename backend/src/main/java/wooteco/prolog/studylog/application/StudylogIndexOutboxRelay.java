@@ -0,0 +1,128 @@
+package wooteco.prolog.studylog.application;
+
+import static java.util.stream.Collectors.toList;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import wooteco.prolog.studylog.domain.StudylogDocument;
+import wooteco.prolog.studylog.domain.StudylogIndexOutbox;
+import wooteco.prolog.studylog.domain.repository.JdbcStudylogDocumentReader;
+import wooteco.prolog.studylog.domain.repository.JdbcStudylogIndexOutboxRepository;
+
+/**
+ * 색인 outbox 를 주기적으로 비우면서 검색 색인에 반영한다.
+ * 한 번에 읽은 항목은 스터디로그 id 로 합쳐 현재 상태를 bulk 로 색인하고, 삭제되었거나 없는 스터디로그는 색인에서 지운다.
+ * 실패한 항목은 시도 횟수에 따라 대기 시간을 늘려 다시 시도한다.
+ * 항목은 {@link JdbcStudylogIndexOutboxRepository#claim} 으로 가져가므로 여러 서버가 같은 항목을 함께 반영하지 않는다.
+ */
+@Slf4j
+@Component
+public class StudylogIndexOutboxRelay {
+
+    private static final int BATCH_SIZE = 500;
+    private static final long MAX_BACKOFF_SECONDS = 300L;
+    private static final long LEASE_SECONDS = 60L;
+
+    private final JdbcStudylogIndexOutboxRepository studylogIndexOutboxRepository;
+    private final JdbcStudylogDocumentReader studylogDocumentReader;
+    private final DocumentService documentService;
+    private final AtomicLong lagSeconds = new AtomicLong();
+    private final AtomicLong pending = new AtomicLong();
+    private final Counter failures;
+    private final Supplier<LocalDateTime> clock;
+
+    @Autowired
+    public StudylogIndexOutboxRelay(JdbcStudylogIndexOutboxRepository studylogIndexOutboxRepository,
+                                    JdbcStudylogDocumentReader studylogDocumentReader,
+                                    DocumentService documentService,
+                                    MeterRegistry meterRegistry) {
+        this(studylogIndexOutboxRepository, studylogDocumentReader, documentService, meterRegistry,
+            LocalDateTime::now);
+    }
+
+    StudylogIndexOutboxRelay(JdbcStudylogIndexOutboxRepository studylogIndexOutboxRepository,
+                             JdbcStudylogDocumentReader studylogDocumentReader,
+                             DocumentService documentService,
+                             MeterRegistry meterRegistry,
+                             Supplier<LocalDateTime> clock) {
+        this.studylogIndexOutboxRepository = studylogIndexOutboxRepository;
+        this.studylogDocumentReader = studylogDocumentReader;
+        this.documentService = documentService;
+        this.clock = clock;
+        Gauge.builder("studylog.index.outbox.lag", lagSeconds, AtomicLong::get)
+            .description("가장 오래된 미반영 색인 outbox 항목의 대기 시간")
+            .baseUnit("seconds")
+            .register(meterRegistry);
+        Gauge.builder("studylog.index.outbox.pending", pending, AtomicLong::get)
+            .description("아직 색인에 반영되지 않은 outbox 항목 수")
+            .register(meterRegistry);
+        this.failures = Counter.builder("studylog.index.outbox.failures")
+            .description("색인 반영에 실패한 batch 수")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${studylog.index-outbox.relay-interval:1000}")
+    public synchronized void relay() {
+        while (true) {
+            final LocalDateTime now = clock.get();
+            final List<StudylogIndexOutbox> batch = studylogIndexOutboxRepository.claim(
+                now, now.plusSeconds(LEASE_SECONDS), BATCH_SIZE);
+            if (batch.isEmpty() || !publish(batch, now) || batch.size() < BATCH_SIZE) {
+                break;
+            }
+        }
+        updateLag();
+    }
+
+    private boolean publish(List<StudylogIndexOutbox> batch, LocalDateTime now) {
+        final Set<Long> studylogIds = new LinkedHashSet<>();
+        for (StudylogIndexOutbox outbox : batch) {
+            studylogIds.add(outbox.getStudylogId());
+        }
+
+        try {
+            final List<StudylogDocument> documents = studylogDocumentReader.findAllByIds(
+                new ArrayList<>(studylogIds));
+            documentService.saveAll(documents);
+
+            final Set<Long> removedIds = new LinkedHashSet<>(studylogIds);
+            documents.forEach(document -> removedIds.remove(document.getId()));
+            documentService.deleteAllByIds(new ArrayList<>(removedIds));
+
+            studylogIndexOutboxRepository.deleteAllByIds(
+                batch.stream().map(StudylogIndexOutbox::getId).collect(toList()));
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("검색 색인 반영에 실패하여 {}건을 나중에 다시 시도합니다.", batch.size(), e);
+            failures.increment();
+            studylogIndexOutboxRepository.postpone(
+                batch.stream().map(StudylogIndexOutbox::getId).collect(toList()),
+                batch.stream().map(outbox -> now.plusSeconds(backoffSeconds(outbox.getAttempts()))).collect(toList()));
+            return false;
+        }
+    }
+
+    private long backoffSeconds(int attempts) {
+        return Math.min(MAX_BACKOFF_SECONDS, 1L << Math.min(attempts, 16));
+    }
+
+    private void updateLag() {
+        pending.set(studylogIndexOutboxRepository.count());
+        lagSeconds.set(studylogIndexOutboxRepository.findOldestCreatedAt()
+            .map(oldest -> Math.max(0L, Duration.between(oldest, clock.get()).getSeconds()))
+            .orElse(0L));
+    }
+}
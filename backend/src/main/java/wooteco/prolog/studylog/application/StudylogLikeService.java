@@ -1,14 +1,21 @@
 package wooteco.prolog.studylog.application;
 
 import lombok.AllArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import wooteco.prolog.member.application.MemberService;
 import wooteco.prolog.member.domain.Member;
 import wooteco.prolog.studylog.application.dto.StudylogLikeResponse;
+import wooteco.prolog.studylog.domain.Like;
 import wooteco.prolog.studylog.domain.Studylog;
+import wooteco.prolog.studylog.domain.repository.LikeRepository;
 import wooteco.prolog.studylog.domain.repository.StudylogRepository;
+import wooteco.prolog.studylog.event.MemberReactionEvent;
+import wooteco.prolog.studylog.event.StudylogLikeEvent;
 import wooteco.prolog.studylog.exception.InvalidLikeRequestException;
+import wooteco.prolog.studylog.exception.InvalidUnlikeRequestException;
 import wooteco.prolog.studylog.exception.StudylogNotFoundException;
 
 @Service
@@ -17,7 +24,9 @@ import wooteco.prolog.studylog.exception.StudylogNotFoundException;
 public class StudylogLikeService {
 
     private final StudylogRepository studylogRepository;
+    private final LikeRepository likeRepository;
     private final MemberService memberService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public StudylogLikeResponse likeStudylog(Long memberId, Long studylogId, boolean isMember) {
@@ -27,7 +36,18 @@ public class StudylogLikeService {
             .orElseThrow(StudylogNotFoundException::new);
         Member member = memberService.findById(memberId);
 
-        studylog.like(member.getId());
+        if (likeRepository.existsByStudylogIdAndMemberId(studylogId, member.getId())) {
+            throw new InvalidLikeRequestException();
+        }
+        try {
+            likeRepository.saveAndFlush(new Like(studylog, member.getId()));
+        } catch (DataIntegrityViolationException e) {
+            throw new InvalidLikeRequestException();
+        }
+        studylogRepository.increaseLikeCount(studylogId);
+        studylog.increaseLikeCount();
+        eventPublisher.publishEvent(MemberReactionEvent.like(member.getId(), studylogId));
+        eventPublisher.publishEvent(new StudylogLikeEvent(studylogId, true));
 
         return new StudylogLikeResponse(true, studylog.getLikeCount());
     }
@@ -40,7 +60,13 @@ public class StudylogLikeService {
             .orElseThrow(StudylogNotFoundException::new);
         Member member = memberService.findById(memberId);
 
-        studylog.unlike(member.getId());
+        if (likeRepository.deleteByStudylogIdAndMemberId(studylogId, member.getId()) == 0) {
+            throw new InvalidUnlikeRequestException();
+        }
+        studylogRepository.decreaseLikeCount(studylogId);
+        studylog.decreaseLikeCount();
+        eventPublisher.publishEvent(MemberReactionEvent.unlike(member.getId(), studylogId));
+        eventPublisher.publishEvent(new StudylogLikeEvent(studylogId, false));
 
         return new StudylogLikeResponse(false, studylog.getLikeCount());
     }
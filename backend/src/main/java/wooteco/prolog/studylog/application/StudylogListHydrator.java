@@ -0,0 +1,103 @@
+package wooteco.prolog.studylog.application;
+
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import wooteco.prolog.member.application.dto.MemberResponse;
+import wooteco.prolog.studylog.application.StudylogResponseCache.Skeleton;
+import wooteco.prolog.studylog.application.dto.StudylogResponse;
+import wooteco.prolog.studylog.domain.MemberReactions;
+import wooteco.prolog.studylog.domain.Studylog;
+import wooteco.prolog.studylog.domain.repository.StudylogListVersion;
+import wooteco.prolog.studylog.domain.repository.StudylogRepository;
+
+/**
+ * 목록 조회 시 스터디로그마다 member, session, mission, tag, like 를 지연 로딩하지 않도록
+ * 페이지의 id 목록으로 연관 데이터를 IN 쿼리 몇 번에 나누어 한꺼번에 채운다.
+ * 먼저 가벼운 쿼리로 버전(updatedAt)과 조회수/좋아요 수/작성자를 읽고, {@link StudylogResponseCache} 에 없는
+ * 스터디로그만 연관 엔티티까지 조회한다. 페이지 크기와 상관없이 고정된 수의 쿼리만 발생한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class StudylogListHydrator {
+
+    private final StudylogRepository studylogRepository;
+    private final MemberReactionCache memberReactionCache;
+    private final ViewCountAccumulator viewCountAccumulator;
+    private final StudylogResponseCache studylogResponseCache;
+
+    public List<StudylogResponse> hydrate(List<Studylog> studylogs, Long memberId) {
+        if (studylogs.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        return hydrateByIds(studylogs.stream()
+            .map(Studylog::getId)
+            .collect(toList()), memberId);
+    }
+
+    /**
+     * id 순서대로 응답을 만든다. 그 사이 삭제되어 조회되지 않는 스터디로그는 건너뛴다.
+     */
+    public List<StudylogResponse> hydrateByIds(List<Long> ids, Long memberId) {
+        return hydrateByIds(ids, memberId, true);
+    }
+
+    /**
+     * 검색 색인처럼 반영이 늦을 수 있는 곳에서 받은 id 목록을 삭제된 스터디로그를 빼고 응답으로 만든다.
+     */
+    public List<StudylogResponse> hydrateNotDeletedByIds(List<Long> ids, Long memberId) {
+        return hydrateByIds(ids, memberId, false);
+    }
+
+    private List<StudylogResponse> hydrateByIds(List<Long> ids, Long memberId, boolean includeDeleted) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        final Map<Long, StudylogListVersion> versions = studylogRepository.findListVersionsByIdIn(ids)
+            .stream()
+            .filter(version -> includeDeleted || !Boolean.TRUE.equals(version.getDeleted()))
+            .collect(toMap(StudylogListVersion::getId, Function.identity()));
+        final Map<Long, Skeleton> skeletons = findSkeletons(versions);
+        final MemberReactions reactions = memberReactionCache.get(memberId);
+
+        return ids.stream()
+            .filter(skeletons::containsKey)
+            .map(id -> toResponse(skeletons.get(id), versions.get(id), reactions.isLiked(id)))
+            .collect(toList());
+    }
+
+    private Map<Long, Skeleton> findSkeletons(Map<Long, StudylogListVersion> versions) {
+        final Map<Long, Skeleton> skeletons = new HashMap<>();
+        final List<Long> missingIds = new ArrayList<>();
+        versions.values().forEach(version -> {
+            final Skeleton skeleton = studylogResponseCache.get(version.getId(), version.getUpdatedAt());
+            if (skeleton == null) {
+                missingIds.add(version.getId());
+                return;
+            }
+            skeletons.put(version.getId(), skeleton);
+        });
+
+        if (!missingIds.isEmpty()) {
+            studylogRepository.findWithAssociationsByIdIn(missingIds)
+                .forEach(studylog -> skeletons.put(studylog.getId(), studylogResponseCache.put(studylog)));
+        }
+        return skeletons;
+    }
+
+    private StudylogResponse toResponse(Skeleton skeleton, StudylogListVersion version, boolean liked) {
+        final MemberResponse author = new MemberResponse(version.getMemberId(), version.getUsername(),
+            version.getNickname(), version.getRole(), version.getImageUrl());
+        return skeleton.toResponse(author, version.getViews() + viewCountAccumulator.pendingOf(version.getId()),
+            liked, version.getLikeCount());
+    }
+}
@@ -0,0 +1,67 @@
+package wooteco.prolog.studylog.application;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import wooteco.prolog.studylog.application.dto.StudylogReindexResponse;
+
+/**
+ * 재색인을 요청 스레드가 아닌 전용 스레드 하나에서 돌린다.
+ * 동시에 하나의 재색인만 실행되며, 이미 실행 중이면 새로 시작하지 않고 진행 상황을 돌려준다.
+ */
+@Slf4j
+@Component
+public class StudylogReindexJob {
+
+    private final DocumentService documentService;
+    private final ExecutorService executor;
+    private final AtomicReference<StudylogReindexProgress> current =
+        new AtomicReference<>(StudylogReindexProgress.idle());
+
+    public StudylogReindexJob(DocumentService documentService) {
+        this.documentService = documentService;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "studylog-reindex");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public StudylogReindexResponse start() {
+        final StudylogReindexProgress previous = current.get();
+        if (previous.isRunning()) {
+            return StudylogReindexResponse.of(previous);
+        }
+
+        final StudylogReindexProgress progress = StudylogReindexProgress.running();
+        if (!current.compareAndSet(previous, progress)) {
+            return StudylogReindexResponse.of(current.get());
+        }
+        executor.execute(() -> run(progress));
+        return StudylogReindexResponse.of(progress);
+    }
+
+    public StudylogReindexResponse status() {
+        return StudylogReindexResponse.of(current.get());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void run(StudylogReindexProgress progress) {
+        try {
+            documentService.reindex(progress);
+            progress.complete();
+            log.info("스터디로그 재색인 완료. index: {}, documents: {}, {} docs/s", progress.getIndexName(),
+                progress.getProcessed(), String.format("%.1f", progress.getDocumentsPerSecond()));
+        } catch (RuntimeException e) {
+            log.warn("스터디로그 재색인에 실패했습니다.", e);
+            progress.fail(e);
+        }
+    }
+}
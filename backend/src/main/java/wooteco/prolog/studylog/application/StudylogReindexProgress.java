@@ -0,0 +1,101 @@
+package wooteco.prolog.studylog.application;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 재색인 한 번의 진행 상황. 작업 스레드가 갱신하고 요청 스레드가 읽는다.
+ */
+public class StudylogReindexProgress {
+
+    private final AtomicLong processed = new AtomicLong();
+    private volatile Status status;
+    private volatile long total;
+    private volatile String indexName;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    private volatile String errorMessage;
+
+    private StudylogReindexProgress(Status status) {
+        this.status = status;
+    }
+
+    public static StudylogReindexProgress idle() {
+        return new StudylogReindexProgress(Status.IDLE);
+    }
+
+    public static StudylogReindexProgress running() {
+        final StudylogReindexProgress progress = new StudylogReindexProgress(Status.RUNNING);
+        progress.startedAt = LocalDateTime.now();
+        return progress;
+    }
+
+    public void start(long total, String indexName) {
+        this.total = total;
+        this.indexName = indexName;
+    }
+
+    public void addProcessed(int count) {
+        processed.addAndGet(count);
+    }
+
+    public void complete() {
+        this.finishedAt = LocalDateTime.now();
+        this.status = Status.COMPLETED;
+    }
+
+    public void fail(Exception e) {
+        this.finishedAt = LocalDateTime.now();
+        this.errorMessage = e.getMessage();
+        this.status = Status.FAILED;
+    }
+
+    public boolean isRunning() {
+        return status == Status.RUNNING;
+    }
+
+    /**
+     * 시작 이후 초당 색인한 문서 수. 끝난 작업은 종료 시각까지로 계산한다.
+     */
+    public double getDocumentsPerSecond() {
+        if (startedAt == null) {
+            return 0;
+        }
+        final LocalDateTime end = finishedAt == null ? LocalDateTime.now() : finishedAt;
+        final long millis = Math.max(1L, Duration.between(startedAt, end).toMillis());
+        return processed.get() * 1000.0 / millis;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public long getProcessed() {
+        return processed.get();
+    }
+
+    public String getIndexName() {
+        return indexName;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public enum Status {
+        IDLE, RUNNING, COMPLETED, FAILED
+    }
+}
@@ -0,0 +1,165 @@
+package wooteco.prolog.studylog.application;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import wooteco.prolog.member.application.dto.MemberResponse;
+import wooteco.prolog.session.application.dto.MissionResponse;
+import wooteco.prolog.session.application.dto.SessionResponse;
+import wooteco.prolog.studylog.application.dto.StudylogResponse;
+import wooteco.prolog.studylog.application.dto.TagResponse;
+import wooteco.prolog.studylog.domain.Studylog;
+import wooteco.prolog.studylog.event.StudylogDeleteEvent;
+import wooteco.prolog.studylog.event.StudylogUpdateEvent;
+import wooteco.support.cache.ClearableCache;
+
+/**
+ * 목록 응답에서 수정 시각이 바뀌어야만 달라지는 부분(제목, 본문, 태그, 세션, 미션)을 스터디로그 id 별로 보관한다.
+ * 항목은 캐시할 때의 updatedAt 을 버전으로 들고 있어서, 조회한 버전과 다르면 없는 것으로 본다.
+ * 제목과 본문 크기를 무게로 삼아 전체 무게가 상한을 넘으면 가장 오래 쓰지 않은 항목부터 버린다.
+ */
+@Component
+public class StudylogResponseCache implements ClearableCache {
+
+    private static final int ENTRY_OVERHEAD_BYTES = 256;
+    private static final int TAG_BYTES = 64;
+
+    private final long maxWeight;
+    private final Map<Long, Skeleton> skeletons = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalWeight;
+
+    public StudylogResponseCache(
+        @Value("${studylog.response-cache.max-weight-bytes:67108864}") long maxWeight) {
+        this.maxWeight = maxWeight;
+    }
+
+    public Skeleton get(Long studylogId, LocalDateTime updatedAt) {
+        synchronized (skeletons) {
+            final Skeleton skeleton = skeletons.get(studylogId);
+            if (skeleton == null || !Objects.equals(skeleton.updatedAt, updatedAt)) {
+                return null;
+            }
+            return skeleton;
+        }
+    }
+
+    public Skeleton put(Studylog studylog) {
+        final Skeleton skeleton = Skeleton.of(studylog);
+        if (skeleton.weight > maxWeight) {
+            return skeleton;
+        }
+
+        synchronized (skeletons) {
+            final Skeleton previous = skeletons.put(studylog.getId(), skeleton);
+            if (previous != null) {
+                totalWeight -= previous.weight;
+            }
+            totalWeight += skeleton.weight;
+            evictOverflow();
+        }
+        return skeleton;
+    }
+
+    public void evict(Long studylogId) {
+        synchronized (skeletons) {
+            final Skeleton removed = skeletons.remove(studylogId);
+            if (removed != null) {
+                totalWeight -= removed.weight;
+            }
+        }
+    }
+
+    @EventListener
+    public void onStudylogUpdateEvent(StudylogUpdateEvent event) {
+        evict(event.getStudylogId());
+    }
+
+    @EventListener
+    public void onStudylogDeleteEvent(StudylogDeleteEvent event) {
+        evict(event.getStudylogId());
+    }
+
+    /**
+     * 커밋 전에 다른 요청이 이전 상태를 다시 캐시했을 수 있으므로 커밋된 뒤 한 번 더 지운다.
+     * 태그만 바꾼 수정은 updatedAt 이 그대로라 버전 비교로는 걸러지지 않는다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void afterStudylogUpdateCommit(StudylogUpdateEvent event) {
+        evict(event.getStudylogId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void afterStudylogDeleteCommit(StudylogDeleteEvent event) {
+        evict(event.getStudylogId());
+    }
+
+    @Override
+    public void clear() {
+        synchronized (skeletons) {
+            skeletons.clear();
+            totalWeight = 0;
+        }
+    }
+
+    private void evictOverflow() {
+        final Iterator<Skeleton> iterator = skeletons.values().iterator();
+        while (totalWeight > maxWeight && iterator.hasNext()) {
+            totalWeight -= iterator.next().weight;
+            iterator.remove();
+        }
+    }
+
+    /**
+     * 멤버별 상태나 조회수처럼 자주 바뀌는 값을 빼고 렌더링한 응답 골격. 응답마다 새 객체를 만들어 돌려준다.
+     */
+    public static class Skeleton {
+
+        private final Long id;
+        private final LocalDateTime createdAt;
+        private final LocalDateTime updatedAt;
+        private final SessionResponse session;
+        private final MissionResponse mission;
+        private final String title;
+        private final String content;
+        private final List<TagResponse> tags;
+        private final long weight;
+
+        private Skeleton(Long id, LocalDateTime createdAt, LocalDateTime updatedAt, SessionResponse session,
+                         MissionResponse mission, String title, String content, List<TagResponse> tags) {
+            this.id = id;
+            this.createdAt = createdAt;
+            this.updatedAt = updatedAt;
+            this.session = session;
+            this.mission = mission;
+            this.title = title;
+            this.content = content;
+            this.tags = tags;
+            this.weight = ENTRY_OVERHEAD_BYTES + 2L * (length(title) + length(content))
+                + (long) TAG_BYTES * tags.size();
+        }
+
+        private static Skeleton of(Studylog studylog) {
+            final StudylogResponse response = StudylogResponse.of(studylog, false, false, false);
+            return new Skeleton(response.getId(), response.getCreatedAt(), response.getUpdatedAt(),
+                response.getSession(), response.getMission(), response.getTitle(), response.getContent(),
+                Collections.unmodifiableList(response.getTags()));
+        }
+
+        private static int length(String value) {
+            return value == null ? 0 : value.length();
+        }
+
+        public StudylogResponse toResponse(MemberResponse author, int viewCount, boolean liked, int likesCount) {
+            return new StudylogResponse(id, author, createdAt, updatedAt, session, mission, title, content, tags,
+                false, false, viewCount, liked, likesCount);
+        }
+    }
+}
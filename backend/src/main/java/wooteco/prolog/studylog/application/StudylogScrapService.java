@@ -1,7 +1,12 @@
 package wooteco.prolog.studylog.application;
 
+import static java.util.stream.Collectors.toList;
+
+import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -14,8 +19,10 @@ import wooteco.prolog.studylog.domain.StudylogScrap;
 import wooteco.prolog.studylog.domain.repository.StudylogScrapRepository;
 import wooteco.prolog.studylog.exception.StudylogScrapAlreadyRegisteredException;
 import wooteco.prolog.studylog.application.dto.StudylogsResponse;
+import wooteco.prolog.studylog.application.dto.search.StudylogCursor;
 import wooteco.prolog.studylog.domain.Studylog;
 import wooteco.prolog.studylog.domain.repository.StudylogRepository;
+import wooteco.prolog.studylog.event.MemberReactionEvent;
 import wooteco.prolog.studylog.exception.StudylogNotFoundException;
 
 @RequiredArgsConstructor
@@ -26,6 +33,8 @@ public class StudylogScrapService {
     private final StudylogScrapRepository studylogScrapRepository;
     private final MemberRepository memberRepository;
     private final StudylogRepository studylogRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final StudylogListHydrator studylogListHydrator;
 
     @Transactional
     public MemberScrapResponse registerScrap(Long memberId, Long studylogId) {
@@ -42,6 +51,7 @@ public class StudylogScrapService {
 
         StudylogScrap studylogScrap = new StudylogScrap(member, studylog);
         studylogScrapRepository.save(studylogScrap);
+        eventPublisher.publishEvent(MemberReactionEvent.scrap(memberId, studylogId));
 
         return MemberScrapResponse.of(studylogScrap);
     }
@@ -53,12 +63,32 @@ public class StudylogScrapService {
                 StudylogScrapNotExistException::new);
 
         studylogScrapRepository.delete(scrap);
+        eventPublisher.publishEvent(MemberReactionEvent.unscrap(memberId, studylogId));
     }
 
     public StudylogsResponse showScrap(Long memberId, Pageable pageable) {
-        Page<StudylogScrap> membersScrap = studylogScrapRepository
-            .findByMemberId(memberId, pageable);
-        return StudylogsResponse.of(membersScrap.map(StudylogScrap::getStudylog));
+        Page<Studylog> studylogs = studylogScrapRepository
+            .findByMemberId(memberId, pageable)
+            .map(StudylogScrap::getStudylog);
+        return StudylogsResponse.of(studylogListHydrator.hydrate(studylogs.getContent(), memberId), studylogs);
+    }
+
+    /**
+     * 스크랩 id 를 커서로 쓰는 keyset 페이지. count 쿼리 없이 size + 1 개만 읽는다.
+     */
+    public StudylogsResponse showScrap(Long memberId, StudylogCursor cursor, int size) {
+        Long lastId = cursor.getLastId() == null ? Long.MAX_VALUE : cursor.getLastId();
+        List<StudylogScrap> scraps = studylogScrapRepository
+            .findByMemberIdBefore(memberId, lastId, PageRequest.of(0, size + 1));
+
+        boolean hasNext = scraps.size() > size;
+        List<StudylogScrap> page = hasNext ? scraps.subList(0, size) : scraps;
+        List<Long> studylogIds = page.stream()
+            .map(scrap -> scrap.getStudylog().getId())
+            .collect(toList());
+        String nextCursor = hasNext ? StudylogCursor.encode(page.get(size - 1).getId()) : null;
+
+        return StudylogsResponse.ofCursor(studylogListHydrator.hydrateByIds(studylogIds, memberId), nextCursor);
     }
 
 }
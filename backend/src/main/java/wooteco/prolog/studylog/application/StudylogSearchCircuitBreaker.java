@@ -0,0 +1,64 @@
+package wooteco.prolog.studylog.application;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import wooteco.support.circuitbreaker.CircuitBreaker;
+import wooteco.support.circuitbreaker.CircuitBreaker.Outcome;
+
+/**
+ * 검색 엔진 호출을 감싸는 회로 차단기. 검색 엔진이 느리거나 죽으면 요청 스레드가 묶이지 않도록 대체 경로로 돌린다.
+ * 상태(0 닫힘, 1 열림, 2 반열림)와 결과별 호출 수를 내보낸다.
+ */
+@Slf4j
+@Component
+public class StudylogSearchCircuitBreaker {
+
+    private final CircuitBreaker circuitBreaker;
+    private final Map<Outcome, Counter> outcomes = new EnumMap<>(Outcome.class);
+
+    public StudylogSearchCircuitBreaker(
+        @Value("${studylog.search-breaker.window-size:50}") int windowSize,
+        @Value("${studylog.search-breaker.minimum-calls:10}") int minimumCalls,
+        @Value("${studylog.search-breaker.failure-rate-threshold:50}") double failureRateThreshold,
+        @Value("${studylog.search-breaker.slow-call-rate-threshold:50}") double slowCallRateThreshold,
+        @Value("${studylog.search-breaker.slow-call-millis:1000}") long slowCallMillis,
+        @Value("${studylog.search-breaker.open-seconds:30}") long openSeconds,
+        @Value("${studylog.search-breaker.half-open-probes:3}") int halfOpenProbes,
+        MeterRegistry meterRegistry) {
+        this.circuitBreaker = new CircuitBreaker(windowSize, minimumCalls, failureRateThreshold,
+            slowCallRateThreshold, Duration.ofMillis(slowCallMillis), Duration.ofSeconds(openSeconds),
+            halfOpenProbes, this::record);
+        for (Outcome outcome : Outcome.values()) {
+            outcomes.put(outcome, Counter.builder("studylog.search.breaker.calls")
+                .description("검색 회로 차단기를 거친 호출 수")
+                .tag("outcome", outcome.name().toLowerCase())
+                .register(meterRegistry));
+        }
+        Gauge.builder("studylog.search.breaker.state", circuitBreaker, it -> it.getState().ordinal())
+            .description("검색 회로 차단기 상태")
+            .register(meterRegistry);
+    }
+
+    public <T> T execute(Supplier<T> search, Supplier<T> fallback) {
+        return circuitBreaker.execute(search, fallback);
+    }
+
+    public CircuitBreaker.State getState() {
+        return circuitBreaker.getState();
+    }
+
+    private void record(Outcome outcome, Throwable failure) {
+        outcomes.get(outcome).increment();
+        if (failure != null) {
+            log.warn("검색 엔진 호출이 실패해 대체 검색으로 응답합니다.", failure);
+        }
+    }
+}
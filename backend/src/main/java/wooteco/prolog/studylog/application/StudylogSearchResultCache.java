@@ -0,0 +1,232 @@
+package wooteco.prolog.studylog.application;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import wooteco.prolog.studylog.application.dto.StudylogDocumentResponse;
+import wooteco.support.cache.ClearableCache;
+
+/**
+ * 같은 검색어, 조건, 페이지의 검색 결과(스터디로그 id 목록과 페이지 정보)를 잠시 보관한다.
+ * 색인이 바뀔 때마다 세대 번호를 올려서 이전 세대에 저장된 결과는 모두 없는 것으로 본다.
+ * 색인 변경이 검색에 보이기까지 refresh 간격만큼 걸리므로, 세대를 올린 직후 잠시 동안은 결과를 저장하지 않는다.
+ * 항목 수 상한을 넘으면 가장 오래 쓰지 않은 항목부터 버리고, TTL 이 지난 항목은 조회할 때 버린다.
+ * 세대 번호는 서버(JVM)마다 따로 있어서, 다른 서버에서 일어난 색인 변경으로는 올라가지 않는다.
+ * 따라서 여러 대를 띄우면 다른 서버에서 글을 쓰거나 지운 결과는 최대 TTL({@code studylog.search-cache.ttl-seconds},
+ * 기본 60초) 동안 이 서버의 검색에 보이지 않을 수 있다. 더 짧은 지연이 필요하면 TTL 을 줄인다.
+ */
+@Component
+public class StudylogSearchResultCache implements ClearableCache {
+
+    private final int maxSize;
+    private final long ttlNanos;
+    private final long refreshGraceNanos;
+    private final Map<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final AtomicLong generation = new AtomicLong();
+    private final LongSupplier clock;
+    private volatile long invalidatedAt;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter savedSeconds;
+
+    @Autowired
+    public StudylogSearchResultCache(
+        @Value("${studylog.search-cache.max-size:1000}") int maxSize,
+        @Value("${studylog.search-cache.ttl-seconds:60}") long ttlSeconds,
+        @Value("${studylog.search-cache.refresh-grace-millis:1000}") long refreshGraceMillis,
+        MeterRegistry meterRegistry) {
+        this(maxSize, ttlSeconds, refreshGraceMillis, meterRegistry, System::nanoTime);
+    }
+
+    StudylogSearchResultCache(int maxSize, long ttlSeconds, long refreshGraceMillis, MeterRegistry meterRegistry,
+                              LongSupplier clock) {
+        this.maxSize = maxSize;
+        this.clock = clock;
+        this.invalidatedAt = clock.getAsLong();
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+        this.refreshGraceNanos = TimeUnit.MILLISECONDS.toNanos(refreshGraceMillis);
+        this.hits = Counter.builder("studylog.search.cache.requests")
+            .description("검색 결과 캐시 조회 수")
+            .tag("result", "hit")
+            .register(meterRegistry);
+        this.misses = Counter.builder("studylog.search.cache.requests")
+            .description("검색 결과 캐시 조회 수")
+            .tag("result", "miss")
+            .register(meterRegistry);
+        this.savedSeconds = Counter.builder("studylog.search.cache.saved")
+            .description("캐시 적중으로 생략한 검색 시간의 합")
+            .baseUnit("seconds")
+            .register(meterRegistry);
+        Gauge.builder("studylog.search.cache.hit.ratio", this, StudylogSearchResultCache::hitRatio)
+            .description("검색 결과 캐시 적중률")
+            .register(meterRegistry);
+        Gauge.builder("studylog.search.cache.size", this, StudylogSearchResultCache::size)
+            .description("보관 중인 검색 결과 수")
+            .register(meterRegistry);
+    }
+
+    public static Key key(List<String> keywords, List<Long> tags, List<Long> missions, List<Long> levels,
+                          List<String> usernames, LocalDate start, LocalDate end, Pageable pageable) {
+        return new Key(keywords, normalize(tags), normalize(missions), normalize(levels), normalize(usernames),
+            start, end, pageable.isPaged() ? pageable.getPageNumber() : -1,
+            pageable.isPaged() ? pageable.getPageSize() : -1, pageable.getSort().toString());
+    }
+
+    private static <T extends Comparable<T>> List<T> normalize(Collection<T> values) {
+        if (values == null || values.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return new ArrayList<>(new TreeSet<>(values));
+    }
+
+    /**
+     * 현재 세대에 저장된 결과가 있으면 돌려주고, 없으면 search 로 검색해 저장한 뒤 돌려준다.
+     * 검색하는 동안 세대가 바뀌었으면 저장하지 않는다.
+     */
+    public StudylogDocumentResponse getOrSearch(Key key, Supplier<StudylogDocumentResponse> search) {
+        final long currentGeneration = generation.get();
+        final long now = clock.getAsLong();
+        synchronized (entries) {
+            final Entry entry = entries.get(key);
+            if (entry != null && entry.generation == currentGeneration && now - entry.cachedAt < ttlNanos) {
+                hits.increment();
+                savedSeconds.increment(entry.searchNanos / (double) TimeUnit.SECONDS.toNanos(1));
+                return entry.toResponse();
+            }
+            if (entry != null) {
+                entries.remove(key);
+            }
+        }
+
+        misses.increment();
+        final StudylogDocumentResponse response = search.get();
+        final long finishedAt = clock.getAsLong();
+        if (generation.get() != currentGeneration || finishedAt - invalidatedAt < refreshGraceNanos) {
+            return response;
+        }
+
+        synchronized (entries) {
+            entries.put(key, new Entry(response, currentGeneration, finishedAt, finishedAt - now));
+            while (entries.size() > maxSize) {
+                entries.remove(entries.keySet().iterator().next());
+            }
+        }
+        return response;
+    }
+
+    /**
+     * 이 서버에서 색인이 바뀌었을 때 호출한다. 저장된 결과를 지우지 않고 세대만 올려서 호출 비용이 상수다.
+     */
+    public void invalidate() {
+        invalidatedAt = clock.getAsLong();
+        generation.incrementAndGet();
+    }
+
+    @Override
+    public void clear() {
+        invalidate();
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    private double hitRatio() {
+        final double total = hits.count() + misses.count();
+        return total == 0 ? 0 : hits.count() / total;
+    }
+
+    private int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public static class Key {
+
+        private final List<String> keywords;
+        private final List<Long> tags;
+        private final List<Long> missions;
+        private final List<Long> levels;
+        private final List<String> usernames;
+        private final LocalDate start;
+        private final LocalDate end;
+        private final int page;
+        private final int size;
+        private final String sort;
+
+        private Key(List<String> keywords, List<Long> tags, List<Long> missions, List<Long> levels,
+                    List<String> usernames, LocalDate start, LocalDate end, int page, int size, String sort) {
+            this.keywords = new ArrayList<>(keywords);
+            this.tags = tags;
+            this.missions = missions;
+            this.levels = levels;
+            this.usernames = usernames;
+            this.start = start;
+            this.end = end;
+            this.page = page;
+            this.size = size;
+            this.sort = sort;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Key key = (Key) o;
+            return page == key.page && size == key.size && keywords.equals(key.keywords) && tags.equals(key.tags)
+                && missions.equals(key.missions) && levels.equals(key.levels) && usernames.equals(key.usernames)
+                && Objects.equals(start, key.start) && Objects.equals(end, key.end) && sort.equals(key.sort);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(keywords, tags, missions, levels, usernames, start, end, page, size, sort);
+        }
+    }
+
+    private static class Entry {
+
+        private final List<Long> studylogIds;
+        private final long totalSize;
+        private final int totalPage;
+        private final int currPage;
+        private final long generation;
+        private final long cachedAt;
+        private final long searchNanos;
+
+        private Entry(StudylogDocumentResponse response, long generation, long cachedAt, long searchNanos) {
+            this.studylogIds = new ArrayList<>(response.getStudylogIds());
+            this.totalSize = response.getTotalSize();
+            this.totalPage = response.getTotalPage();
+            this.currPage = response.getCurrPage();
+            this.generation = generation;
+            this.cachedAt = cachedAt;
+            this.searchNanos = searchNanos;
+        }
+
+        private StudylogDocumentResponse toResponse() {
+            return StudylogDocumentResponse.of(new ArrayList<>(studylogIds), totalSize, totalPage, currPage);
+        }
+    }
+}
@@ -2,17 +2,31 @@ package wooteco.prolog.studylog.application;
 
 import static java.time.temporal.TemporalAdjusters.firstDayOfMonth;
 import static java.time.temporal.TemporalAdjusters.lastDayOfMonth;
+import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
 import lombok.AllArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -32,20 +46,29 @@ import wooteco.prolog.studylog.application.dto.StudylogResponse;
 import wooteco.prolog.studylog.application.dto.StudylogRssFeedResponse;
 import wooteco.prolog.studylog.application.dto.StudylogSessionRequest;
 import wooteco.prolog.studylog.application.dto.StudylogTempResponse;
+import wooteco.prolog.studylog.application.dto.TagRequest;
 import wooteco.prolog.studylog.application.dto.StudylogWithScrapedCountResponse;
 import wooteco.prolog.studylog.application.dto.StudylogsResponse;
+import wooteco.prolog.studylog.application.dto.search.StudylogCursor;
 import wooteco.prolog.studylog.application.dto.search.StudylogsSearchRequest;
+import wooteco.prolog.studylog.domain.DocumentQueryParser;
+import wooteco.prolog.studylog.domain.MemberReactions;
 import wooteco.prolog.studylog.domain.Studylog;
 import wooteco.prolog.studylog.domain.StudylogRead;
 import wooteco.prolog.studylog.domain.StudylogScrap;
 import wooteco.prolog.studylog.domain.StudylogTemp;
 import wooteco.prolog.studylog.domain.Tags;
+import wooteco.prolog.studylog.domain.repository.JdbcStudylogRepository;
 import wooteco.prolog.studylog.domain.repository.StudylogReadRepository;
 import wooteco.prolog.studylog.domain.repository.StudylogRepository;
 import wooteco.prolog.studylog.domain.repository.StudylogScrapRepository;
 import wooteco.prolog.studylog.domain.repository.StudylogSpecification;
 import wooteco.prolog.studylog.domain.repository.StudylogTempRepository;
+import wooteco.prolog.studylog.event.MemberReactionEvent;
+import wooteco.prolog.studylog.event.StudylogCreateEvent;
 import wooteco.prolog.studylog.event.StudylogDeleteEvent;
+import wooteco.prolog.studylog.event.StudylogUpdateEvent;
+import wooteco.prolog.studylog.event.StudylogViewEvent;
 import wooteco.prolog.studylog.exception.StudylogArgumentException;
 import wooteco.prolog.studylog.exception.StudylogNotFoundException;
 import wooteco.prolog.studylog.exception.StudylogReadNotExistException;
@@ -56,26 +79,93 @@ import wooteco.prolog.studylog.exception.StudylogScrapNotExistException;
 @Transactional(readOnly = true)
 public class StudylogService {
 
+    private static final int MAX_FALLBACK_PAGE_SIZE = 20;
+    private static final int MAX_FALLBACK_RESULTS = 100;
+
     private final MemberTagService memberTagService;
     private final DocumentService studylogDocumentService;
+    private final StudylogSearchCircuitBreaker studylogSearchCircuitBreaker;
     private final MemberService memberService;
     private final TagService tagService;
     private final SessionService sessionService;
     private final MissionService missionService;
+    private final StudylogListHydrator studylogListHydrator;
+    private final StudylogCountCache studylogCountCache;
+    private final MemberReactionCache memberReactionCache;
+    private final ViewCountAccumulator viewCountAccumulator;
     private final StudylogRepository studylogRepository;
+    private final JdbcStudylogRepository jdbcStudylogRepository;
     private final StudylogScrapRepository studylogScrapRepository;
     private final StudylogReadRepository studylogReadRepository;
     private final StudylogTempRepository studylogTempRepository;
     private final ApplicationEventPublisher eventPublisher;
 
+    /**
+     * 멤버, 태그, 세션, 미션은 한 번씩만 조회하고 스터디로그, 스터디로그 태그, 멤버 태그 카운트는 JDBC batch 로 저장한다.
+     * 검색 문서는 같은 트랜잭션에서 색인 outbox 에 남기고, 커밋 뒤 relay 가 bulk 로 반영한다.
+     */
     @Transactional
     public List<StudylogResponse> insertStudylogs(Long memberId, List<StudylogRequest> studylogRequests) {
         if (studylogRequests.isEmpty()) {
             throw new StudylogArgumentException();
         }
 
+        Member member = memberService.findById(memberId);
+        Tags allTags = tagService.findOrCreate(distinctTagRequests(studylogRequests));
+        Map<Long, Optional<Session>> sessions = new HashMap<>();
+        Map<Long, Optional<Mission>> missions = new HashMap<>();
+
+        List<Tags> tagsOfStudylogs = new ArrayList<>();
+        List<Studylog> studylogs = new ArrayList<>();
+        for (StudylogRequest studylogRequest : studylogRequests) {
+            Tags tags = tagsOf(studylogRequest, allTags);
+            Session session = sessions.computeIfAbsent(studylogRequest.getSessionId(), sessionService::findSessionById)
+                .orElse(null);
+            Mission mission = missions.computeIfAbsent(studylogRequest.getMissionId(), missionService::findMissionById)
+                .orElse(null);
+
+            tagsOfStudylogs.add(tags);
+            studylogs.add(new Studylog(member, studylogRequest.getTitle(), studylogRequest.getContent(),
+                session, mission, tags.getList()));
+        }
+
+        List<Long> ids = jdbcStudylogRepository.insertAll(studylogs, LocalDateTime.now());
+        memberTagService.registerMemberTags(tagsOfStudylogs, member);
+
+        List<Studylog> persistStudylogs = findAllInOrder(ids);
+        deleteStudylogTemp(memberId);
+        persistStudylogs.forEach(studylog -> eventPublisher.publishEvent(
+            new StudylogCreateEvent(studylog.getId(), sessionNameOf(studylog), studylog.getCreatedAt())));
+
+        return persistStudylogs.stream()
+            .map(StudylogResponse::of)
+            .collect(toList());
+    }
+
+    private List<TagRequest> distinctTagRequests(List<StudylogRequest> studylogRequests) {
         return studylogRequests.stream()
-            .map(studylogRequest -> insertStudylog(memberId, studylogRequest))
+            .flatMap(studylogRequest -> studylogRequest.getTags().stream())
+            .map(TagRequest::getName)
+            .distinct()
+            .map(TagRequest::new)
+            .collect(toList());
+    }
+
+    private Tags tagsOf(StudylogRequest studylogRequest, Tags allTags) {
+        List<String> names = Tags.of(studylogRequest.getTags().stream()
+            .map(TagRequest::getName)
+            .collect(toList())).toNames();
+
+        return new Tags(allTags.getList().stream()
+            .filter(tag -> names.contains(tag.getName()))
+            .collect(toList()));
+    }
+
+    private List<Studylog> findAllInOrder(List<Long> ids) {
+        Map<Long, Studylog> studylogs = studylogRepository.findWithAssociationsByIdIn(ids).stream()
+            .collect(toMap(Studylog::getId, Function.identity()));
+        return ids.stream()
+            .map(studylogs::get)
             .collect(toList());
     }
 
@@ -96,6 +186,8 @@ public class StudylogService {
 
         onStudylogCreatedEvent(member, tags, persistStudylog);
         deleteStudylogTemp(memberId);
+        eventPublisher.publishEvent(new StudylogCreateEvent(persistStudylog.getId(),
+            sessionNameOf(persistStudylog), persistStudylog.getCreatedAt()));
 
         return StudylogResponse.of(persistStudylog);
     }
@@ -121,7 +213,6 @@ public class StudylogService {
 
     private void onStudylogCreatedEvent(Member foundMember, Tags tags, Studylog createdStudylog) {
         memberTagService.registerMemberTag(tags, foundMember);
-        studylogDocumentService.save(createdStudylog.toStudylogDocument());
     }
 
     public StudylogsResponse findStudylogs(StudylogsSearchRequest request, Long memberId, boolean isAnonymousMember) {
@@ -130,9 +221,7 @@ public class StudylogService {
             return studylogs;
         }
 
-        List<StudylogResponse> data = studylogs.getData();
-        updateScrap(data, findScrapIds(memberId));
-        updateRead(data, findReadIds(memberId));
+        updateScrapAndRead(studylogs.getData(), memberId);
         return studylogs;
     }
 
@@ -151,7 +240,15 @@ public class StudylogService {
 
             Page<Studylog> studylogs = studylogRepository.findByIdInAndDeletedFalseOrderByIdAsc(ids, pageable);
 
-            return StudylogsResponse.of(studylogs, memberId);
+            return StudylogsResponse.of(studylogListHydrator.hydrate(studylogs.getContent(), memberId), studylogs);
+        }
+
+        if ((request.getKeyword() == null || request.getKeyword().isEmpty()) && request.isCursorPaging()) {
+            return findStudylogsWithoutKeywordByCursor(request.getSessions(), request.getMissions(),
+                request.getTags(),
+                request.getUsernames(), request.getMembers(), request.getStartDate(),
+                request.getEndDate(),
+                request.getCursor(), request.getPageable().getPageSize(), memberId);
         }
 
         if (request.getKeyword() == null || request.getKeyword().isEmpty()) {
@@ -162,27 +259,66 @@ public class StudylogService {
                 request.getPageable(), memberId);
         }
 
-        final StudylogDocumentResponse response = studylogDocumentService.findBySearchKeyword(
-            request.getKeyword(),
-            request.getTags(),
-            request.getMissions(),
-            request.getSessions(),
-            request.getUsernames(),
-            request.getStartDate(),
-            request.getEndDate(),
-            request.getPageable()
+        final Optional<StudylogDocumentResponse> searched = studylogSearchCircuitBreaker.execute(
+            () -> Optional.of(studylogDocumentService.findBySearchKeyword(
+                request.getKeyword(),
+                request.getTags(),
+                request.getMissions(),
+                request.getSessions(),
+                request.getUsernames(),
+                request.getStartDate(),
+                request.getEndDate(),
+                request.getPageable()
+            )),
+            Optional::empty
         );
+        if (!searched.isPresent()) {
+            return findStudylogsByTitleKeyword(request, memberId).markDegraded();
+        }
 
-        final List<Studylog> studylogs = studylogRepository.findByIdInAndDeletedFalseOrderByIdDesc(response.getStudylogIds());
+        final StudylogDocumentResponse response = searched.get();
+        final List<Long> studylogIds = response.getStudylogIds().stream()
+            .sorted(Comparator.reverseOrder())
+            .collect(toList());
         return StudylogsResponse.of(
-            studylogs,
+            studylogListHydrator.hydrateNotDeletedByIds(studylogIds, memberId),
             response.getTotalSize(),
             response.getTotalPage(),
-            response.getCurrPage(),
-            memberId
+            response.getCurrPage()
         );
     }
 
+    /**
+     * 검색 엔진을 쓸 수 없을 때의 대체 검색. 제목 LIKE 로만 찾고, 앞쪽 MAX_FALLBACK_RESULTS 건까지만 페이지로 보여준다.
+     * LIKE 는 전체를 훑으므로 count 쿼리는 하지 않고 전체 개수는 근사값으로 내려준다.
+     */
+    private StudylogsResponse findStudylogsByTitleKeyword(StudylogsSearchRequest request, Long memberId) {
+        final Pageable pageable = PageRequest.of(request.getPageable().getPageNumber(),
+            Math.min(request.getPageable().getPageSize(), MAX_FALLBACK_PAGE_SIZE), Sort.by(Direction.DESC, "id"));
+        if (pageable.getOffset() >= MAX_FALLBACK_RESULTS) {
+            return StudylogsResponse.of(new ArrayList<>(), new PageImpl<>(new ArrayList<>(), pageable,
+                MAX_FALLBACK_RESULTS), false);
+        }
+
+        final List<String> keywords = DocumentQueryParser.removeSpecialChars(
+                Arrays.asList(request.getKeyword().trim().split(" "))).stream()
+            .map(String::trim)
+            .filter(keyword -> !keyword.isEmpty())
+            .map(keyword -> keyword.toLowerCase(Locale.ROOT))
+            .collect(toList());
+        final Specification<Studylog> specs = filterOf(request.getSessions(), request.getMissions(),
+            request.getTags(), request.getUsernames(), request.getMembers(), request.getStartDate(),
+            request.getEndDate())
+            .and(StudylogSpecification.likeKeyword("title", keywords))
+            .and(StudylogSpecification.distinct(true));
+
+        final List<Long> ids = studylogRepository.findIds(specs, pageable);
+        final long hasMore = ids.size() == pageable.getPageSize() ? 1 : 0;
+        final long totalSize = Math.min(pageable.getOffset() + ids.size() + hasMore, MAX_FALLBACK_RESULTS);
+        return StudylogsResponse.of(studylogListHydrator.hydrateByIds(ids, memberId),
+            new PageImpl<>(ids, pageable, totalSize), false);
+    }
+
     public StudylogsResponse findStudylogsWithoutKeyword(
         List<Long> sessionIds,
         List<Long> missionIds,
@@ -194,26 +330,62 @@ public class StudylogService {
         Pageable pageable,
         Long memberId
     ) {
-        Specification<Studylog> specs =
-            StudylogSpecification.findByDeletedFalse()
-                .and(StudylogSpecification.equalIn("session", sessionIds))
-                .and(StudylogSpecification.equalIn("mission", missionIds))
-                .and(StudylogSpecification.findByTagIn(tagIds))
-                .and(StudylogSpecification.findByUsernameIn(usernames))
-                .and(StudylogSpecification.findByMemberIn(members))
-                .and(StudylogSpecification.findBetweenDate(startDate, endDate))
-                .and(StudylogSpecification.distinct(true));
+        Specification<Studylog> specs = filterOf(sessionIds, missionIds, tagIds, usernames, members, startDate, endDate)
+            .and(StudylogSpecification.distinct(true));
+
+        List<Long> ids = studylogRepository.findIds(specs, pageable);
+        StudylogTotalCount totalCount = studylogCountCache.count(
+            StudylogCountCache.signatureOf(sessionIds, missionIds, tagIds, usernames, members, startDate, endDate),
+            () -> studylogRepository.count(specs)
+        );
+
+        Page<Long> page = new PageImpl<>(ids, pageable, totalCount.getTotalSize());
+        return StudylogsResponse.of(studylogListHydrator.hydrateByIds(ids, memberId), page, totalCount.isExact());
+    }
+
+    /**
+     * 무한 스크롤용 keyset 페이지. count 쿼리 없이 커서 id 보다 작은 id 를 size + 1 개만 읽어 다음 페이지 유무를 판단한다.
+     */
+    public StudylogsResponse findStudylogsWithoutKeywordByCursor(
+        List<Long> sessionIds,
+        List<Long> missionIds,
+        List<Long> tagIds,
+        List<String> usernames,
+        List<Long> members,
+        LocalDate startDate,
+        LocalDate endDate,
+        StudylogCursor cursor,
+        int size,
+        Long memberId
+    ) {
+        Specification<Studylog> specs = filterOf(sessionIds, missionIds, tagIds, usernames, members, startDate, endDate);
+
+        List<Long> ids = studylogRepository.findIdsBefore(specs, cursor.getLastId(), size + 1);
+        if (ids.size() <= size) {
+            return StudylogsResponse.ofCursor(studylogListHydrator.hydrateByIds(ids, memberId), null);
+        }
 
-        Page<Studylog> studylogs = studylogRepository.findAll(specs, pageable);
-        return StudylogsResponse.of(studylogs, memberId);
+        List<Long> pageIds = ids.subList(0, size);
+        return StudylogsResponse.ofCursor(studylogListHydrator.hydrateByIds(pageIds, memberId),
+            StudylogCursor.encode(pageIds.get(size - 1)));
+    }
+
+    private Specification<Studylog> filterOf(List<Long> sessionIds, List<Long> missionIds, List<Long> tagIds,
+                                             List<String> usernames, List<Long> members,
+                                             LocalDate startDate, LocalDate endDate) {
+        return StudylogSpecification.findByDeletedFalse()
+            .and(StudylogSpecification.equalIn("session", sessionIds))
+            .and(StudylogSpecification.equalIn("mission", missionIds))
+            .and(StudylogSpecification.findByTagIn(tagIds))
+            .and(StudylogSpecification.findByUsernameIn(usernames))
+            .and(StudylogSpecification.findByMemberIn(members))
+            .and(StudylogSpecification.findBetweenDate(startDate, endDate));
     }
 
     public StudylogsResponse findStudylogsOf(String username, Pageable pageable) {
         Member member = memberService.findByUsername(username);
-        return StudylogsResponse.of(
-            studylogRepository.findByMember(member, pageable),
-            member.getId()
-        );
+        Page<Studylog> studylogs = studylogRepository.findByMember(member, pageable);
+        return StudylogsResponse.of(studylogListHydrator.hydrate(studylogs.getContent(), member.getId()), studylogs);
     }
 
     public Page<Studylog> findStudylogsByUsername(String username, Pageable pageable) {
@@ -227,67 +399,67 @@ public class StudylogService {
         }
     }
 
-    @Transactional
     public StudylogResponse retrieveStudylogById(LoginMember loginMember, Long studylogId, boolean isViewed) {
+        return toStudylogResponse(loginMember, retrieveStudylog(loginMember, studylogId, isViewed));
+    }
 
-        Studylog studylog = findStudylogById(studylogId);
-
-        onStudylogRetrieveEvent(loginMember, studylog, isViewed);
-
-        return toStudylogResponse(loginMember, studylog);
+    public StudylogWithScrapedCountResponse retrieveStudylogByIdWithScrapedCount(LoginMember loginMember, Long studylogId, boolean isViewed) {
+        return toStudylogResponseWithScrapedCount(loginMember, retrieveStudylog(loginMember, studylogId, isViewed));
     }
 
+    /**
+     * 스터디로그가 없으면 StudylogNotFoundException 을 던지므로, 조회 전에 호출해 존재 여부 확인을 겸한다.
+     */
     @Transactional
-    public StudylogWithScrapedCountResponse retrieveStudylogByIdWithScrapedCount(LoginMember loginMember, Long studylogId, boolean isViewed) {
+    public void markAsRead(LoginMember loginMember, Long studylogId) {
         Studylog studylog = findStudylogById(studylogId);
+        if (loginMember.isAnonymous()) {
+            return;
+        }
 
-        onStudylogRetrieveEvent(loginMember, studylog, isViewed);
-
-        return toStudylogResponseWithScrapedCount(loginMember, studylog);
+        if (!memberReactionCache.get(loginMember.getId()).isRead(studylogId)) {
+            insertStudylogRead(studylog, loginMember.getId());
+        }
     }
 
-    private StudylogWithScrapedCountResponse toStudylogResponseWithScrapedCount(LoginMember loginMember, Studylog studylog) {
-        boolean liked = studylog.likedByMember(loginMember.getId());
-        boolean read = studylogReadRepository.findByMemberIdAndStudylogId(loginMember.getId(), studylog.getId()).isPresent();
-        boolean scraped = studylogScrapRepository.findByMemberIdAndStudylogId(loginMember.getId(), studylog.getId()).isPresent();
-        int scrapedCount = studylogScrapRepository.countByStudylogId(studylog.getId());
-
-        return new StudylogWithScrapedCountResponse(StudylogResponse.of(studylog, scraped, read, liked), scrapedCount);
-    }
+    private Studylog retrieveStudylog(LoginMember loginMember, Long studylogId, boolean isViewed) {
+        Studylog studylog = findStudylogById(studylogId);
 
-    private void onStudylogRetrieveEvent(LoginMember loginMember, Studylog studylog, boolean isViewed) {
-        // view 증가
         if (!isViewed) {
             increaseViewCount(loginMember, studylog);
         }
+        return studylog;
+    }
 
-        if (loginMember.isAnonymous()) {
-            return;
-        }
+    private StudylogWithScrapedCountResponse toStudylogResponseWithScrapedCount(LoginMember loginMember, Studylog studylog) {
+        int scrapedCount = studylogScrapRepository.countByStudylogIdIn(singletonList(studylog.getId()))
+            .stream()
+            .findFirst()
+            .map(it -> it.getScrapCount().intValue())
+            .orElse(0);
 
-        // 읽음 처리
-        if (!studylogReadRepository.existsByMemberIdAndStudylogId(loginMember.getId(), studylog.getId())) {
-            insertStudylogRead(studylog.getId(), loginMember.getId());
-        }
+        return new StudylogWithScrapedCountResponse(toStudylogResponse(loginMember, studylog), scrapedCount);
     }
 
     private StudylogResponse toStudylogResponse(LoginMember loginMember, Studylog studylog) {
-        boolean liked = studylog.likedByMember(loginMember.getId());
-        boolean read = studylogReadRepository.findByMemberIdAndStudylogId(loginMember.getId(), studylog.getId()).isPresent();
-        boolean scraped = studylogScrapRepository.findByMemberIdAndStudylogId(loginMember.getId(), studylog.getId()).isPresent();
+        final MemberReactions reactions = memberReactionCache.get(loginMember.getId());
+        boolean liked = reactions.isLiked(studylog.getId());
+        boolean read = reactions.isRead(studylog.getId());
+        boolean scraped = reactions.isScraped(studylog.getId());
 
-        return StudylogResponse.of(studylog, scraped, read, liked);
+        StudylogResponse studylogResponse = StudylogResponse.of(studylog, scraped, read, liked);
+        studylogResponse.addViewCount(viewCountAccumulator.pendingOf(studylog.getId()));
+        return studylogResponse;
     }
 
     public StudylogResponse findByIdAndReturnStudylogResponse(Long id) {
         return StudylogResponse.of(findStudylogById(id));
     }
 
-    private void insertStudylogRead(Long id, Long memberId) {
+    private void insertStudylogRead(Studylog studylog, Long memberId) {
         Member readMember = memberService.findById(memberId);
-        Studylog readStudylog = studylogRepository.findById(id)
-            .orElseThrow(StudylogNotFoundException::new);
-        studylogReadRepository.save(new StudylogRead(readMember, readStudylog));
+        studylogReadRepository.save(new StudylogRead(readMember, studylog));
+        eventPublisher.publishEvent(MemberReactionEvent.read(memberId, studylog.getId()));
     }
 
     public Studylog findStudylogById(Long id) {
@@ -295,13 +467,17 @@ public class StudylogService {
     }
 
     private void increaseViewCount(LoginMember loginMember, Studylog studylog) {
-        if (loginMember.isAnonymous()) {
-            studylog.increaseViewCount();
-            return;
+        if (loginMember.isAnonymous() || !studylog.isBelongsTo(loginMember.getId())) {
+            viewCountAccumulator.increase(studylog.getId());
+            eventPublisher.publishEvent(new StudylogViewEvent(studylog.getId()));
         }
+    }
 
-        Member foundMember = memberService.findById(loginMember.getId());
-        studylog.increaseViewCount(foundMember);
+    private String sessionNameOf(Studylog studylog) {
+        if (studylog.getSession() == null) {
+            return null;
+        }
+        return studylog.getSession().getName();
     }
 
     @Transactional
@@ -319,7 +495,7 @@ public class StudylogService {
         studylog.update(studylogRequest.getTitle(), studylogRequest.getContent(), session, mission, newTags);
         memberTagService.updateMemberTag(originalTags, newTags, foundMember);
 
-        studylogDocumentService.update(studylog.toStudylogDocument());
+        eventPublisher.publishEvent(new StudylogUpdateEvent(studylogId, sessionNameOf(studylog)));
     }
 
     @Transactional
@@ -330,6 +506,7 @@ public class StudylogService {
         Session session = sessionService.findSessionById(studylogSessionRequest.getSessionId()).orElse(null);
 
         studylog.updateSession(session);
+        eventPublisher.publishEvent(new StudylogUpdateEvent(studylogId, sessionNameOf(studylog)));
     }
 
     @Transactional
@@ -340,6 +517,7 @@ public class StudylogService {
         Mission mission = missionService.findMissionById(studylogMissionRequest.getMissionId()).orElse(null);
 
         studylog.updateMission(mission);
+        eventPublisher.publishEvent(new StudylogUpdateEvent(studylogId, sessionNameOf(studylog)));
     }
 
     @Transactional
@@ -349,7 +527,6 @@ public class StudylogService {
         studylog.validateBelongTo(memberId);
 
         final Tags tags = tagService.findByStudylogsAndMember(studylog, foundMember);
-        studylogDocumentService.delete(studylog.toStudylogDocument());
         checkScrapedOrRead(memberId, studylogId);
         memberTagService.removeMemberTag(tags, foundMember);
         studylog.delete();
@@ -362,12 +539,14 @@ public class StudylogService {
             StudylogScrap studylogScrap = studylogScrapRepository.findByMemberIdAndStudylogId(memberId, studylogId)
                 .orElseThrow(StudylogScrapNotExistException::new);
             studylogScrapRepository.delete(studylogScrap);
+            eventPublisher.publishEvent(MemberReactionEvent.unscrap(memberId, studylogId));
         }
 
         if (studylogReadRepository.existsByMemberIdAndStudylogId(memberId, studylogId)) {
             StudylogRead studylogRead = studylogReadRepository.findByMemberIdAndStudylogId(memberId, studylogId)
                 .orElseThrow(StudylogReadNotExistException::new);
             studylogReadRepository.delete(studylogRead);
+            eventPublisher.publishEvent(MemberReactionEvent.unread(memberId, studylogId));
         }
     }
 
@@ -382,35 +561,11 @@ public class StudylogService {
             .collect(toList());
     }
 
-    public List<Long> findScrapIds(Long memberId) {
-        List<StudylogScrap> memberScraps = studylogScrapRepository.findByMemberId(memberId);
-        return memberScraps.stream()
-            .map(StudylogScrap::getStudylog)
-            .map(Studylog::getId)
-            .collect(toList());
-    }
-
-    public List<Long> findReadIds(Long memberId) {
-        List<StudylogRead> readList = studylogReadRepository.findByMemberId(memberId);
-        return readList.stream()
-            .map(StudylogRead::getStudylog)
-            .map(Studylog::getId)
-            .collect(toList());
-    }
-
-    public void updateScrap(List<StudylogResponse> studylogs, List<Long> scrapIds) {
-        studylogs.forEach(studylogResponse -> {
-            if (scrapIds.stream().anyMatch(id -> id.equals(studylogResponse.getId()))) {
-                studylogResponse.setScrap(true);
-            }
-        });
-    }
-
-    public void updateRead(List<StudylogResponse> studylogs, List<Long> readIds) {
+    public void updateScrapAndRead(List<StudylogResponse> studylogs, Long memberId) {
+        final MemberReactions reactions = memberReactionCache.get(memberId);
         studylogs.forEach(studylogResponse -> {
-            if (readIds.stream().anyMatch(id -> id.equals(studylogResponse.getId()))) {
-                studylogResponse.setRead(true);
-            }
+            studylogResponse.setScrap(reactions.isScraped(studylogResponse.getId()));
+            studylogResponse.setRead(reactions.isRead(studylogResponse.getId()));
         });
     }
 
@@ -0,0 +1,171 @@
+package wooteco.prolog.studylog.application;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+import wooteco.support.cache.ClearableCache;
+import wooteco.support.trie.WeightedPrefixTrie;
+
+/**
+ * 스터디로그 제목, 태그 이름, 작성자 username 을 접두어로 찾는 자동 완성 색인.
+ * 제목은 전체 제목과 각 단어로 시작하는 부분 문자열을 키로 삼아, 중간 단어부터 입력해도 찾을 수 있게 한다.
+ * 가중치는 제목이 1 + 조회수 + 좋아요 수 * 3, 태그와 작성자는 그 태그/작성자의 스터디로그 수다.
+ * 스터디로그별로 기여한 가중치를 기억해 두었다가 수정/삭제 때 그만큼 빼고 다시 더한다.
+ */
+@Component
+public class StudylogSuggestionIndex implements ClearableCache {
+
+    public static final String TITLE = "TITLE";
+    public static final String TAG = "TAG";
+    public static final String USERNAME = "USERNAME";
+
+    private static final int TOP_K = 20;
+    private static final int MAX_TITLE_KEYS = 8;
+    private static final int LIKE_WEIGHT = 3;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private WeightedPrefixTrie trie = new WeightedPrefixTrie(TOP_K);
+    private Map<Long, Contribution> contributions = new HashMap<>();
+
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    public static Contribution contribution(String title, String username, Collection<String> tagNames,
+                                            long views, long likeCount) {
+        return new Contribution(title, username, new ArrayList<>(tagNames), 1 + views + likeCount * LIKE_WEIGHT);
+    }
+
+    /**
+     * 새 trie 를 잠금 밖에서 만든 다음 한 번에 바꿔 끼워서, 다시 만드는 동안에도 조회가 막히지 않는다.
+     */
+    public void replaceAll(Map<Long, Contribution> newContributions) {
+        final WeightedPrefixTrie newTrie = new WeightedPrefixTrie(TOP_K);
+        newContributions.values().forEach(contribution -> apply(newTrie, contribution, 1));
+
+        lock.writeLock().lock();
+        try {
+            trie = newTrie;
+            contributions = new HashMap<>(newContributions);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void put(Long studylogId, Contribution contribution) {
+        lock.writeLock().lock();
+        try {
+            final Contribution previous = contributions.put(studylogId, contribution);
+            if (previous != null) {
+                apply(trie, previous, -1);
+            }
+            apply(trie, contribution, 1);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long studylogId) {
+        lock.writeLock().lock();
+        try {
+            final Contribution previous = contributions.remove(studylogId);
+            if (previous != null) {
+                apply(trie, previous, -1);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void addLike(Long studylogId, int delta) {
+        lock.writeLock().lock();
+        try {
+            final Contribution previous = contributions.get(studylogId);
+            if (previous == null) {
+                return;
+            }
+            final Contribution changed = previous.withTitleWeight(
+                Math.max(1, previous.titleWeight + (long) delta * LIKE_WEIGHT));
+            contributions.put(studylogId, changed);
+            addTitle(trie, previous.title, changed.titleWeight - previous.titleWeight);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<WeightedPrefixTrie.Entry> find(String prefix, int size) {
+        final String key = normalize(prefix);
+        if (key.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        lock.readLock().lock();
+        try {
+            return trie.find(key, size);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            trie = new WeightedPrefixTrie(TOP_K);
+            contributions = new HashMap<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static void apply(WeightedPrefixTrie trie, Contribution contribution, int sign) {
+        addTitle(trie, contribution.title, sign * contribution.titleWeight);
+        for (String tagName : contribution.tagNames) {
+            trie.add(normalize(tagName), TAG, tagName, sign);
+        }
+        if (contribution.username != null) {
+            trie.add(normalize(contribution.username), USERNAME, contribution.username, sign);
+        }
+    }
+
+    private static void addTitle(WeightedPrefixTrie trie, String title, long delta) {
+        final String key = normalize(title);
+        if (key.isEmpty() || delta == 0) {
+            return;
+        }
+
+        trie.add(key, TITLE, title, delta);
+        int keys = 1;
+        for (int i = key.indexOf(' '); i >= 0 && keys < MAX_TITLE_KEYS; i = key.indexOf(' ', i + 1)) {
+            trie.add(key.substring(i + 1), TITLE, title, delta);
+            keys++;
+        }
+    }
+
+    /**
+     * 스터디로그 하나가 색인에 더한 항목과 제목 가중치.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Contribution {
+
+        private final String title;
+        private final String username;
+        private final List<String> tagNames;
+        private final long titleWeight;
+
+        private Contribution withTitleWeight(long titleWeight) {
+            return new Contribution(title, username, tagNames, titleWeight);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package wooteco.prolog.studylog.application;
+
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import wooteco.prolog.studylog.application.StudylogSuggestionIndex.Contribution;
+import wooteco.prolog.studylog.application.dto.StudylogSuggestionResponse;
+import wooteco.prolog.studylog.application.dto.StudylogSuggestionsResponse;
+import wooteco.prolog.studylog.domain.Tag;
+import wooteco.prolog.studylog.domain.repository.JdbcStudylogSuggestionReader;
+import wooteco.prolog.studylog.domain.repository.JdbcStudylogSuggestionReader.Source;
+import wooteco.prolog.studylog.domain.repository.TagRepository;
+import wooteco.prolog.studylog.event.StudylogCreateEvent;
+import wooteco.prolog.studylog.event.StudylogDeleteEvent;
+import wooteco.prolog.studylog.event.StudylogLikeEvent;
+import wooteco.prolog.studylog.event.StudylogUpdateEvent;
+
+/**
+ * 검색창 자동 완성은 {@link StudylogSuggestionIndex} 만 읽고 DB 나 검색 엔진에는 가지 않는다.
+ * 색인은 서버 시작과 매 정각에 통째로 만들고, 그 사이에는 작성/수정/삭제/좋아요 이벤트가 커밋된 뒤 해당 스터디로그만 반영한다.
+ * 조회수는 너무 자주 바뀌어서 통째로 다시 만들 때만 반영한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class StudylogSuggestionService {
+
+    private static final int REBUILD_CHUNK_SIZE = 500;
+    private static final int DEFAULT_SIZE = 10;
+    private static final int MAX_SIZE = 20;
+    private static final int MAX_PREFIX_LENGTH = 50;
+
+    private final JdbcStudylogSuggestionReader suggestionReader;
+    private final TagRepository tagRepository;
+    private final StudylogSuggestionIndex suggestionIndex;
+
+    public StudylogSuggestionsResponse findSuggestions(String prefix, Integer size) {
+        if (prefix == null || prefix.length() > MAX_PREFIX_LENGTH) {
+            return new StudylogSuggestionsResponse(new ArrayList<>());
+        }
+
+        final int limit = size == null ? DEFAULT_SIZE : Math.max(1, Math.min(size, MAX_SIZE));
+        return new StudylogSuggestionsResponse(suggestionIndex.find(prefix, limit).stream()
+            .map(StudylogSuggestionResponse::of)
+            .collect(toList()));
+    }
+
+    public void rebuild() {
+        final Map<Long, String> tagNames = tagRepository.findAll().stream()
+            .collect(toMap(Tag::getId, Tag::getName));
+        final Map<Long, Contribution> contributions = new HashMap<>();
+
+        long lastId = 0L;
+        while (true) {
+            final List<Source> chunk = suggestionReader.findChunkAfter(lastId, REBUILD_CHUNK_SIZE);
+            for (Source source : chunk) {
+                contributions.put(source.getId(), toContribution(source, tagNames));
+                lastId = source.getId();
+            }
+            if (chunk.size() < REBUILD_CHUNK_SIZE) {
+                break;
+            }
+        }
+
+        suggestionIndex.replaceAll(contributions);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initializeSuggestions() {
+        rebuild();
+    }
+
+    @Scheduled(cron = "${studylog.suggestion.rebuild-cron:0 0 * * * *}")
+    public void rebuildSuggestions() {
+        rebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStudylogCreateEvent(StudylogCreateEvent event) {
+        refresh(event.getStudylogId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStudylogUpdateEvent(StudylogUpdateEvent event) {
+        refresh(event.getStudylogId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStudylogDeleteEvent(StudylogDeleteEvent event) {
+        suggestionIndex.remove(event.getStudylogId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStudylogLikeEvent(StudylogLikeEvent event) {
+        suggestionIndex.addLike(event.getStudylogId(), event.isLiked() ? 1 : -1);
+    }
+
+    private void refresh(Long studylogId) {
+        final Source source = suggestionReader.findById(studylogId).orElse(null);
+        if (source == null) {
+            suggestionIndex.remove(studylogId);
+            return;
+        }
+
+        final Map<Long, String> tagNames = tagRepository.findAllById(source.getTagIds()).stream()
+            .collect(toMap(Tag::getId, Tag::getName));
+        suggestionIndex.put(studylogId, toContribution(source, tagNames));
+    }
+
+    private Contribution toContribution(Source source, Map<Long, String> tagNames) {
+        final List<String> names = source.getTagIds().stream()
+            .map(tagNames::get)
+            .filter(Objects::nonNull)
+            .distinct()
+            .collect(toList());
+        return StudylogSuggestionIndex.contribution(source.getTitle(), source.getUsername(), names,
+            source.getViews(), source.getLikeCount());
+    }
+}
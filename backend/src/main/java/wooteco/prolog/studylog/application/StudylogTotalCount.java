@@ -0,0 +1,12 @@
+package wooteco.prolog.studylog.application;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+public class StudylogTotalCount {
+
+    private final long totalSize;
+    private final boolean exact;
+}
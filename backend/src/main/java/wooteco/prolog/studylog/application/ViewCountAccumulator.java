@@ -0,0 +1,84 @@
+package wooteco.prolog.studylog.application;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import wooteco.prolog.studylog.domain.repository.JdbcStudylogViewCountRepository;
+import wooteco.support.cache.ClearableCache;
+
+/**
+ * 조회수를 스터디로그 행에 바로 쓰지 않고 메모리에 모아두었다가
+ * 주기적으로 한 번의 batch update 로 반영한다. 인기글 하나에 조회 요청이 몰려도 행 잠금을 잡지 않는다.
+ * 아직 반영되지 않은 조회수는 pendingOf 로 조회 응답에 더해준다.
+ * 반영이 끝나 0 이 된 항목은 지워서, 한 번이라도 조회된 스터디로그 id 가 계속 쌓이지 않게 한다.
+ * 그 사이 삭제되어 갱신된 행이 없는 스터디로그의 조회수는 다시 쌓지 않고 버린다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ViewCountAccumulator implements ClearableCache {
+
+    private final JdbcStudylogViewCountRepository studylogViewCountRepository;
+    private final Map<Long, Long> pendingViews = new ConcurrentHashMap<>();
+
+    public void increase(Long studylogId) {
+        pendingViews.merge(studylogId, 1L, Long::sum);
+    }
+
+    public int pendingOf(Long studylogId) {
+        return pendingViews.getOrDefault(studylogId, 0L).intValue();
+    }
+
+    @Scheduled(fixedDelayString = "${studylog.view-count.flush-interval:5000}")
+    public void flush() {
+        final List<Long> studylogIds = new ArrayList<>();
+        final List<Long> deltas = new ArrayList<>();
+        pendingViews.forEach((studylogId, delta) -> {
+            studylogIds.add(studylogId);
+            deltas.add(delta);
+        });
+        for (int i = 0; i < studylogIds.size(); i++) {
+            increaseBy(studylogIds.get(i), -deltas.get(i));
+        }
+
+        if (studylogIds.isEmpty()) {
+            return;
+        }
+
+        try {
+            studylogViewCountRepository.addViews(studylogIds, deltas);
+        } catch (RuntimeException e) {
+            log.warn("조회수 반영에 실패하여 다음 주기에 다시 시도합니다.", e);
+            restore(studylogIds, deltas);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    @Override
+    public void clear() {
+        pendingViews.clear();
+    }
+
+    private void restore(List<Long> studylogIds, List<Long> deltas) {
+        for (int i = 0; i < studylogIds.size(); i++) {
+            increaseBy(studylogIds.get(i), deltas.get(i));
+        }
+    }
+
+    private void increaseBy(Long studylogId, long delta) {
+        pendingViews.compute(studylogId, (id, pending) -> {
+            final long views = (pending == null ? 0 : pending) + delta;
+            return views == 0 ? null : views;
+        });
+    }
+}
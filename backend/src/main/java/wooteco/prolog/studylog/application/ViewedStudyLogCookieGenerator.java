@@ -1,17 +1,31 @@
 package wooteco.prolog.studylog.application;
 
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.Base64;
+import java.util.regex.Pattern;
+import javax.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseCookie;
 import org.springframework.stereotype.Component;
 
-import javax.servlet.http.HttpServletResponse;
-import java.time.Duration;
-import java.time.LocalTime;
-
-
+/**
+ * viewed 쿠키에는 조회한 id 목록 대신 고정 길이의 방문자 토큰만 담고, 조회 여부는 ViewedStudylogFilter 가 판단한다.
+ * 이전 형식(/1/2/3/)의 쿠키가 오면 그 목록도 조회한 것으로 인정하고 토큰 쿠키로 바꿔준다.
+ */
 @Component
+@RequiredArgsConstructor
 public class ViewedStudyLogCookieGenerator {
+
     private static final String VIEWED_STUDY_LOG_COOKIE_NAME = "viewed";
+    private static final String LEGACY_DELIMITER = "/";
+    private static final int VISITOR_TOKEN_BYTES = 16;
+    private static final Pattern VISITOR_TOKEN_PATTERN = Pattern.compile("[A-Za-z0-9_-]{22}");
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final ViewedStudylogFilter viewedStudylogFilter;
 
     public ResponseCookie generateCookie(String name, String value) {
         Duration duration = Duration.between(LocalTime.now(), LocalTime.MAX);
@@ -23,15 +37,34 @@ public class ViewedStudyLogCookieGenerator {
                 .build();
     }
 
-    public boolean isViewed(String studyLogIds, String studyLogId) {
-        return studyLogIds.contains("/" + studyLogId + "/");
-    }
+    /**
+     * 조회 기록을 남기고, 오늘 이미 조회한 스터디로그였는지 반환한다.
+     */
+    public boolean markViewed(String cookieValue, Long studyLogId, HttpServletResponse response) {
+        final boolean viewedInLegacyCookie = isViewedInLegacyCookie(cookieValue, studyLogId);
 
-    public void setViewedStudyLogCookie(String studyLogIds, String studyLogId, HttpServletResponse response) {
-        if (isViewed(studyLogIds, studyLogId)) {
-            return;
+        String visitorToken = cookieValue;
+        if (!isVisitorToken(cookieValue)) {
+            visitorToken = generateVisitorToken();
+            response.setHeader(HttpHeaders.SET_COOKIE, generateCookie(VIEWED_STUDY_LOG_COOKIE_NAME, visitorToken).toString());
         }
-        String cookieValue = studyLogIds.concat(studyLogId + "/");
-        response.setHeader(HttpHeaders.SET_COOKIE, generateCookie(VIEWED_STUDY_LOG_COOKIE_NAME, cookieValue).toString());
+
+        final boolean viewed = viewedStudylogFilter.markViewed(visitorToken, studyLogId);
+        return viewed || viewedInLegacyCookie;
+    }
+
+    private boolean isViewedInLegacyCookie(String cookieValue, Long studyLogId) {
+        return cookieValue.startsWith(LEGACY_DELIMITER)
+            && cookieValue.contains(LEGACY_DELIMITER + studyLogId + LEGACY_DELIMITER);
+    }
+
+    private boolean isVisitorToken(String cookieValue) {
+        return VISITOR_TOKEN_PATTERN.matcher(cookieValue).matches();
+    }
+
+    private String generateVisitorToken() {
+        final byte[] bytes = new byte[VISITOR_TOKEN_BYTES];
+        RANDOM.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
     }
 }
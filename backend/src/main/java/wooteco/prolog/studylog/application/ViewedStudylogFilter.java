@@ -0,0 +1,74 @@
+package wooteco.prolog.studylog.application;
+
+import java.time.LocalDate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import wooteco.support.bloom.BloomFilter;
+import wooteco.support.cache.ClearableCache;
+
+/**
+ * 방문자 토큰과 스터디로그 id 쌍을 하루 단위 Bloom filter 에 기록해 오늘 이미 조회했는지 판단한다.
+ * 날짜가 바뀌면 새 filter 로 교체하므로 메모리는 설정한 예상 조회 수와 오탐률로 고정된다.
+ * 오탐이 나면 조회수가 한 번 덜 오를 뿐이다.
+ */
+@Component
+public class ViewedStudylogFilter implements ClearableCache {
+
+    private final long expectedViews;
+    private final double falsePositiveRate;
+
+    private volatile LocalDate currentDate;
+    private volatile BloomFilter bloomFilter;
+
+    public ViewedStudylogFilter(@Value("${studylog.viewed.expected-daily-views:1000000}") long expectedViews,
+                                @Value("${studylog.viewed.false-positive-rate:0.001}") double falsePositiveRate) {
+        this.expectedViews = expectedViews;
+        this.falsePositiveRate = falsePositiveRate;
+        this.currentDate = LocalDate.now();
+        this.bloomFilter = new BloomFilter(expectedViews, falsePositiveRate);
+    }
+
+    /**
+     * @return 오늘 이미 조회한 스터디로그이면 true
+     */
+    public boolean markViewed(String visitorToken, Long studylogId) {
+        return !currentFilter().put(hash(visitorToken, studylogId));
+    }
+
+    @Override
+    public synchronized void clear() {
+        this.bloomFilter = new BloomFilter(expectedViews, falsePositiveRate);
+    }
+
+    private BloomFilter currentFilter() {
+        final LocalDate today = LocalDate.now();
+        if (!today.equals(currentDate)) {
+            rotate(today);
+        }
+        return bloomFilter;
+    }
+
+    private synchronized void rotate(LocalDate today) {
+        if (today.equals(currentDate)) {
+            return;
+        }
+        this.bloomFilter = new BloomFilter(expectedViews, falsePositiveRate);
+        this.currentDate = today;
+    }
+
+    private long hash(String visitorToken, Long studylogId) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < visitorToken.length(); i++) {
+            hash ^= visitorToken.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash ^ mix(studylogId));
+    }
+
+    private long mix(long value) {
+        long z = value + 0x9e3779b97f4a7c15L;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,36 @@
+package wooteco.prolog.studylog.application.dto;
+
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import wooteco.prolog.studylog.application.StudylogReindexProgress;
+
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class StudylogReindexResponse {
+
+    private String status;
+    private String indexName;
+    private long total;
+    private long processed;
+    private double documentsPerSecond;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String errorMessage;
+
+    public static StudylogReindexResponse of(StudylogReindexProgress progress) {
+        return new StudylogReindexResponse(
+            progress.getStatus().name(),
+            progress.getIndexName(),
+            progress.getTotal(),
+            progress.getProcessed(),
+            progress.getDocumentsPerSecond(),
+            progress.getStartedAt(),
+            progress.getFinishedAt(),
+            progress.getErrorMessage()
+        );
+    }
+}
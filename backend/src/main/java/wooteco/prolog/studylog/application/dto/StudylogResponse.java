@@ -83,15 +83,7 @@ public class StudylogResponse {
 
     // todo 정적팩토리메서드 from 사용해야하는데 of 쓰고 있는 부분 확인 후 리팩터링
     public static StudylogResponse of(Studylog studylog) {
-        return of(studylog, false, false, null);
-    }
-
-    public static StudylogResponse of(Studylog studylog, Long memberId) {
-        return of(studylog, false, false, memberId);
-    }
-
-    public static StudylogResponse of(Studylog studylog, boolean scrap, boolean read, Long memberId) {
-        return StudylogResponse.of(studylog, scrap, read, studylog.likedByMember(memberId));
+        return of(studylog, false, false, false);
     }
 
     private static List<TagResponse> toTagResponses(List<StudylogTag> studylogTags) {
@@ -134,4 +126,8 @@ public class StudylogResponse {
     public void setRead(boolean read) {
         this.read = read;
     }
+
+    public void addViewCount(int pendingViewCount) {
+        this.viewCount += pendingViewCount;
+    }
 }
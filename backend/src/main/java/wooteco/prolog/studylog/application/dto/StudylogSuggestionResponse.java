@@ -0,0 +1,20 @@
+package wooteco.prolog.studylog.application.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import wooteco.support.trie.WeightedPrefixTrie;
+
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class StudylogSuggestionResponse {
+
+    private String type;
+    private String text;
+
+    public static StudylogSuggestionResponse of(WeightedPrefixTrie.Entry entry) {
+        return new StudylogSuggestionResponse(entry.getCategory(), entry.getValue());
+    }
+}
@@ -0,0 +1,15 @@
+package wooteco.prolog.studylog.application.dto;
+
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class StudylogSuggestionsResponse {
+
+    private List<StudylogSuggestionResponse> suggestions;
+}
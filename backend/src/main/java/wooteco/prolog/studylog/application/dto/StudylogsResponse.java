@@ -1,22 +1,13 @@
 package wooteco.prolog.studylog.application.dto;
 
-import static java.util.stream.Collectors.toList;
-
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import java.util.List;
-import java.util.stream.Collectors;
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import wooteco.prolog.session.application.dto.MissionResponse;
-import wooteco.prolog.session.application.dto.SessionResponse;
 import wooteco.prolog.studylog.domain.Studylog;
-import wooteco.prolog.studylog.domain.StudylogTag;
-import wooteco.prolog.studylog.domain.Tag;
 
 @NoArgsConstructor
-@AllArgsConstructor
 @Getter
 public class StudylogsResponse {
 
@@ -26,67 +17,61 @@ public class StudylogsResponse {
     private Long totalSize;
     private int totalPage;
     private int currPage;
+    private String nextCursor;
+    private boolean exactCount;
+    @JsonIgnore
+    private boolean degraded;
 
-    public static StudylogsResponse of(Page<Studylog> page) {
-        return of(page, null);
+    public StudylogsResponse(List<StudylogResponse> data, Long totalSize, int totalPage, int currPage) {
+        this(data, totalSize, totalPage, currPage, null, true);
     }
 
-    public static StudylogsResponse of(Page<Studylog> page, Long memberId) {
-        Page<StudylogResponse> responsePage = new PageImpl<>(
-            toResponses(page.getContent(), memberId),
-            page.getPageable(),
-            page.getTotalElements()
-        );
-
-        return new StudylogsResponse(responsePage.getContent(),
-            responsePage.getTotalElements(),
-            responsePage.getTotalPages(),
-            responsePage.getNumber() + ONE_INDEXED_PARAMETER);
+    public StudylogsResponse(List<StudylogResponse> data, Long totalSize, int totalPage, int currPage,
+                             String nextCursor, boolean exactCount) {
+        this.data = data;
+        this.totalSize = totalSize;
+        this.totalPage = totalPage;
+        this.currPage = currPage;
+        this.nextCursor = nextCursor;
+        this.exactCount = exactCount;
     }
 
-    public static StudylogsResponse of(
-        List<Studylog> studylogs,
-        long totalSize,
-        int totalPage,
-        int currPage,
-        Long memberId
-    ) {
-        final List<StudylogResponse> studylogResponses = convertToStudylogResponse(studylogs, memberId);
-        return new StudylogsResponse(studylogResponses,
-            totalSize,
-            totalPage,
-            currPage + ONE_INDEXED_PARAMETER);
+    /**
+     * 검색 엔진 대신 대체 경로로 만든 결과임을 표시한다. 본문에는 나가지 않고 응답 헤더로 알린다.
+     */
+    public StudylogsResponse markDegraded() {
+        this.degraded = true;
+        return this;
     }
 
-    private static List<StudylogResponse> convertToStudylogResponse(List<Studylog> studylogs, Long memberId) {
-        return studylogs.stream()
-            .map(studylog -> StudylogResponse.of(studylog, memberId))
-            .collect(toList());
+    public static StudylogsResponse of(List<StudylogResponse> data, Page<Studylog> page) {
+        return of(data, page, true);
     }
 
-    private static List<StudylogResponse> toResponses(List<Studylog> studylogs, Long memberId) {
-        return studylogs.stream().map(studylog -> toResponse(studylog, memberId)).collect(toList());
+    /**
+     * exactCount 가 false 면 totalSize, totalPage 는 캐시된 근사값이다.
+     */
+    public static StudylogsResponse of(List<StudylogResponse> data, Page<?> page, boolean exactCount) {
+        return new StudylogsResponse(data,
+            page.getTotalElements(),
+            page.getTotalPages(),
+            page.getNumber() + ONE_INDEXED_PARAMETER,
+            null,
+            exactCount);
     }
 
-    private static StudylogResponse toResponse(Studylog studylog, Long memberId) {
-        List<StudylogTag> studylogTags = studylog.getStudylogTags();
-        final List<Tag> tags = studylogTags.stream()
-            .map(StudylogTag::getTag)
-            .collect(toList());
-
-        return new StudylogResponse(
-            studylog,
-            SessionResponse.of(studylog.getSession()),
-            MissionResponse.of(studylog.getMission()),
-            toResponse(tags),
-            studylog.likedByMember(memberId)
-        );
+    public static StudylogsResponse of(List<StudylogResponse> data, long totalSize, int totalPage, int currPage) {
+        return new StudylogsResponse(data,
+            totalSize,
+            totalPage,
+            currPage + ONE_INDEXED_PARAMETER);
     }
 
-    private static List<TagResponse> toResponse(List<Tag> tags) {
-        return tags.stream()
-                .map(TagResponse::of)
-                .collect(Collectors.toList());
+    /**
+     * 커서 페이지는 전체 개수를 세지 않으므로 totalSize 는 비워두고 다음 커서만 내려준다.
+     * 마지막 페이지면 nextCursor 가 null 이다.
+     */
+    public static StudylogsResponse ofCursor(List<StudylogResponse> data, String nextCursor) {
+        return new StudylogsResponse(data, null, 0, 0, nextCursor, false);
     }
-
 }
@@ -30,6 +30,7 @@ public class SearchArgumentResolver implements HandlerMethodArgumentResolver {
     @Override
     public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
                                   NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        final StudylogCursor cursor = convertToCursor(webRequest, "cursor");
         try {
             return new StudylogsSearchRequest(
                 convertToString(webRequest, "keyword"),
@@ -41,7 +42,8 @@ public class SearchArgumentResolver implements HandlerMethodArgumentResolver {
                 convertToLocalDate(webRequest, "startDate"),
                 convertToLocalDate(webRequest, "endDate"),
                 convertToIdList(webRequest, "ids"),
-                makePageableDefault(webRequest)
+                makePageableDefault(webRequest),
+                cursor
             );
         } catch (Exception e) {
             throw new SearchArgumentParseException();
@@ -57,6 +59,15 @@ public class SearchArgumentResolver implements HandlerMethodArgumentResolver {
         return LocalDate.parse(date, DateTimeFormatter.BASIC_ISO_DATE);
     }
 
+    private StudylogCursor convertToCursor(NativeWebRequest webRequest, String key) {
+        String cursor = webRequest.getParameter(key);
+
+        if (Objects.isNull(cursor)) {
+            return null;
+        }
+        return StudylogCursor.decode(cursor);
+    }
+
     private String convertToString(NativeWebRequest webRequest, String key) {
         return webRequest.getParameter(key);
     }
@@ -0,0 +1,47 @@
+package wooteco.prolog.studylog.application.dto.search;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import wooteco.prolog.studylog.exception.InvalidCursorException;
+
+/**
+ * 무한 스크롤용 keyset 페이지 위치. 직전 페이지의 마지막 id 를 담고, 클라이언트에는 불투명한 문자열로 내려준다.
+ * 빈 문자열은 커서 모드의 첫 페이지를 뜻한다.
+ */
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public class StudylogCursor {
+
+    private static final String PREFIX = "id:";
+
+    private final Long lastId;
+
+    public static StudylogCursor decode(String value) {
+        if (value == null || value.isEmpty()) {
+            return new StudylogCursor(null);
+        }
+
+        try {
+            final String decoded = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            if (!decoded.startsWith(PREFIX)) {
+                throw new InvalidCursorException();
+            }
+            final long lastId = Long.parseLong(decoded.substring(PREFIX.length()));
+            if (lastId < 0) {
+                throw new InvalidCursorException();
+            }
+            return new StudylogCursor(lastId);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException();
+        }
+    }
+
+    public static String encode(Long lastId) {
+        return Base64.getUrlEncoder()
+            .withoutPadding()
+            .encodeToString((PREFIX + lastId).getBytes(StandardCharsets.UTF_8));
+    }
+}
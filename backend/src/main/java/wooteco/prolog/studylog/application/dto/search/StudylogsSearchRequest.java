@@ -21,5 +21,15 @@ public class StudylogsSearchRequest {
     private final LocalDate endDate;
     private final List<Long> ids;
     private final Pageable pageable;
+    private final StudylogCursor cursor;
 
+    public StudylogsSearchRequest(String keyword, List<Long> sessions, List<Long> missions, List<Long> tags,
+                                  List<String> usernames, List<Long> members, LocalDate startDate,
+                                  LocalDate endDate, List<Long> ids, Pageable pageable) {
+        this(keyword, sessions, missions, tags, usernames, members, startDate, endDate, ids, pageable, null);
+    }
+
+    public boolean isCursorPaging() {
+        return Objects.nonNull(cursor);
+    }
 }
@@ -1,5 +1,7 @@
 package wooteco.prolog.studylog.domain;
 
+import java.util.Arrays;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 public enum Curriculum {
@@ -32,6 +34,15 @@ public enum Curriculum {
         return inputName.matches(BACKEND.regexPattern);
     }
 
+    public static Optional<Curriculum> findBySessionName(String sessionName) {
+        if (sessionName == null) {
+            return Optional.empty();
+        }
+        return Arrays.stream(values())
+            .filter(curriculum -> curriculum.findCurriculum(sessionName))
+            .findFirst();
+    }
+
     public boolean findCurriculum(String name) {
         return this.predicate.test(name);
     }
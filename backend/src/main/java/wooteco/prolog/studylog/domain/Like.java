@@ -6,6 +6,7 @@ import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.Table;
@@ -14,7 +15,7 @@ import lombok.NoArgsConstructor;
 import org.hibernate.annotations.BatchSize;
 
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "LIKES")
+@Table(name = "LIKES", indexes = @Index(name = "IX_LIKES_STUDYLOG_MEMBER", columnList = "studylog_id, member_id", unique = true))
 @Entity
 @BatchSize(size = 1000)
 public class Like {
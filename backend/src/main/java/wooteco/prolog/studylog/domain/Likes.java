@@ -3,10 +3,9 @@ package wooteco.prolog.studylog.domain;
 import java.util.ArrayList;
 import java.util.List;
 import javax.persistence.CascadeType;
+import javax.persistence.Column;
 import javax.persistence.Embeddable;
 import javax.persistence.OneToMany;
-import wooteco.prolog.studylog.exception.InvalidLikeRequestException;
-import wooteco.prolog.studylog.exception.InvalidUnlikeRequestException;
 
 @Embeddable
 public class Likes {
@@ -18,51 +17,33 @@ public class Likes {
     )
     private List<Like> values;
 
+    // 좋아요 수를 세기 위해 values 를 초기화하지 않도록 따로 보관한다.
+    // 동시 요청에 유실되지 않도록 DB 반영은 StudylogRepository 의 증감 쿼리로만 한다.
+    @Column(name = "like_count", nullable = false, updatable = false)
+    private int likeCount;
+
     public Likes() {
         this(new ArrayList<>());
     }
 
     public Likes(List<Like> values) {
         this.values = values;
+        this.likeCount = values.size();
     }
 
     public List<Like> getValues() {
         return values;
     }
 
-    public void like(Studylog studylog, Long memberId) {
-        validateNewLike(memberId);
-        values.add(new Like(studylog, memberId));
-    }
-
-    private void validateNewLike(Long id) {
-        values.stream()
-            .map(Like::getMemberId)
-            .filter(memberId -> memberId.equals(id))
-            .findAny()
-            .ifPresent(memberId -> {
-                throw new InvalidLikeRequestException();
-            });
-    }
-
-    public void unlike(Studylog studylog, Long memberId) {
-        validateExistingLike(memberId);
-        values.remove(new Like(studylog, memberId));
-    }
-
-    private void validateExistingLike(Long id) {
-        if (!likedByMember(id)) {
-            throw new InvalidUnlikeRequestException();
-        }
+    public void increaseCount() {
+        likeCount++;
     }
 
-    public boolean likedByMember(Long memberId) {
-        return values.stream()
-            .map(Like::getMemberId)
-            .anyMatch(id -> id.equals(memberId));
+    public void decreaseCount() {
+        likeCount--;
     }
 
     public int likeCount() {
-        return values.size();
+        return likeCount;
     }
 }
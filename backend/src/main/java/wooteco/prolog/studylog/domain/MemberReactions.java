@@ -0,0 +1,62 @@
+package wooteco.prolog.studylog.domain;
+
+import java.util.Collections;
+import java.util.List;
+import wooteco.support.bitmap.RoaringLongSet;
+
+/**
+ * 한 멤버가 읽음, 스크랩, 좋아요 한 스터디로그 id 집합.
+ * 목록 응답에 플래그를 붙일 때 테이블을 다시 읽지 않고 id 마다 O(log n) 으로 확인한다.
+ */
+public class MemberReactions {
+
+    private final RoaringLongSet readIds;
+    private final RoaringLongSet scrapIds;
+    private final RoaringLongSet likeIds;
+
+    public MemberReactions(List<Long> readIds, List<Long> scrapIds, List<Long> likeIds) {
+        this.readIds = RoaringLongSet.of(readIds);
+        this.scrapIds = RoaringLongSet.of(scrapIds);
+        this.likeIds = RoaringLongSet.of(likeIds);
+    }
+
+    public static MemberReactions empty() {
+        return new MemberReactions(Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+    }
+
+    public synchronized boolean isRead(Long studylogId) {
+        return readIds.contains(studylogId);
+    }
+
+    public synchronized boolean isScraped(Long studylogId) {
+        return scrapIds.contains(studylogId);
+    }
+
+    public synchronized boolean isLiked(Long studylogId) {
+        return likeIds.contains(studylogId);
+    }
+
+    public synchronized void read(Long studylogId) {
+        readIds.add(studylogId);
+    }
+
+    public synchronized void unread(Long studylogId) {
+        readIds.remove(studylogId);
+    }
+
+    public synchronized void scrap(Long studylogId) {
+        scrapIds.add(studylogId);
+    }
+
+    public synchronized void unscrap(Long studylogId) {
+        scrapIds.remove(studylogId);
+    }
+
+    public synchronized void like(Long studylogId) {
+        likeIds.add(studylogId);
+    }
+
+    public synchronized void unlike(Long studylogId) {
+        likeIds.remove(studylogId);
+    }
+}
@@ -42,11 +42,11 @@ public class Studylog extends AuditingEntity {
     @Embedded
     private Content content;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "session_id")
     private Session session;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "mission_id")
     private Mission mission;
 
@@ -105,7 +105,8 @@ public class Studylog extends AuditingEntity {
         return new StudylogDocument(
             this.getId(), this.getTitle(),
             this.getContent(), this.studylogTags.getTagIds(),
-            null, null,
+            this.mission == null ? null : this.mission.getId(),
+            this.session == null ? null : this.session.getId(),
             this.member.getUsername(), this.getUpdatedAt()
         );
     }
@@ -120,30 +121,16 @@ public class Studylog extends AuditingEntity {
                 .collect(Collectors.toList());
     }
 
-    public void increaseViewCount(Member member) {
-        if (!isMine(member)) {
-            viewCount.increase();
-        }
-    }
-
-    public void increaseViewCount() {
-        viewCount.increase();
-    }
-
     public boolean isMine(Member member) {
         return this.member.equals(member);
     }
 
-    public void like(Long id) {
-        likes.like(this, id);
-    }
-
-    public void unlike(Long id) {
-        likes.unlike(this, id);
+    public void increaseLikeCount() {
+        likes.increaseCount();
     }
 
-    public boolean likedByMember(Long memberId) {
-        return likes.likedByMember(memberId);
+    public void decreaseLikeCount() {
+        likes.decreaseCount();
     }
 
     public int getPopularScore() {
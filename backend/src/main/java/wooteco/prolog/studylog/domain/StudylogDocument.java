@@ -11,6 +11,9 @@ import org.springframework.data.elasticsearch.annotations.DateFormat;
 import org.springframework.data.elasticsearch.annotations.Document;
 import org.springframework.data.elasticsearch.annotations.Field;
 import org.springframework.data.elasticsearch.annotations.FieldType;
+import org.springframework.data.elasticsearch.annotations.InnerField;
+import org.springframework.data.elasticsearch.annotations.MultiField;
+import org.springframework.data.elasticsearch.annotations.Setting;
 
 @Getter
 @EqualsAndHashCode
@@ -18,18 +21,38 @@ import org.springframework.data.elasticsearch.annotations.FieldType;
 @Builder
 @AllArgsConstructor
 @Document(indexName = "studylog-document")
+@Setting(settingPath = StudylogDocument.SETTING_PATH)
 public class StudylogDocument {
 
+    public static final String SETTING_PATH = "elasticsearch/studylog-document-settings.json";
+
     @Field(type = FieldType.Long)
     private Long id;
 
-    @Field(type = FieldType.Text)
+    /**
+     * 본문 필드는 형태소 단위(nori)로, ngram 하위 필드는 부분 문자열 검색용으로, edge 하위 필드는 접두어 검색용으로 색인한다.
+     */
+    @MultiField(
+        mainField = @Field(type = FieldType.Text, analyzer = "studylog_korean"),
+        otherFields = {
+            @InnerField(suffix = "ngram", type = FieldType.Text, analyzer = "studylog_ngram"),
+            @InnerField(suffix = "edge", type = FieldType.Text, analyzer = "studylog_edge_ngram",
+                searchAnalyzer = "studylog_edge_ngram_search")
+        }
+    )
     private String title;
 
-    @Field(type = FieldType.Text)
+    @MultiField(
+        mainField = @Field(type = FieldType.Text, analyzer = "studylog_korean"),
+        otherFields = {
+            @InnerField(suffix = "ngram", type = FieldType.Text, analyzer = "studylog_ngram"),
+            @InnerField(suffix = "edge", type = FieldType.Text, analyzer = "studylog_edge_ngram",
+                searchAnalyzer = "studylog_edge_ngram_search")
+        }
+    )
     private String content;
 
-    @Field(type = FieldType.Auto)
+    @Field(type = FieldType.Long)
     private List<Long> tagIds;
 
     @Field(type = FieldType.Long)
@@ -38,7 +61,7 @@ public class StudylogDocument {
     @Field(type = FieldType.Long)
     private Long levelId;
 
-    @Field(type = FieldType.Text)
+    @Field(type = FieldType.Keyword)
     private String username;
 
     @Field(type = FieldType.Date, format = DateFormat.basic_date)
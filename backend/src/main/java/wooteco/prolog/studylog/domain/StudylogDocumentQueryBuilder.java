@@ -1,16 +1,17 @@
 package wooteco.prolog.studylog.domain;
 
-import static wooteco.prolog.studylog.domain.DocumentQueryParser.makeDefaultQueryString;
-import static wooteco.prolog.studylog.domain.DocumentQueryParser.makeKeywordsQueryString;
 import static wooteco.prolog.studylog.domain.DocumentQueryParser.removeSpecialChars;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
-import java.util.stream.Collectors;
+import org.elasticsearch.index.query.BoolQueryBuilder;
+import org.elasticsearch.index.query.MultiMatchQueryBuilder;
+import org.elasticsearch.index.query.Operator;
+import org.elasticsearch.index.query.QueryBuilder;
 import org.elasticsearch.index.query.QueryBuilders;
-import org.elasticsearch.index.query.QueryStringQueryBuilder;
 import org.elasticsearch.index.query.RangeQueryBuilder;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.elasticsearch.core.query.NativeSearchQueryBuilder;
@@ -18,9 +19,16 @@ import org.springframework.data.elasticsearch.core.query.Query;
 
 public class StudylogDocumentQueryBuilder {
 
+    private static final int MIN_NGRAM_LENGTH = 2;
+    private static final float TITLE_BOOST = 2.0f;
+
     private StudylogDocumentQueryBuilder() {
     }
 
+    /**
+     * 검색어만 점수를 매기는 must 절로 두고, 태그/미션/세션/작성자/기간은 값이 있을 때만 filter 절로 넣는다.
+     * filter 절은 점수 계산을 하지 않고 Elasticsearch 가 비트셋으로 캐시해 재사용한다.
+     */
     public static Query makeQuery(List<String> inputKeywords,
                                   List<Long> tags,
                                   List<Long> missions,
@@ -32,73 +40,78 @@ public class StudylogDocumentQueryBuilder {
     ) {
 
         List<String> keywords = removeSpecialChars(inputKeywords);
-        NativeSearchQueryBuilder query = new NativeSearchQueryBuilder();
-        makeBoolQuery(query,
-                      makeKeywordsQueryString(keywords),
-                      makeDefaultQueryString(usernames),
-                      makeDefaultQueryString(convertToListString(levels)),
-                      makeDefaultQueryString(convertToListString(missions)),
-                      start,
-                      end);
-        makeFilterQuery(query, tags);
+        final BoolQueryBuilder query = QueryBuilders.boolQuery()
+            .must(keywordQuery(keywords));
+        addTermsFilter(query, "tagIds", tags);
+        addTermsFilter(query, "missionId", missions);
+        addTermsFilter(query, "levelId", levels);
+        addTermsFilter(query, "username", usernames);
+        addRangeFilter(query, start, end);
 
-        return query
+        return new NativeSearchQueryBuilder()
+            .withQuery(query)
             .withPageable(pageable)
             .build();
     }
 
-    private static List<String> convertToListString(List<Long> values) {
-        return values.stream()
-            .map(String::valueOf)
-            .collect(Collectors.toList());
-    }
-
-    private static void makeBoolQuery(
-        NativeSearchQueryBuilder query,
-        String keyword,
-        String username,
-        String levels,
-        String missions,
-        LocalDate start,
-        LocalDate end) {
-        query.withQuery(QueryBuilders.boolQuery()
-                            .must(multiField(keyword))
-                            .must(defaultField(username, "username"))
-                            .must(defaultField(levels, "levelId"))
-                            .must(defaultField(missions, "missionId"))
-                            .filter(rangeQuery(start, end))
-        );
+    private static void addTermsFilter(BoolQueryBuilder query, String field, Collection<?> values) {
+        if (Objects.isNull(values) || values.isEmpty()) {
+            return;
+        }
+        query.filter(QueryBuilders.termsQuery(field, values));
     }
 
-    private static QueryStringQueryBuilder multiField(String keyword) {
-        return QueryBuilders.queryStringQuery(keyword)
-            .field("title")
-            .field("content");
+    private static void addRangeFilter(BoolQueryBuilder query, LocalDate start, LocalDate end) {
+        if (Objects.isNull(start) && Objects.isNull(end)) {
+            return;
+        }
+        final RangeQueryBuilder range = QueryBuilders.rangeQuery("dateTime");
+        if (Objects.nonNull(start)) {
+            range.gte(start.format(DateTimeFormatter.BASIC_ISO_DATE));
+        }
+        if (Objects.nonNull(end)) {
+            range.lte(end.format(DateTimeFormatter.BASIC_ISO_DATE));
+        }
+        query.filter(range);
     }
 
-    private static QueryStringQueryBuilder defaultField(String query, String field) {
-        return QueryBuilders
-            .queryStringQuery(query)
-            .defaultField(field);
-    }
+    /**
+     * 검색어마다 하나의 should 절을 만든다.
+     * 한 단어는 ngram 하위 필드에서 검색어의 ngram 이 모두 있는 문서, 즉 검색어를 부분 문자열로 포함한 문서와 일치한다.
+     * ngram 보다 짧은 한 글자 검색어는 edge 하위 필드로 그 글자로 시작하는 단어를 찾고,
+     * 여러 단어는 형태소 분석한 본문 필드에서 구문으로 찾는다.
+     */
+    static QueryBuilder keywordQuery(List<String> keywords) {
+        final BoolQueryBuilder query = QueryBuilders.boolQuery();
+        for (String keyword : keywords) {
+            final String trimmed = keyword.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            query.should(matchKeyword(trimmed));
+        }
 
-    private static void makeFilterQuery(NativeSearchQueryBuilder query, List<Long> tags) {
-        if (Objects.isNull(tags) || tags.isEmpty()) {
-            return;
+        if (!query.hasClauses()) {
+            return QueryBuilders.matchAllQuery();
         }
-        query.withFilter(QueryBuilders.termsQuery("tagIds", tags));
+        return query.minimumShouldMatch(1);
     }
 
-    private static RangeQueryBuilder rangeQuery(LocalDate start, LocalDate end) {
-        if (Objects.isNull(start)) {
-            start = LocalDate.parse("19000101", DateTimeFormatter.BASIC_ISO_DATE);
+    private static MultiMatchQueryBuilder matchKeyword(String keyword) {
+        if (keyword.contains(" ")) {
+            return QueryBuilders.multiMatchQuery(keyword)
+                .field("title", TITLE_BOOST)
+                .field("content")
+                .type(MultiMatchQueryBuilder.Type.PHRASE);
         }
-        if (Objects.isNull(end)) {
-            end = LocalDate.parse("99991231", DateTimeFormatter.BASIC_ISO_DATE);
+        if (keyword.length() < MIN_NGRAM_LENGTH) {
+            return QueryBuilders.multiMatchQuery(keyword)
+                .field("title.edge", TITLE_BOOST)
+                .field("content.edge");
         }
-
-        return QueryBuilders.rangeQuery("dateTime")
-            .from(start)
-            .to(end);
+        return QueryBuilders.multiMatchQuery(keyword)
+            .field("title.ngram", TITLE_BOOST)
+            .field("content.ngram")
+            .operator(Operator.AND);
     }
 }
@@ -0,0 +1,50 @@
+package wooteco.prolog.studylog.domain;
+
+import java.time.LocalDateTime;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 검색 색인에 반영해야 하는 스터디로그 id. 스터디로그를 바꾼 트랜잭션 안에서 함께 기록된다.
+ * 어떤 변경인지는 담지 않고, relay 가 반영 시점의 스터디로그 상태를 읽어 색인하거나 지운다.
+ * relay 가 가져간 항목에는 claimToken 을 남기고 availableAt 을 임대 시간만큼 미뤄, 다른 서버가 같은 항목을 가져가지 않게 한다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(name = "studylog_index_outbox",
+    indexes = {
+        @Index(name = "IX_STUDYLOG_INDEX_OUTBOX_AVAILABLE_AT", columnList = "available_at"),
+        @Index(name = "IX_STUDYLOG_INDEX_OUTBOX_CLAIM_TOKEN", columnList = "claim_token")
+    })
+@Entity
+public class StudylogIndexOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long studylogId;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime availableAt;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(length = 36)
+    private String claimToken;
+}
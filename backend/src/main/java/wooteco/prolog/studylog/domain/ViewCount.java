@@ -2,6 +2,7 @@ package wooteco.prolog.studylog.domain;
 
 import lombok.*;
 
+import javax.persistence.Column;
 import javax.persistence.Embeddable;
 
 @Getter
@@ -10,9 +11,8 @@ import javax.persistence.Embeddable;
 @ToString
 @Embeddable
 public class ViewCount {
-    private int views;
 
-    public void increase() {
-        this.views++;
-    }
+    // 조회수는 ViewCountAccumulator 가 batch update 로만 반영하므로 엔티티 변경 감지로 덮어쓰지 않는다.
+    @Column(updatable = false)
+    private int views;
 }
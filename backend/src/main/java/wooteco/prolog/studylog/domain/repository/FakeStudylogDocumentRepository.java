@@ -1,138 +1,146 @@
 package wooteco.prolog.studylog.domain.repository;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
 import org.elasticsearch.index.query.QueryBuilder;
 import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.elasticsearch.core.query.NativeSearchQuery;
 import org.springframework.data.elasticsearch.core.query.Query;
 import org.springframework.stereotype.Repository;
 import wooteco.prolog.studylog.domain.StudylogDocument;
 import wooteco.support.fake.FakeDocumentRepository;
 
+/**
+ * local/test 환경에서 Elasticsearch 대신 {@link InMemoryStudylogDocumentIndex} 에 문서를 저장한다.
+ * Elasticsearch 쿼리 객체로 검색하면 {@link InMemoryStudylogQuery} 로 같은 조건을 옮겨 메모리 색인에서 찾는다.
+ */
 @Profile({"local", "test"})
 @Repository
 public class FakeStudylogDocumentRepository implements StudylogDocumentRepository,
     FakeDocumentRepository {
 
-    private static final List<StudylogDocument> STUDYLOG_DOCUMENTS = new ArrayList<>();
+    private final InMemoryStudylogDocumentIndex index = new InMemoryStudylogDocumentIndex();
+
+    public Page<StudylogDocument> search(List<String> keywords, List<Long> tags, List<Long> missions,
+                                         List<Long> levels, List<String> usernames,
+                                         LocalDate start, LocalDate end, Pageable pageable) {
+        return index.search(keywords, tags, missions, levels, usernames, start, end, pageable);
+    }
 
     @Override
     public <S extends StudylogDocument> S save(S studylogDocument) {
-        Optional<StudylogDocument> document = findById(studylogDocument.getId());
-        document.ifPresent(STUDYLOG_DOCUMENTS::remove);
-        STUDYLOG_DOCUMENTS.add(studylogDocument);
+        index.put(studylogDocument);
         return studylogDocument;
     }
 
     @Override
-    public void delete(StudylogDocument studylogDocument) {
-        STUDYLOG_DOCUMENTS.remove(studylogDocument);
+    public <S extends StudylogDocument> Iterable<S> saveAll(Iterable<S> studylogDocuments) {
+        List<S> saved = new ArrayList<>();
+        for (S studylogDocument : studylogDocuments) {
+            index.put(studylogDocument);
+            saved.add(studylogDocument);
+        }
+        return saved;
     }
 
     @Override
-    public void deleteAll(Iterable<? extends StudylogDocument> entities) {
-        List<Long> idsForRemoving = StreamSupport.stream(entities.spliterator(), false)
-            .map(it -> it.getId())
-            .collect(Collectors.toList());
-
-        STUDYLOG_DOCUMENTS.removeIf(it -> idsForRemoving.contains(it));
+    public <S extends StudylogDocument> S indexWithoutRefresh(S studylogDocument) {
+        return save(studylogDocument);
     }
 
     @Override
-    public void deleteAll() {
-        STUDYLOG_DOCUMENTS.clear();
+    public Optional<StudylogDocument> findById(Long id) {
+        return index.find(id);
     }
 
     @Override
-    public <S extends StudylogDocument> Iterable<S> saveAll(Iterable<S> inputStudylogDocuments) {
-        List<StudylogDocument> studylogDocumentsWithId = new ArrayList<>();
-        for (StudylogDocument studylogDocument : inputStudylogDocuments) {
-            STUDYLOG_DOCUMENTS.add(studylogDocument);
-            STUDYLOG_DOCUMENTS.add(studylogDocument);
-        }
-        return (Iterable<S>) studylogDocumentsWithId;
+    public boolean existsById(Long id) {
+        return index.find(id).isPresent();
     }
 
     @Override
-    public Optional<StudylogDocument> findById(Long id) {
-        for (StudylogDocument studylogDocument : STUDYLOG_DOCUMENTS) {
-            if (Objects.equals(studylogDocument.getId(), id)) {
-                return Optional.of(studylogDocument);
-            }
-        }
-        return Optional.empty();
+    public Iterable<StudylogDocument> findAll() {
+        return index.findAll();
     }
 
     @Override
-    public boolean existsById(Long aLong) {
-        return false;
+    public Iterable<StudylogDocument> findAll(Sort sort) {
+        return index.findAll();
     }
 
     @Override
-    public Iterable<StudylogDocument> findAll() {
-        return null;
+    public Page<StudylogDocument> findAll(Pageable pageable) {
+        return index.search(null, null, null, null, null, null, null, pageable);
     }
 
     @Override
-    public Iterable<StudylogDocument> findAllById(Iterable<Long> longs) {
-        return null;
+    public Iterable<StudylogDocument> findAllById(Iterable<Long> ids) {
+        List<StudylogDocument> results = new ArrayList<>();
+        for (Long id : ids) {
+            index.find(id).ifPresent(results::add);
+        }
+        return results;
     }
 
     @Override
     public long count() {
-        return 0;
+        return index.size();
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        index.remove(id);
     }
 
     @Override
-    public void deleteById(Long aLong) {
+    public void delete(StudylogDocument studylogDocument) {
+        index.remove(studylogDocument.getId());
+    }
 
+    @Override
+    public void deleteAll(Iterable<? extends StudylogDocument> studylogDocuments) {
+        for (StudylogDocument studylogDocument : studylogDocuments) {
+            index.remove(studylogDocument.getId());
+        }
     }
 
     @Override
-    public <S extends StudylogDocument> S indexWithoutRefresh(S entity) {
-        return null;
+    public void deleteAll() {
+        index.clear();
     }
 
     @Override
     public Iterable<StudylogDocument> search(QueryBuilder query) {
-        return null;
+        return search(query, Pageable.unpaged()).getContent();
     }
 
     @Override
     public Page<StudylogDocument> search(QueryBuilder query, Pageable pageable) {
-        return null;
+        return InMemoryStudylogQuery.from(query).searchIn(index, pageable);
     }
 
     @Override
     public Page<StudylogDocument> search(Query searchQuery) {
-        return null;
+        if (!(searchQuery instanceof NativeSearchQuery)) {
+            throw new UnsupportedOperationException("메모리 색인은 NativeSearchQuery 만 지원합니다.");
+        }
+        return search(((NativeSearchQuery) searchQuery).getQuery(), searchQuery.getPageable());
     }
 
     @Override
     public Page<StudylogDocument> searchSimilar(StudylogDocument entity, String[] fields,
                                                 Pageable pageable) {
-        return null;
+        return new PageImpl<>(new ArrayList<>(), pageable, 0);
     }
 
     @Override
     public void refresh() {
 
     }
-
-    @Override
-    public Iterable<StudylogDocument> findAll(Sort sort) {
-        return null;
-    }
-
-    @Override
-    public Page<StudylogDocument> findAll(Pageable pageable) {
-        return null;
-    }
 }
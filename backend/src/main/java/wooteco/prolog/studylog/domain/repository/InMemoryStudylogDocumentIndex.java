@@ -0,0 +1,334 @@
+package wooteco.prolog.studylog.domain.repository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import wooteco.prolog.studylog.domain.StudylogDocument;
+
+/**
+ * 클러스터 없이 검색을 돌려보기 위한 메모리 역색인.
+ * 문서마다 0부터 증가하는 문서 번호를 붙이고, 단어/태그/미션/세션/작성자별로 문서 번호를 int 배열 posting list 에 쌓는다.
+ * 수정과 삭제는 이전 문서 번호를 지워진 것으로 표시만 하고, 지워진 번호가 살아있는 문서보다 많아지면 색인을 다시 만든다.
+ * 읽기/쓰기 잠금으로 여러 스레드에서 동시에 사용할 수 있다.
+ */
+public class InMemoryStudylogDocumentIndex {
+
+    private static final int MIN_COMPACTION_SIZE = 1024;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final List<StudylogDocument> documents = new ArrayList<>();
+    private final BitSet live = new BitSet();
+    private final Map<Long, Integer> docNumbers = new HashMap<>();
+    private final Map<String, IntPostingList> terms = new HashMap<>();
+    private final Map<Long, IntPostingList> tags = new HashMap<>();
+    private final Map<Long, IntPostingList> missions = new HashMap<>();
+    private final Map<Long, IntPostingList> levels = new HashMap<>();
+    private final Map<String, IntPostingList> usernames = new HashMap<>();
+
+    /**
+     * Elasticsearch standard analyzer 처럼 글자와 숫자가 아닌 문자로 나누고 소문자로 바꾼다.
+     */
+    public static List<String> tokenize(String text) {
+        final List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+
+        int start = -1;
+        for (int i = 0; i < text.length(); i++) {
+            if (Character.isLetterOrDigit(text.charAt(i))) {
+                if (start < 0) {
+                    start = i;
+                }
+                continue;
+            }
+            if (start >= 0) {
+                tokens.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+                start = -1;
+            }
+        }
+        if (start >= 0) {
+            tokens.add(text.substring(start).toLowerCase(Locale.ROOT));
+        }
+        return tokens;
+    }
+
+    public void put(StudylogDocument document) {
+        withLock(lock.writeLock(), () -> {
+            removeInternal(document.getId());
+            addInternal(document);
+            return null;
+        });
+    }
+
+    public void remove(Long id) {
+        withLock(lock.writeLock(), () -> {
+            removeInternal(id);
+            return null;
+        });
+    }
+
+    public void clear() {
+        withLock(lock.writeLock(), () -> {
+            clearInternal();
+            return null;
+        });
+    }
+
+    public Optional<StudylogDocument> find(Long id) {
+        return withLock(lock.readLock(), () -> Optional.ofNullable(docNumbers.get(id))
+            .map(documents::get));
+    }
+
+    public List<StudylogDocument> findAll() {
+        return withLock(lock.readLock(), () -> {
+            final List<StudylogDocument> results = new ArrayList<>(docNumbers.size());
+            for (int doc = live.nextSetBit(0); doc >= 0; doc = live.nextSetBit(doc + 1)) {
+                results.add(documents.get(doc));
+            }
+            results.sort(Comparator.comparing(StudylogDocument::getId));
+            return results;
+        });
+    }
+
+    public int size() {
+        return withLock(lock.readLock(), docNumbers::size);
+    }
+
+    /**
+     * 검색어마다 title/content 에서 일치하는 문서를 OR 로 모으고, 나머지 조건은 모두 AND 로 거른다.
+     * 한 단어 검색어는 그 문자열을 포함하는 단어가 있는 문서, 여러 단어 검색어는 단어가 연속으로 나오는 문서와 일치한다.
+     * 결과는 최신 글(id 역순)부터 pageable 로 자른다.
+     */
+    public Page<StudylogDocument> search(List<String> keywords, List<Long> tagIds, List<Long> missionIds,
+                                         List<Long> levelIds, List<String> usernameValues,
+                                         LocalDate start, LocalDate end, Pageable pageable) {
+        return withLock(lock.readLock(), () -> {
+            final BitSet matched = matchKeywords(keywords);
+            matched.and(live);
+            filter(matched, tags, tagIds);
+            filter(matched, missions, missionIds);
+            filter(matched, levels, levelIds);
+            filter(matched, usernames, usernameValues);
+
+            final List<StudylogDocument> results = new ArrayList<>(matched.cardinality());
+            for (int doc = matched.nextSetBit(0); doc >= 0; doc = matched.nextSetBit(doc + 1)) {
+                final StudylogDocument document = documents.get(doc);
+                if (isInRange(document, start, end)) {
+                    results.add(document);
+                }
+            }
+            results.sort(Comparator.comparing(StudylogDocument::getId).reversed());
+            return toPage(results, pageable);
+        });
+    }
+
+    private void addInternal(StudylogDocument document) {
+        final int doc = documents.size();
+        documents.add(document);
+        live.set(doc);
+        docNumbers.put(document.getId(), doc);
+
+        final List<String> tokens = tokenize(document.getTitle());
+        tokens.addAll(tokenize(document.getContent()));
+        for (String token : tokens) {
+            terms.computeIfAbsent(token, key -> new IntPostingList()).add(doc);
+        }
+        if (document.getTagIds() != null) {
+            document.getTagIds().forEach(tagId -> tags.computeIfAbsent(tagId, key -> new IntPostingList()).add(doc));
+        }
+        addIfPresent(missions, document.getMissionId(), doc);
+        addIfPresent(levels, document.getLevelId(), doc);
+        addIfPresent(usernames, document.getUsername(), doc);
+    }
+
+    private <K> void addIfPresent(Map<K, IntPostingList> postings, K key, int doc) {
+        if (key != null) {
+            postings.computeIfAbsent(key, it -> new IntPostingList()).add(doc);
+        }
+    }
+
+    private void removeInternal(Long id) {
+        final Integer doc = docNumbers.remove(id);
+        if (doc == null) {
+            return;
+        }
+        live.clear(doc);
+        documents.set(doc, null);
+
+        final int deleted = documents.size() - docNumbers.size();
+        if (deleted > MIN_COMPACTION_SIZE && deleted > docNumbers.size()) {
+            compact();
+        }
+    }
+
+    private void compact() {
+        final List<StudylogDocument> remaining = new ArrayList<>(docNumbers.size());
+        for (int doc = live.nextSetBit(0); doc >= 0; doc = live.nextSetBit(doc + 1)) {
+            remaining.add(documents.get(doc));
+        }
+        clearInternal();
+        remaining.forEach(this::addInternal);
+    }
+
+    private void clearInternal() {
+        documents.clear();
+        live.clear();
+        docNumbers.clear();
+        terms.clear();
+        tags.clear();
+        missions.clear();
+        levels.clear();
+        usernames.clear();
+    }
+
+    private BitSet matchKeywords(List<String> keywords) {
+        final BitSet matched = new BitSet(documents.size());
+        final List<List<String>> queries = new ArrayList<>();
+        if (keywords != null) {
+            for (String keyword : keywords) {
+                final List<String> tokens = tokenize(keyword);
+                if (!tokens.isEmpty()) {
+                    queries.add(tokens);
+                }
+            }
+        }
+        if (queries.isEmpty()) {
+            matched.set(0, documents.size());
+            return matched;
+        }
+
+        for (List<String> tokens : queries) {
+            if (tokens.size() == 1) {
+                matched.or(containing(tokens.get(0)));
+                continue;
+            }
+            matched.or(phrase(tokens));
+        }
+        return matched;
+    }
+
+    private BitSet containing(String token) {
+        final BitSet result = new BitSet(documents.size());
+        terms.forEach((term, postings) -> {
+            if (term.contains(token)) {
+                postings.orInto(result);
+            }
+        });
+        return result;
+    }
+
+    private BitSet phrase(List<String> tokens) {
+        BitSet candidates = null;
+        for (String token : tokens) {
+            final IntPostingList postings = terms.get(token);
+            if (postings == null) {
+                return new BitSet();
+            }
+            final BitSet docs = new BitSet(documents.size());
+            postings.orInto(docs);
+            if (candidates == null) {
+                candidates = docs;
+            } else {
+                candidates.and(docs);
+            }
+        }
+
+        final BitSet result = new BitSet(documents.size());
+        for (int doc = candidates.nextSetBit(0); doc >= 0; doc = candidates.nextSetBit(doc + 1)) {
+            final StudylogDocument document = documents.get(doc);
+            if (document != null && (containsSequence(tokenize(document.getTitle()), tokens)
+                || containsSequence(tokenize(document.getContent()), tokens))) {
+                result.set(doc);
+            }
+        }
+        return result;
+    }
+
+    private boolean containsSequence(List<String> tokens, List<String> sequence) {
+        return Collections.indexOfSubList(tokens, sequence) >= 0;
+    }
+
+    private <K> void filter(BitSet matched, Map<K, IntPostingList> postings, Collection<K> values) {
+        if (values == null || values.isEmpty()) {
+            return;
+        }
+        final BitSet allowed = new BitSet(documents.size());
+        for (K value : values) {
+            final IntPostingList postingList = postings.get(value);
+            if (postingList != null) {
+                postingList.orInto(allowed);
+            }
+        }
+        matched.and(allowed);
+    }
+
+    private boolean isInRange(StudylogDocument document, LocalDate start, LocalDate end) {
+        if (start == null && end == null) {
+            return true;
+        }
+        if (document.getDateTime() == null) {
+            return false;
+        }
+        final LocalDate date = document.getDateTime().toLocalDate();
+        return (start == null || !date.isBefore(start)) && (end == null || !date.isAfter(end));
+    }
+
+    private Page<StudylogDocument> toPage(List<StudylogDocument> results, Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(results);
+        }
+        final int from = (int) Math.min(pageable.getOffset(), results.size());
+        final int to = Math.min(from + pageable.getPageSize(), results.size());
+        return new PageImpl<>(new ArrayList<>(results.subList(from, to)), pageable, results.size());
+    }
+
+    private <T> T withLock(Lock lock, Supplier<T> action) {
+        lock.lock();
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 오름차순으로만 추가되는 문서 번호 목록. 박싱 없이 int 배열에 담는다.
+     */
+    private static class IntPostingList {
+
+        private int[] docs = new int[4];
+        private int size;
+
+        private void add(int doc) {
+            if (size > 0 && docs[size - 1] == doc) {
+                return;
+            }
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+            }
+            docs[size++] = doc;
+        }
+
+        private void orInto(BitSet target) {
+            for (int i = 0; i < size; i++) {
+                target.set(docs[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package wooteco.prolog.studylog.domain.repository;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import org.elasticsearch.index.query.BoolQueryBuilder;
+import org.elasticsearch.index.query.MatchAllQueryBuilder;
+import org.elasticsearch.index.query.MultiMatchQueryBuilder;
+import org.elasticsearch.index.query.QueryBuilder;
+import org.elasticsearch.index.query.RangeQueryBuilder;
+import org.elasticsearch.index.query.TermsQueryBuilder;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import wooteco.prolog.studylog.domain.StudylogDocument;
+
+/**
+ * {@link wooteco.prolog.studylog.domain.StudylogDocumentQueryBuilder} 가 만드는 모양의 Elasticsearch 쿼리를
+ * {@link InMemoryStudylogDocumentIndex#search} 의 조건으로 옮긴다.
+ * must 절의 multi_match 는 검색어로, filter 절의 terms/range 는 태그/미션/세션/작성자/기간 조건으로 바꾸고,
+ * 그 밖의 쿼리는 메모리 색인이 흉내낼 수 없으므로 UnsupportedOperationException 을 던진다.
+ */
+class InMemoryStudylogQuery {
+
+    private final List<String> keywords = new ArrayList<>();
+    private final List<Long> tags = new ArrayList<>();
+    private final List<Long> missions = new ArrayList<>();
+    private final List<Long> levels = new ArrayList<>();
+    private final List<String> usernames = new ArrayList<>();
+    private LocalDate start;
+    private LocalDate end;
+
+    private InMemoryStudylogQuery() {
+    }
+
+    static InMemoryStudylogQuery from(QueryBuilder query) {
+        final InMemoryStudylogQuery result = new InMemoryStudylogQuery();
+        result.addQuery(query);
+        return result;
+    }
+
+    Page<StudylogDocument> searchIn(InMemoryStudylogDocumentIndex index, Pageable pageable) {
+        return index.search(keywords, tags, missions, levels, usernames, start, end, pageable);
+    }
+
+    private void addQuery(QueryBuilder query) {
+        if (Objects.isNull(query) || query instanceof MatchAllQueryBuilder) {
+            return;
+        }
+        if (query instanceof MultiMatchQueryBuilder) {
+            keywords.add(String.valueOf(((MultiMatchQueryBuilder) query).value()));
+            return;
+        }
+        if (query instanceof BoolQueryBuilder) {
+            addBoolQuery((BoolQueryBuilder) query);
+            return;
+        }
+        throw unsupported(query);
+    }
+
+    private void addBoolQuery(BoolQueryBuilder query) {
+        if (!query.mustNot().isEmpty()) {
+            throw unsupported(query);
+        }
+        query.must().forEach(this::addQuery);
+        query.should().forEach(this::addKeyword);
+        query.filter().forEach(this::addFilter);
+    }
+
+    private void addKeyword(QueryBuilder query) {
+        if (!(query instanceof MultiMatchQueryBuilder)) {
+            throw unsupported(query);
+        }
+        keywords.add(String.valueOf(((MultiMatchQueryBuilder) query).value()));
+    }
+
+    private void addFilter(QueryBuilder query) {
+        if (query instanceof TermsQueryBuilder) {
+            addTermsFilter((TermsQueryBuilder) query);
+            return;
+        }
+        if (query instanceof RangeQueryBuilder && "dateTime".equals(((RangeQueryBuilder) query).fieldName())) {
+            addRangeFilter((RangeQueryBuilder) query);
+            return;
+        }
+        throw unsupported(query);
+    }
+
+    private void addTermsFilter(TermsQueryBuilder query) {
+        final List<Object> values = query.values();
+        switch (query.fieldName()) {
+            case "tagIds":
+                values.forEach(value -> tags.add(toLong(value)));
+                return;
+            case "missionId":
+                values.forEach(value -> missions.add(toLong(value)));
+                return;
+            case "levelId":
+                values.forEach(value -> levels.add(toLong(value)));
+                return;
+            case "username":
+                values.forEach(value -> usernames.add(String.valueOf(value)));
+                return;
+            default:
+                throw unsupported(query);
+        }
+    }
+
+    private void addRangeFilter(RangeQueryBuilder query) {
+        if (Objects.nonNull(query.from())) {
+            final LocalDate from = toDate(query.from());
+            start = query.includeLower() ? from : from.plusDays(1);
+        }
+        if (Objects.nonNull(query.to())) {
+            final LocalDate to = toDate(query.to());
+            end = query.includeUpper() ? to : to.minusDays(1);
+        }
+    }
+
+    private Long toLong(Object value) {
+        if (value instanceof Number) {
+            return ((Number) value).longValue();
+        }
+        return Long.valueOf(String.valueOf(value));
+    }
+
+    private LocalDate toDate(Object value) {
+        return LocalDate.parse(String.valueOf(value), DateTimeFormatter.BASIC_ISO_DATE);
+    }
+
+    private UnsupportedOperationException unsupported(QueryBuilder query) {
+        return new UnsupportedOperationException("메모리 색인이 지원하지 않는 쿼리입니다: " + query.getName());
+    }
+}
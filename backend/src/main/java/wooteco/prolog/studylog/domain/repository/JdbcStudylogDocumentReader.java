@@ -0,0 +1,102 @@
+package wooteco.prolog.studylog.domain.repository;
+
+import static java.util.stream.Collectors.joining;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import wooteco.prolog.studylog.domain.StudylogDocument;
+
+/**
+ * 재색인할 때 엔티티를 거치지 않고 검색 문서에 필요한 컬럼만 id 순서의 청크로 읽어온다.
+ * 청크마다 쿼리가 끝나므로 전체 스터디로그 수와 상관없이 한 청크 분량만 메모리에 올라간다.
+ */
+@Component
+@RequiredArgsConstructor
+public class JdbcStudylogDocumentReader {
+
+    private static final String SELECT_DOCUMENT_SQL = "select s.id, s.title, s.content, s.mission_id, s.session_id, "
+        + "m.username, s.updated_at from studylog s join member m on s.member_id = m.id ";
+    private static final String SELECT_CHUNK_SQL = SELECT_DOCUMENT_SQL
+        + "where s.deleted = false and s.id > ? order by s.id limit ?";
+    private static final String COUNT_SQL = "select count(*) from studylog where deleted = false";
+    private static final String SELECT_UPDATED_IDS_SQL = "select id from studylog where updated_at >= ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public long count() {
+        final Long count = jdbcTemplate.queryForObject(COUNT_SQL, Long.class);
+        return count == null ? 0L : count;
+    }
+
+    public List<StudylogDocument> findChunkAfter(long lastId, int size) {
+        final List<StudylogDocument> documents = jdbcTemplate.query(SELECT_CHUNK_SQL, this::toDocument,
+            lastId, size);
+        return withTagIds(documents);
+    }
+
+    /**
+     * 삭제된 스터디로그를 포함해 주어진 시각 이후 수정된 id 를 조회한다.
+     */
+    public List<Long> findIdsUpdatedSince(LocalDateTime since) {
+        return jdbcTemplate.queryForList(SELECT_UPDATED_IDS_SQL, Long.class, Timestamp.valueOf(since));
+    }
+
+    public List<StudylogDocument> findAllByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final String sql = SELECT_DOCUMENT_SQL + "where s.deleted = false and s.id in (" + placeholders(ids.size())
+            + ") order by s.id";
+        final List<StudylogDocument> documents = jdbcTemplate.query(sql, this::toDocument,
+            ids.toArray());
+        return withTagIds(documents);
+    }
+
+    private List<StudylogDocument> withTagIds(List<StudylogDocument> documents) {
+        if (documents.isEmpty()) {
+            return documents;
+        }
+
+        final Object[] studylogIds = documents.stream()
+            .map(StudylogDocument::getId)
+            .toArray();
+        final Map<Long, List<Long>> tagIds = new HashMap<>();
+        jdbcTemplate.query("select studylog_id, tag_id from studylog_tag where studylog_id in ("
+                + placeholders(studylogIds.length) + ")",
+            rs -> {
+                tagIds.computeIfAbsent(rs.getLong("studylog_id"), key -> new ArrayList<>())
+                    .add(rs.getLong("tag_id"));
+            },
+            studylogIds);
+
+        final List<StudylogDocument> results = new ArrayList<>(documents.size());
+        for (StudylogDocument document : documents) {
+            results.add(new StudylogDocument(document.getId(), document.getTitle(), document.getContent(),
+                tagIds.getOrDefault(document.getId(), new ArrayList<>()), document.getMissionId(),
+                document.getLevelId(), document.getUsername(), document.getDateTime()));
+        }
+        return results;
+    }
+
+    private StudylogDocument toDocument(ResultSet rs, int rowNum) throws SQLException {
+        final Timestamp updatedAt = rs.getTimestamp("updated_at");
+        return new StudylogDocument(rs.getLong("id"), rs.getString("title"), rs.getString("content"), null,
+            rs.getObject("mission_id", Long.class), rs.getObject("session_id", Long.class),
+            rs.getString("username"), updatedAt == null ? null : updatedAt.toLocalDateTime());
+    }
+
+    private String placeholders(int size) {
+        return Collections.nCopies(size, "?").stream()
+            .collect(joining(", "));
+    }
+}
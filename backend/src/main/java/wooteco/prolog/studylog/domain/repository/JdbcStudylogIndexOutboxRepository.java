@@ -0,0 +1,129 @@
+package wooteco.prolog.studylog.domain.repository;
+
+import static java.util.stream.Collectors.joining;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import wooteco.prolog.studylog.domain.StudylogIndexOutbox;
+
+@Component
+@RequiredArgsConstructor
+public class JdbcStudylogIndexOutboxRepository {
+
+    private static final String INSERT_SQL = "insert into studylog_index_outbox"
+        + "(studylog_id, attempts, available_at, created_at) values (?, 0, ?, ?)";
+    private static final String SELECT_AVAILABLE_IDS_SQL = "select id from studylog_index_outbox "
+        + "where available_at <= ? order by id limit ?";
+    private static final String SELECT_CLAIMED_SQL = "select id, studylog_id, attempts, available_at, created_at, "
+        + "claim_token from studylog_index_outbox where claim_token = ? order by id";
+    private static final String POSTPONE_SQL = "update studylog_index_outbox "
+        + "set attempts = attempts + 1, available_at = ? where id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void append(Collection<Long> studylogIds, LocalDateTime now) {
+        final List<Long> ids = new ArrayList<>(studylogIds);
+        final Timestamp timestamp = Timestamp.valueOf(now);
+        jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setLong(1, ids.get(i));
+                ps.setTimestamp(2, timestamp);
+                ps.setTimestamp(3, timestamp);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return ids.size();
+            }
+        });
+    }
+
+    /**
+     * 지금 처리할 수 있는 항목을 id 순으로 최대 size 개 가져간다.
+     * 가져간 항목은 새 claim token 을 남기고 availableAt 을 leaseUntil 로 미룬다.
+     * 갱신 조건에 availableAt 을 다시 걸어, 여러 서버가 같은 항목을 골랐더라도 먼저 갱신한 한 곳만 가져간다.
+     * 가져간 서버가 반영도 실패 기록도 못 하고 멈추면 leaseUntil 이 지난 뒤 다른 서버가 다시 가져간다.
+     */
+    public List<StudylogIndexOutbox> claim(LocalDateTime now, LocalDateTime leaseUntil, int size) {
+        final List<Long> ids = jdbcTemplate.queryForList(SELECT_AVAILABLE_IDS_SQL, Long.class,
+            Timestamp.valueOf(now), size);
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        final String claimToken = UUID.randomUUID().toString();
+        final List<Object> args = new ArrayList<>();
+        args.add(claimToken);
+        args.add(Timestamp.valueOf(leaseUntil));
+        args.add(Timestamp.valueOf(now));
+        args.addAll(ids);
+        jdbcTemplate.update("update studylog_index_outbox set claim_token = ?, available_at = ? "
+            + "where available_at <= ? and id in (" + placeholders(ids.size()) + ")", args.toArray());
+
+        return jdbcTemplate.query(SELECT_CLAIMED_SQL,
+            (rs, rowNum) -> new StudylogIndexOutbox(
+                rs.getLong("id"),
+                rs.getLong("studylog_id"),
+                rs.getInt("attempts"),
+                rs.getTimestamp("available_at").toLocalDateTime(),
+                rs.getTimestamp("created_at").toLocalDateTime(),
+                rs.getString("claim_token")),
+            claimToken);
+    }
+
+    /**
+     * 읽어서 반영한 항목만 지운다. auto increment id 는 커밋이 아니라 insert 시점에 정해지므로,
+     * 더 작은 id 를 받고 늦게 커밋된 항목을 id 범위로 지우면 그 변경이 색인되지 않은 채 사라진다.
+     */
+    public void deleteAllByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update("delete from studylog_index_outbox where id in ("
+            + placeholders(ids.size()) + ")", ids.toArray());
+    }
+
+    public void postpone(List<Long> ids, List<LocalDateTime> availableAts) {
+        jdbcTemplate.batchUpdate(POSTPONE_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setTimestamp(1, Timestamp.valueOf(availableAts.get(i)));
+                ps.setLong(2, ids.get(i));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return ids.size();
+            }
+        });
+    }
+
+    public long count() {
+        final Long count = jdbcTemplate.queryForObject("select count(*) from studylog_index_outbox", Long.class);
+        return count == null ? 0L : count;
+    }
+
+    public Optional<LocalDateTime> findOldestCreatedAt() {
+        final Timestamp oldest = jdbcTemplate.queryForObject(
+            "select min(created_at) from studylog_index_outbox", Timestamp.class);
+        return Optional.ofNullable(oldest).map(Timestamp::toLocalDateTime);
+    }
+
+    private String placeholders(int size) {
+        return Collections.nCopies(size, "?").stream()
+            .collect(joining(", "));
+    }
+}
@@ -0,0 +1,110 @@
+package wooteco.prolog.studylog.domain.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import wooteco.prolog.studylog.domain.Studylog;
+import wooteco.prolog.studylog.domain.StudylogTag;
+
+/**
+ * 여러 스터디로그를 한 번에 등록할 때 사용한다.
+ * IDENTITY 전략이라 JPA 로는 batch insert 가 되지 않으므로 JDBC batch 로 넣고 생성된 id 를 돌려준다.
+ * MySQL 드라이버는 rewriteBatchedStatements 가 켜져 있어야 batch 를 여러 행 insert 한 번으로 보내므로,
+ * dev/prod 설정의 hikari data-source-properties 에 켜 둔다.
+ */
+@Component
+@RequiredArgsConstructor
+public class JdbcStudylogRepository {
+
+    private static final String INSERT_STUDYLOG_SQL = "insert into studylog"
+        + "(member_id, title, content, session_id, mission_id, views, like_count, deleted, created_at, updated_at) "
+        + "values (?, ?, ?, ?, ?, 0, 0, false, ?, ?)";
+    private static final String INSERT_STUDYLOG_TAG_SQL = "insert into studylog_tag(studylog_id, tag_id) values (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<Long> insertAll(List<Studylog> studylogs, LocalDateTime now) {
+        final List<Long> ids = insertStudylogs(studylogs, Timestamp.valueOf(now));
+        insertStudylogTags(studylogs, ids);
+        return ids;
+    }
+
+    private List<Long> insertStudylogs(List<Studylog> studylogs, Timestamp now) {
+        return jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(INSERT_STUDYLOG_SQL,
+                Statement.RETURN_GENERATED_KEYS)) {
+                for (Studylog studylog : studylogs) {
+                    ps.setLong(1, studylog.getMember().getId());
+                    ps.setString(2, studylog.getTitle());
+                    ps.setString(3, studylog.getContent());
+                    setNullableId(ps, 4, studylog.getSession() == null ? null : studylog.getSession().getId());
+                    setNullableId(ps, 5, studylog.getMission() == null ? null : studylog.getMission().getId());
+                    ps.setTimestamp(6, now);
+                    ps.setTimestamp(7, now);
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+                return generatedKeys(ps, studylogs.size());
+            }
+        });
+    }
+
+    private void setNullableId(PreparedStatement ps, int index, Long id) throws SQLException {
+        if (id == null) {
+            ps.setNull(index, Types.BIGINT);
+            return;
+        }
+        ps.setLong(index, id);
+    }
+
+    private List<Long> generatedKeys(PreparedStatement ps, int expectedSize) throws SQLException {
+        final List<Long> ids = new ArrayList<>(expectedSize);
+        try (ResultSet keys = ps.getGeneratedKeys()) {
+            while (keys.next()) {
+                ids.add(keys.getLong(1));
+            }
+        }
+        if (ids.size() != expectedSize) {
+            throw new IllegalStateException("생성된 스터디로그 id 수가 등록한 개수와 다릅니다.");
+        }
+        return ids;
+    }
+
+    private void insertStudylogTags(List<Studylog> studylogs, List<Long> ids) {
+        final List<Long> studylogIds = new ArrayList<>();
+        final List<Long> tagIds = new ArrayList<>();
+        for (int i = 0; i < studylogs.size(); i++) {
+            for (StudylogTag studylogTag : studylogs.get(i).getStudylogTags()) {
+                studylogIds.add(ids.get(i));
+                tagIds.add(studylogTag.getTag().getId());
+            }
+        }
+        if (studylogIds.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_STUDYLOG_TAG_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setLong(1, studylogIds.get(i));
+                ps.setLong(2, tagIds.get(i));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return studylogIds.size();
+            }
+        });
+    }
+}
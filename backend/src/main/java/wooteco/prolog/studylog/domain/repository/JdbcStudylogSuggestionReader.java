@@ -0,0 +1,80 @@
+package wooteco.prolog.studylog.domain.repository;
+
+import static java.util.stream.Collectors.joining;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 자동 완성 색인을 만들 때 필요한 제목, 작성자, 인기도, 태그 id 만 id 순서의 청크로 읽어온다.
+ */
+@Component
+@RequiredArgsConstructor
+public class JdbcStudylogSuggestionReader {
+
+    private static final String SELECT_SOURCE_SQL = "select s.id, s.title, m.username, s.views, s.like_count "
+        + "from studylog s join member m on s.member_id = m.id ";
+    private static final String SELECT_CHUNK_SQL = SELECT_SOURCE_SQL
+        + "where s.deleted = false and s.id > ? order by s.id limit ?";
+    private static final String SELECT_BY_ID_SQL = SELECT_SOURCE_SQL + "where s.deleted = false and s.id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<Source> findChunkAfter(long lastId, int size) {
+        return withTagIds(jdbcTemplate.query(SELECT_CHUNK_SQL, this::toSource, lastId, size));
+    }
+
+    public Optional<Source> findById(Long id) {
+        return withTagIds(jdbcTemplate.query(SELECT_BY_ID_SQL, this::toSource, id)).stream()
+            .findFirst();
+    }
+
+    private List<Source> withTagIds(List<Source> sources) {
+        if (sources.isEmpty()) {
+            return sources;
+        }
+
+        final Map<Long, Source> byId = new HashMap<>();
+        sources.forEach(source -> byId.put(source.getId(), source));
+        jdbcTemplate.query("select studylog_id, tag_id from studylog_tag where studylog_id in ("
+                + placeholders(sources.size()) + ")",
+            rs -> {
+                byId.get(rs.getLong("studylog_id")).tagIds.add(rs.getLong("tag_id"));
+            },
+            byId.keySet().toArray());
+        return sources;
+    }
+
+    private Source toSource(ResultSet rs, int rowNum) throws SQLException {
+        return new Source(rs.getLong("id"), rs.getString("title"), rs.getString("username"),
+            rs.getLong("views"), rs.getLong("like_count"), new ArrayList<>());
+    }
+
+    private String placeholders(int size) {
+        return Collections.nCopies(size, "?").stream()
+            .collect(joining(", "));
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Source {
+
+        private final Long id;
+        private final String title;
+        private final String username;
+        private final long views;
+        private final long likeCount;
+        private final List<Long> tagIds;
+    }
+}
@@ -0,0 +1,33 @@
+package wooteco.prolog.studylog.domain.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class JdbcStudylogViewCountRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public int[] addViews(List<Long> studylogIds, List<Long> deltas) {
+        String sql = "update studylog set views = views + ? where id = ?";
+
+        return jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setLong(1, deltas.get(i));
+                ps.setLong(2, studylogIds.get(i));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return studylogIds.size();
+            }
+        });
+    }
+}
@@ -0,0 +1,19 @@
+package wooteco.prolog.studylog.domain.repository;
+
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import wooteco.prolog.studylog.domain.Like;
+
+public interface LikeRepository extends JpaRepository<Like, Long> {
+
+    boolean existsByStudylogIdAndMemberId(Long studylogId, Long memberId);
+
+    @Modifying
+    @Query("delete from Like l where l.studylog.id = :studylogId and l.memberId = :memberId")
+    int deleteByStudylogIdAndMemberId(Long studylogId, Long memberId);
+
+    @Query("select l.studylog.id from Like l where l.memberId = :memberId")
+    List<Long> findStudylogIdsByMemberId(Long memberId);
+}
@@ -0,0 +1,16 @@
+package wooteco.prolog.studylog.domain.repository;
+
+import java.time.LocalDateTime;
+
+public interface PopularStudylogCandidate {
+
+    Long getId();
+
+    String getSessionName();
+
+    LocalDateTime getCreatedAt();
+
+    Integer getViews();
+
+    Integer getLikeCount();
+}
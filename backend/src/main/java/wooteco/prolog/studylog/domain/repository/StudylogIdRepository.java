@@ -0,0 +1,17 @@
+package wooteco.prolog.studylog.domain.repository;
+
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import wooteco.prolog.studylog.domain.Studylog;
+
+/**
+ * 엔티티 대신 id 만 조회하고 count 쿼리를 따로 날리지 않는 목록 조회.
+ * 조회한 id 는 StudylogListHydrator 가 연관 데이터와 함께 채운다.
+ */
+public interface StudylogIdRepository {
+
+    List<Long> findIdsBefore(Specification<Studylog> specification, Long lastId, int limit);
+
+    List<Long> findIds(Specification<Studylog> specification, Pageable pageable);
+}
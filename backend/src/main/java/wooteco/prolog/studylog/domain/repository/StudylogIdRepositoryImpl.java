@@ -0,0 +1,83 @@
+package wooteco.prolog.studylog.domain.repository;
+
+import static java.util.stream.Collectors.toList;
+import static org.springframework.data.jpa.repository.query.QueryUtils.toOrders;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.persistence.EntityManager;
+import javax.persistence.Tuple;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Order;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Selection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import wooteco.prolog.studylog.domain.Studylog;
+
+@RequiredArgsConstructor
+public class StudylogIdRepositoryImpl implements StudylogIdRepository {
+
+    private final EntityManager entityManager;
+
+    /**
+     * 필터 조건에 id &lt; lastId 를 더해 id 내림차순으로 limit 개의 id 만 조회한다.
+     * count 쿼리와 OFFSET 스캔이 없어서 몇 번째 페이지든 같은 비용이 든다.
+     */
+    @Override
+    public List<Long> findIdsBefore(Specification<Studylog> specification, Long lastId, int limit) {
+        final CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        final CriteriaQuery<Long> query = builder.createQuery(Long.class);
+        final Root<Studylog> root = query.from(Studylog.class);
+
+        where(query, specification.and(StudylogSpecification.findByIdLessThan(lastId)), root, builder);
+        query.select(root.get("id"))
+            .distinct(true)
+            .orderBy(builder.desc(root.get("id")));
+
+        return entityManager.createQuery(query)
+            .setMaxResults(limit)
+            .getResultList();
+    }
+
+    /**
+     * offset 페이지의 id 만 조회한다. 전체 개수는 StudylogCountCache 가 따로 관리한다.
+     * DISTINCT 와 함께 쓰는 ORDER BY 컬럼은 SELECT 에 있어야 하므로 정렬 컬럼도 함께 조회하고 id 만 꺼낸다.
+     */
+    @Override
+    public List<Long> findIds(Specification<Studylog> specification, Pageable pageable) {
+        final CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        final CriteriaQuery<Tuple> query = builder.createTupleQuery();
+        final Root<Studylog> root = query.from(Studylog.class);
+
+        where(query, specification, root, builder);
+        final List<Order> orders = toOrders(pageable.getSort(), root, builder);
+        final List<Selection<?>> selections = new ArrayList<>();
+        selections.add(root.get("id"));
+        for (Order order : orders) {
+            selections.add(order.getExpression());
+        }
+        query.multiselect(selections)
+            .distinct(true)
+            .orderBy(orders);
+
+        return entityManager.createQuery(query)
+            .setFirstResult((int) pageable.getOffset())
+            .setMaxResults(pageable.getPageSize())
+            .getResultList()
+            .stream()
+            .map(tuple -> tuple.get(0, Long.class))
+            .collect(toList());
+    }
+
+    private void where(CriteriaQuery<?> query, Specification<Studylog> specification, Root<Studylog> root,
+                       CriteriaBuilder builder) {
+        final Predicate predicate = specification.toPredicate(root, query, builder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package wooteco.prolog.studylog.domain.repository;
+
+import java.time.LocalDateTime;
+import wooteco.prolog.member.domain.Role;
+
+/**
+ * 목록 응답을 캐시에서 꺼낼 때 필요한 버전(updatedAt)과, 수정 시각과 무관하게 바뀌는 조회수/좋아요 수/작성자 정보.
+ */
+public interface StudylogListVersion {
+
+    Long getId();
+
+    LocalDateTime getUpdatedAt();
+
+    Integer getViews();
+
+    Integer getLikeCount();
+
+    Boolean getDeleted();
+
+    Long getMemberId();
+
+    String getUsername();
+
+    String getNickname();
+
+    Role getRole();
+
+    String getImageUrl();
+}
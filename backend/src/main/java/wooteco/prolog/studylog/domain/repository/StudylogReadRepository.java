@@ -1,6 +1,7 @@
 package wooteco.prolog.studylog.domain.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import wooteco.prolog.studylog.domain.StudylogRead;
 
 import java.util.List;
@@ -12,4 +13,7 @@ public interface StudylogReadRepository extends JpaRepository<StudylogRead, Long
     Optional<StudylogRead> findByMemberIdAndStudylogId(Long memberId, Long studylogId);
 
     List<StudylogRead> findByMemberId(Long memberId);
+
+    @Query("select sr.studylog.id from StudylogRead sr where sr.member.id = :memberId")
+    List<Long> findStudylogIdsByMemberId(Long memberId);
 }
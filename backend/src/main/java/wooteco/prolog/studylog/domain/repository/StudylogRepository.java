@@ -6,11 +6,13 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import wooteco.prolog.member.domain.Member;
 import wooteco.prolog.studylog.domain.Studylog;
 
-public interface StudylogRepository extends JpaRepository<Studylog, Long>, JpaSpecificationExecutor<Studylog> {
+public interface StudylogRepository extends JpaRepository<Studylog, Long>, JpaSpecificationExecutor<Studylog>,
+    StudylogIdRepository {
 
     @Query(value = "select distinct p from Studylog p left join fetch p.studylogTags.values pt left join fetch pt.tag where p.member = :member and p.deleted <> true",
         countQuery = "select count(p) from Studylog p where p.member = :member and p.deleted <> true")
@@ -24,9 +26,31 @@ public interface StudylogRepository extends JpaRepository<Studylog, Long>, JpaSp
 
     List<Studylog> findByIdInAndDeletedFalseOrderByIdDesc(List<Long> ids);
 
+    @Query("select distinct p from Studylog p join fetch p.member left join fetch p.session left join fetch p.mission m left join fetch m.session "
+        + "left join fetch p.studylogTags.values pt left join fetch pt.tag where p.id in :ids")
+    List<Studylog> findWithAssociationsByIdIn(List<Long> ids);
+
+    @Query("select p.id as id, p.updatedAt as updatedAt, p.viewCount.views as views, p.likes.likeCount as likeCount, "
+        + "p.deleted as deleted, m.id as memberId, m.username as username, m.nickname as nickname, m.role as role, "
+        + "m.imageUrl as imageUrl from Studylog p join p.member m where p.id in :ids")
+    List<StudylogListVersion> findListVersionsByIdIn(List<Long> ids);
+
     @Query("select p from Studylog p where :date <= p.createdAt")
     List<Studylog> findByPastDays(LocalDateTime date);
 
+    @Query("select p.id as id, s.name as sessionName, p.createdAt as createdAt, p.viewCount.views as views, p.likes.likeCount as likeCount "
+        + "from Studylog p left join p.session s "
+        + "where :date <= p.createdAt and p.deleted <> true and p.id > :lastId order by p.id")
+    List<PopularStudylogCandidate> findPopularCandidates(LocalDateTime date, Long lastId, Pageable pageable);
+
+    @Modifying
+    @Query("update Studylog p set p.likes.likeCount = p.likes.likeCount + 1 where p.id = :id")
+    int increaseLikeCount(Long id);
+
+    @Modifying
+    @Query("update Studylog p set p.likes.likeCount = p.likes.likeCount - 1 where p.id = :id and p.likes.likeCount > 0")
+    int decreaseLikeCount(Long id);
+
     List<Studylog> findTop50ByDeletedFalseOrderByIdDesc();
 
     List<Studylog> findByMemberIdAndCreatedAtBetween(Long memberId, LocalDateTime startDate, LocalDateTime endDate);
@@ -0,0 +1,8 @@
+package wooteco.prolog.studylog.domain.repository;
+
+public interface StudylogScrapCount {
+
+    Long getStudylogId();
+
+    Long getScrapCount();
+}
@@ -15,6 +15,9 @@ public interface StudylogScrapRepository extends JpaRepository<StudylogScrap, Lo
 
     int countByStudylogId(Long id);
 
+    @Query("select ms.studylog.id as studylogId, count(ms) as scrapCount from StudylogScrap ms where ms.studylog.id in :studylogIds group by ms.studylog.id")
+    List<StudylogScrapCount> countByStudylogIdIn(List<Long> studylogIds);
+
     boolean existsByMemberIdAndStudylogId(Long memberId, Long studylogId);
 
     Optional<StudylogScrap> findByMemberIdAndStudylogId(Long memberId, Long studylogId);
@@ -23,4 +26,10 @@ public interface StudylogScrapRepository extends JpaRepository<StudylogScrap, Lo
 
     List<StudylogScrap> findByMemberId(Long memberId);
 
+    @Query("select ms from StudylogScrap ms where ms.member.id = :memberId and ms.id < :lastId order by ms.id desc")
+    List<StudylogScrap> findByMemberIdBefore(Long memberId, Long lastId, Pageable pageable);
+
+    @Query("select ms.studylog.id from StudylogScrap ms where ms.member.id = :memberId")
+    List<Long> findStudylogIdsByMemberId(Long memberId);
+
 }
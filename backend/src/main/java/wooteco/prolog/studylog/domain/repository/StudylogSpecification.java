@@ -70,6 +70,16 @@ public class StudylogSpecification {
         };
     }
 
+    public static Specification<Studylog> findByIdLessThan(Long id) {
+        return (root, query, builder) -> {
+            if (id == null) {
+                return builder.and();
+            }
+
+            return builder.lessThan(root.get("id"), id);
+        };
+    }
+
     public static Specification<Studylog> findByDeletedFalse() {
         return (root, query, builder) -> builder.isFalse(
             root.get("deleted")
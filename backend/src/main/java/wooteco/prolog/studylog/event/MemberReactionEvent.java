@@ -0,0 +1,41 @@
+package wooteco.prolog.studylog.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+public class MemberReactionEvent {
+
+    private Long memberId;
+    private Long studylogId;
+    private Reaction reaction;
+
+    public static MemberReactionEvent read(Long memberId, Long studylogId) {
+        return new MemberReactionEvent(memberId, studylogId, Reaction.READ);
+    }
+
+    public static MemberReactionEvent unread(Long memberId, Long studylogId) {
+        return new MemberReactionEvent(memberId, studylogId, Reaction.UNREAD);
+    }
+
+    public static MemberReactionEvent scrap(Long memberId, Long studylogId) {
+        return new MemberReactionEvent(memberId, studylogId, Reaction.SCRAP);
+    }
+
+    public static MemberReactionEvent unscrap(Long memberId, Long studylogId) {
+        return new MemberReactionEvent(memberId, studylogId, Reaction.UNSCRAP);
+    }
+
+    public static MemberReactionEvent like(Long memberId, Long studylogId) {
+        return new MemberReactionEvent(memberId, studylogId, Reaction.LIKE);
+    }
+
+    public static MemberReactionEvent unlike(Long memberId, Long studylogId) {
+        return new MemberReactionEvent(memberId, studylogId, Reaction.UNLIKE);
+    }
+
+    public enum Reaction {
+        READ, UNREAD, SCRAP, UNSCRAP, LIKE, UNLIKE
+    }
+}
@@ -0,0 +1,14 @@
+package wooteco.prolog.studylog.event;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+public class StudylogCreateEvent {
+
+    private Long studylogId;
+    private String sessionName;
+    private LocalDateTime createdAt;
+}
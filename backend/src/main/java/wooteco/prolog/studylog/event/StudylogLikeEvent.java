@@ -0,0 +1,12 @@
+package wooteco.prolog.studylog.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+public class StudylogLikeEvent {
+
+    private Long studylogId;
+    private boolean liked;
+}
@@ -0,0 +1,12 @@
+package wooteco.prolog.studylog.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+public class StudylogUpdateEvent {
+
+    private Long studylogId;
+    private String sessionName;
+}
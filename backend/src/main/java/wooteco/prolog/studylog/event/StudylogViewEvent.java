@@ -0,0 +1,11 @@
+package wooteco.prolog.studylog.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+public class StudylogViewEvent {
+
+    private Long studylogId;
+}
@@ -0,0 +1,7 @@
+package wooteco.prolog.studylog.exception;
+
+import wooteco.prolog.common.exception.BadRequestException;
+
+public class InvalidCursorException extends BadRequestException {
+
+}
@@ -57,7 +57,9 @@ public class PostController {
         if (!NumberUtils.isNumeric(id)) {
             throw new StudylogNotFoundException();
         }
-        return ResponseEntity.ok(studylogService.retrieveStudylogById(member, Long.parseLong(id), false));
+        Long studylogId = Long.parseLong(id);
+        studylogService.markAsRead(member, studylogId);
+        return ResponseEntity.ok(studylogService.retrieveStudylogById(member, studylogId, false));
     }
 
     @PutMapping("/{id}")
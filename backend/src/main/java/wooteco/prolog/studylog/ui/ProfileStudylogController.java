@@ -18,6 +18,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import wooteco.prolog.login.domain.AuthMemberPrincipal;
 import wooteco.prolog.login.ui.LoginMember;
@@ -30,6 +31,7 @@ import wooteco.prolog.studylog.application.StudylogService;
 import wooteco.prolog.studylog.application.dto.BadgeResponse;
 import wooteco.prolog.studylog.application.dto.BadgesResponse;
 import wooteco.prolog.studylog.application.dto.StudylogsResponse;
+import wooteco.prolog.studylog.application.dto.search.StudylogCursor;
 import wooteco.prolog.studylog.domain.BadgeType;
 
 @RestController
@@ -63,7 +65,23 @@ public class ProfileStudylogController {
     @GetMapping(value = "/{username}/studylogs", produces = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<StudylogsResponse> findAllStudylogsOfMine(@PathVariable String username,
                                                                     StudylogFilterRequest studylogFilterRequest,
-                                                                    @PageableDefault(size = 20, direction = Direction.DESC, sort = "id") Pageable pageable) {
+                                                                    @PageableDefault(size = 20, direction = Direction.DESC, sort = "id") Pageable pageable,
+                                                                    @RequestParam(required = false) String cursor) {
+        if (cursor != null) {
+            return ResponseEntity.ok().body(studylogService.findStudylogsWithoutKeywordByCursor(
+                studylogFilterRequest.levels,
+                studylogFilterRequest.missions,
+                studylogFilterRequest.tags,
+                Collections.singletonList(username),
+                new ArrayList<>(),
+                studylogFilterRequest.startDate,
+                studylogFilterRequest.endDate,
+                StudylogCursor.decode(cursor),
+                pageable.getPageSize(),
+                null
+            ));
+        }
+
         final StudylogsResponse studylogs = studylogService.findStudylogsWithoutKeyword(
             studylogFilterRequest.levels,
             studylogFilterRequest.missions,
@@ -26,6 +26,8 @@ import javax.servlet.http.HttpServletResponse;
 @RequestMapping("/studylogs")
 public class StudylogController {
 
+    private static final String DEGRADED_HEADER = "X-Search-Degraded";
+
     private final StudylogService studylogService;
     private final ViewedStudyLogCookieGenerator viewedStudyLogCookieGenerator;
 
@@ -58,6 +60,9 @@ public class StudylogController {
     @GetMapping
     public ResponseEntity<StudylogsResponse> showAll(@AuthMemberPrincipal LoginMember member, @SearchParams StudylogsSearchRequest searchRequest) {
         StudylogsResponse studylogsResponse = studylogService.findStudylogs(searchRequest, member.getId(), member.isAnonymous());
+        if (studylogsResponse.isDegraded()) {
+            return ResponseEntity.ok().header(DEGRADED_HEADER, "true").body(studylogsResponse);
+        }
         return ResponseEntity.ok(studylogsResponse);
     }
 
@@ -70,9 +75,10 @@ public class StudylogController {
             throw new StudylogNotFoundException();
         }
 
-        viewedStudyLogCookieGenerator.setViewedStudyLogCookie(viewedStudyLogs, id, httpServletResponse);
-        return ResponseEntity.ok(studylogService.retrieveStudylogByIdWithScrapedCount(member, Long.parseLong(id),
-                viewedStudyLogCookieGenerator.isViewed(viewedStudyLogs, id)));
+        Long studylogId = Long.parseLong(id);
+        studylogService.markAsRead(member, studylogId);
+        boolean isViewed = viewedStudyLogCookieGenerator.markViewed(viewedStudyLogs, studylogId, httpServletResponse);
+        return ResponseEntity.ok(studylogService.retrieveStudylogByIdWithScrapedCount(member, studylogId, isViewed));
     }
 
     @PutMapping("/{id}")
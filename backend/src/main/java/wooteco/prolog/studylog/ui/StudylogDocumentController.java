@@ -4,18 +4,22 @@ import lombok.AllArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
-import wooteco.prolog.studylog.application.DocumentService;
+import wooteco.prolog.studylog.application.StudylogReindexJob;
+import wooteco.prolog.studylog.application.dto.StudylogReindexResponse;
 
 @RestController
 @AllArgsConstructor
 public class StudylogDocumentController {
 
-    private DocumentService studylogDocumentService;
+    private StudylogReindexJob studylogReindexJob;
 
     @GetMapping("/sync")
-    public ResponseEntity<Void> sync() {
-        studylogDocumentService.sync();
-        return ResponseEntity.ok().build();
+    public ResponseEntity<StudylogReindexResponse> sync() {
+        return ResponseEntity.accepted().body(studylogReindexJob.start());
     }
 
+    @GetMapping("/sync/status")
+    public ResponseEntity<StudylogReindexResponse> syncStatus() {
+        return ResponseEntity.ok(studylogReindexJob.status());
+    }
 }
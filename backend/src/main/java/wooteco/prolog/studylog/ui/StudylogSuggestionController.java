@@ -0,0 +1,24 @@
+package wooteco.prolog.studylog.ui;
+
+import lombok.AllArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import wooteco.prolog.studylog.application.StudylogSuggestionService;
+import wooteco.prolog.studylog.application.dto.StudylogSuggestionsResponse;
+
+@RestController
+@RequestMapping("/studylogs")
+@AllArgsConstructor
+public class StudylogSuggestionController {
+
+    private final StudylogSuggestionService studylogSuggestionService;
+
+    @GetMapping("/suggest")
+    public ResponseEntity<StudylogSuggestionsResponse> suggest(@RequestParam(required = false) String prefix,
+                                                               @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(studylogSuggestionService.findSuggestions(prefix, size));
+    }
+}
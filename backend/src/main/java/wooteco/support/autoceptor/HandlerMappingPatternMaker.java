@@ -0,0 +1,48 @@
+package wooteco.support.autoceptor;
+
+import static java.util.stream.Collectors.toList;
+
+import java.lang.annotation.Annotation;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import wooteco.support.autoceptor.scanner.MethodScanner;
+
+/**
+ * 스프링이 이미 만들어 둔 핸들러 매핑에서, 대상 애노테이션이 붙은 파라미터를 가진 핸들러의 URL 패턴을 뽑는다.
+ * 클래스패스를 따로 훑지 않으므로 시작 시간에 스캔 비용이 더해지지 않는다.
+ */
+public class HandlerMappingPatternMaker {
+
+    private static final String PATH_VARIABLE_REGEX = "\\{.*?.}";
+
+    private final Map<RequestMappingInfo, HandlerMethod> handlerMethods;
+    private final MethodScanner methodScanner;
+
+    @SafeVarargs
+    public HandlerMappingPatternMaker(
+        Map<RequestMappingInfo, HandlerMethod> handlerMethods,
+        Class<? extends Annotation>... targetAnnotations
+    ) {
+        this(handlerMethods, Arrays.asList(targetAnnotations));
+    }
+
+    public HandlerMappingPatternMaker(
+        Map<RequestMappingInfo, HandlerMethod> handlerMethods,
+        List<Class<? extends Annotation>> targetAnnotations
+    ) {
+        this.handlerMethods = handlerMethods;
+        this.methodScanner = new MethodScanner(targetAnnotations);
+    }
+
+    public List<String> extractPatterns() {
+        return handlerMethods.entrySet().stream()
+            .filter(entry -> methodScanner.isAnnotatedOnParameter(entry.getValue().getMethod()))
+            .flatMap(entry -> entry.getKey().getPatternValues().stream())
+            .map(pattern -> pattern.replaceAll(PATH_VARIABLE_REGEX, "*"))
+            .distinct()
+            .collect(toList());
+    }
+}
@@ -0,0 +1,56 @@
+package wooteco.support.autoceptor;
+
+import java.util.List;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+import org.springframework.web.servlet.handler.MappedInterceptor;
+
+/**
+ * 핸들러 매핑이 만들어진 뒤에야 정해지는 URL 패턴에 맞는 요청에만 delegate 를 실행한다.
+ * 패턴이 정해지기 전에는 빠뜨리지 않도록 모든 요청에 실행한다.
+ */
+public class PatternMatchingInterceptor implements HandlerInterceptor {
+
+    private final HandlerInterceptor delegate;
+    private volatile MappedInterceptor mappedInterceptor;
+
+    public PatternMatchingInterceptor(HandlerInterceptor delegate) {
+        this.delegate = delegate;
+    }
+
+    public void initialize(List<String> patterns) {
+        this.mappedInterceptor = new MappedInterceptor(patterns.toArray(new String[0]), delegate);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+        throws Exception {
+        if (!matches(request)) {
+            return true;
+        }
+        return delegate.preHandle(request, response, handler);
+    }
+
+    @Override
+    public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler,
+                           ModelAndView modelAndView) throws Exception {
+        if (matches(request)) {
+            delegate.postHandle(request, response, handler, modelAndView);
+        }
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) throws Exception {
+        if (matches(request)) {
+            delegate.afterCompletion(request, response, handler, ex);
+        }
+    }
+
+    private boolean matches(HttpServletRequest request) {
+        final MappedInterceptor current = mappedInterceptor;
+        return current == null || current.matches(request);
+    }
+}
@@ -27,11 +27,11 @@ public class MethodScanner {
     public List<Method> extractMethodAnnotatedOnParameter(List<Class<?>> controllers) {
         return controllers.stream()
             .flatMap(controller -> Arrays.stream(controller.getMethods()))
-            .filter(this::isAnyMatchedWithTargetAnnotation)
+            .filter(this::isAnnotatedOnParameter)
             .collect(toList());
     }
 
-    private boolean isAnyMatchedWithTargetAnnotation(Method method) {
+    public boolean isAnnotatedOnParameter(Method method) {
         return Arrays.stream(method.getParameterAnnotations())
             .flatMap(Arrays::stream)
             .map(Annotation::annotationType)
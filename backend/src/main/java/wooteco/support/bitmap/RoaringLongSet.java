@@ -0,0 +1,205 @@
+package wooteco.support.bitmap;
+
+import java.util.Arrays;
+
+/**
+ * Roaring bitmap 방식으로 long id 를 압축 저장하는 집합.
+ * 상위 48비트를 key 로 나누고, 하위 16비트는 개수가 적으면 정렬된 char 배열,
+ * 많아지면 65536 비트짜리 bitmap 으로 저장한다. 박싱 없이 contains 가 O(log n) 으로 동작한다.
+ * 동기화하지 않으므로 여러 스레드에서 공유할 때는 호출하는 쪽에서 잠금을 잡아야 한다.
+ */
+public class RoaringLongSet {
+
+    private static final int ARRAY_CONTAINER_MAX_SIZE = 4096;
+    private static final int BITMAP_WORDS = 1024;
+    private static final int LOW_BITS = 16;
+    private static final int LOW_MASK = 0xFFFF;
+
+    private long[] keys = new long[0];
+    private Container[] containers = new Container[0];
+    private int containerCount;
+    private long size;
+
+    public static RoaringLongSet of(Iterable<Long> values) {
+        final RoaringLongSet set = new RoaringLongSet();
+        for (Long value : values) {
+            set.add(value);
+        }
+        return set;
+    }
+
+    public boolean add(long value) {
+        final long key = value >>> LOW_BITS;
+        final char low = (char) (value & LOW_MASK);
+
+        int index = Arrays.binarySearch(keys, 0, containerCount, key);
+        if (index < 0) {
+            index = -index - 1;
+            insertContainer(index, key, new ArrayContainer());
+        }
+
+        final Container container = containers[index];
+        if (container.contains(low)) {
+            return false;
+        }
+        containers[index] = container.add(low);
+        size++;
+        return true;
+    }
+
+    public boolean remove(long value) {
+        final int index = Arrays.binarySearch(keys, 0, containerCount, value >>> LOW_BITS);
+        if (index < 0) {
+            return false;
+        }
+
+        final char low = (char) (value & LOW_MASK);
+        final Container container = containers[index];
+        if (!container.contains(low)) {
+            return false;
+        }
+        containers[index] = container.remove(low);
+        size--;
+        if (containers[index].isEmpty()) {
+            removeContainer(index);
+        }
+        return true;
+    }
+
+    public boolean contains(long value) {
+        final int index = Arrays.binarySearch(keys, 0, containerCount, value >>> LOW_BITS);
+        return index >= 0 && containers[index].contains((char) (value & LOW_MASK));
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private void insertContainer(int index, long key, Container container) {
+        if (containerCount == keys.length) {
+            final int newLength = Math.max(4, containerCount * 2);
+            keys = Arrays.copyOf(keys, newLength);
+            containers = Arrays.copyOf(containers, newLength);
+        }
+        System.arraycopy(keys, index, keys, index + 1, containerCount - index);
+        System.arraycopy(containers, index, containers, index + 1, containerCount - index);
+        keys[index] = key;
+        containers[index] = container;
+        containerCount++;
+    }
+
+    private void removeContainer(int index) {
+        System.arraycopy(keys, index + 1, keys, index, containerCount - index - 1);
+        System.arraycopy(containers, index + 1, containers, index, containerCount - index - 1);
+        containerCount--;
+        containers[containerCount] = null;
+    }
+
+    private interface Container {
+
+        boolean contains(char value);
+
+        Container add(char value);
+
+        Container remove(char value);
+
+        boolean isEmpty();
+    }
+
+    private static class ArrayContainer implements Container {
+
+        private char[] values = new char[4];
+        private int cardinality;
+
+        @Override
+        public boolean contains(char value) {
+            return Arrays.binarySearch(values, 0, cardinality, value) >= 0;
+        }
+
+        @Override
+        public Container add(char value) {
+            if (cardinality >= ARRAY_CONTAINER_MAX_SIZE) {
+                return toBitmap().add(value);
+            }
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.min(ARRAY_CONTAINER_MAX_SIZE, cardinality * 2));
+            }
+            final int index = -Arrays.binarySearch(values, 0, cardinality, value) - 1;
+            System.arraycopy(values, index, values, index + 1, cardinality - index);
+            values[index] = value;
+            cardinality++;
+            return this;
+        }
+
+        @Override
+        public Container remove(char value) {
+            final int index = Arrays.binarySearch(values, 0, cardinality, value);
+            System.arraycopy(values, index + 1, values, index, cardinality - index - 1);
+            cardinality--;
+            return this;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return cardinality == 0;
+        }
+
+        private BitmapContainer toBitmap() {
+            final BitmapContainer bitmap = new BitmapContainer();
+            for (int i = 0; i < cardinality; i++) {
+                bitmap.add(values[i]);
+            }
+            return bitmap;
+        }
+    }
+
+    private static class BitmapContainer implements Container {
+
+        private final long[] words = new long[BITMAP_WORDS];
+        private int cardinality;
+
+        @Override
+        public boolean contains(char value) {
+            return (words[value >>> 6] & (1L << value)) != 0;
+        }
+
+        @Override
+        public Container add(char value) {
+            words[value >>> 6] |= 1L << value;
+            cardinality++;
+            return this;
+        }
+
+        @Override
+        public Container remove(char value) {
+            words[value >>> 6] &= ~(1L << value);
+            cardinality--;
+            if (cardinality < ARRAY_CONTAINER_MAX_SIZE) {
+                return toArray();
+            }
+            return this;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return cardinality == 0;
+        }
+
+        private ArrayContainer toArray() {
+            final ArrayContainer array = new ArrayContainer();
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    final int bit = Long.numberOfTrailingZeros(word);
+                    array.add((char) ((i << 6) + bit));
+                    word &= word - 1;
+                }
+            }
+            return array;
+        }
+    }
+}
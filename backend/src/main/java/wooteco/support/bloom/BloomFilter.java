@@ -0,0 +1,74 @@
+package wooteco.support.bloom;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 고정된 크기의 bit 배열만 사용하는 Bloom filter.
+ * 예상 원소 수와 허용 오탐률로 bit 수와 해시 개수를 정하므로 원소가 늘어나도 메모리가 커지지 않는다.
+ * 한 번 넣은 값은 항상 포함된다고 답하고, 넣지 않은 값은 오탐률만큼 포함된다고 잘못 답할 수 있다.
+ */
+public class BloomFilter {
+
+    private static final double LN2 = Math.log(2);
+
+    private final AtomicLongArray words;
+    private final long bitSize;
+    private final int hashCount;
+
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        final long optimalBitSize = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (LN2 * LN2));
+        this.words = new AtomicLongArray((int) Math.max(1, (optimalBitSize + 63) / 64));
+        this.bitSize = words.length() * 64L;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * LN2));
+    }
+
+    /**
+     * @return 이전에 없던 값이라 새로 표시했으면 true, 이미 있었던(또는 오탐인) 값이면 false
+     */
+    public boolean put(long hash) {
+        final long h2 = Long.rotateLeft(hash, 32);
+
+        boolean changed = false;
+        for (int i = 1; i <= hashCount; i++) {
+            changed |= setBit(indexOf(hash + i * h2));
+        }
+        return changed;
+    }
+
+    public boolean mightContain(long hash) {
+        final long h2 = Long.rotateLeft(hash, 32);
+
+        for (int i = 1; i <= hashCount; i++) {
+            final long index = indexOf(hash + i * h2);
+            if ((words.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public long bitSize() {
+        return bitSize;
+    }
+
+    /**
+     * 64bit 조합 해시를 그대로 나머지 연산해서, bit 수가 2^31 을 넘어도 모든 bit 를 고르게 쓴다.
+     */
+    private long indexOf(long combinedHash) {
+        return Math.floorMod(combinedHash, bitSize);
+    }
+
+    private boolean setBit(long index) {
+        final int wordIndex = (int) (index >>> 6);
+        final long mask = 1L << index;
+        while (true) {
+            final long word = words.get(wordIndex);
+            if ((word & mask) != 0) {
+                return false;
+            }
+            if (words.compareAndSet(wordIndex, word, word | mask)) {
+                return true;
+            }
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package wooteco.support.cache;
+
+public interface ClearableCache {
+
+    void clear();
+}
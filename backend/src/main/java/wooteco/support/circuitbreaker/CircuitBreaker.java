@@ -0,0 +1,174 @@
+package wooteco.support.circuitbreaker;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 최근 호출 windowSize 번의 실패율과 느린 호출 비율로 열고 닫는 회로 차단기.
+ * 열린 동안에는 원래 호출 없이 대체 결과를 돌려주고, openDuration 이 지나면 반열림 상태에서 한 번에 하나씩 시험 호출을 보낸다.
+ * 시험 호출이 halfOpenProbes 번 연속 성공하면 닫고, 한 번이라도 실패하거나 느리면 다시 연다.
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    public enum Outcome {
+        SUCCESS, FAILURE, SLOW, REJECTED
+    }
+
+    private final int windowSize;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final double slowCallRateThreshold;
+    private final long slowCallNanos;
+    private final long openNanos;
+    private final int halfOpenProbes;
+    private final LongSupplier clock;
+    private final OutcomeListener listener;
+
+    private final Outcome[] window;
+    private int position;
+    private int recorded;
+    private int failures;
+    private int slowCalls;
+    private State state = State.CLOSED;
+    private long openedAt;
+    private boolean probing;
+    private int successfulProbes;
+
+    public CircuitBreaker(int windowSize, int minimumCalls, double failureRateThreshold,
+                          double slowCallRateThreshold, Duration slowCallDuration, Duration openDuration,
+                          int halfOpenProbes, OutcomeListener listener) {
+        this(windowSize, minimumCalls, failureRateThreshold, slowCallRateThreshold, slowCallDuration, openDuration,
+            halfOpenProbes, listener, System::nanoTime);
+    }
+
+    CircuitBreaker(int windowSize, int minimumCalls, double failureRateThreshold,
+                   double slowCallRateThreshold, Duration slowCallDuration, Duration openDuration,
+                   int halfOpenProbes, OutcomeListener listener, LongSupplier clock) {
+        this.windowSize = windowSize;
+        this.minimumCalls = Math.min(minimumCalls, windowSize);
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallRateThreshold = slowCallRateThreshold;
+        this.slowCallNanos = slowCallDuration.toNanos();
+        this.openNanos = openDuration.toNanos();
+        this.halfOpenProbes = halfOpenProbes;
+        this.listener = listener;
+        this.clock = clock;
+        this.window = new Outcome[windowSize];
+    }
+
+    /**
+     * 회로가 허락하면 action 을 호출하고, 열려 있거나 action 이 예외를 던지면 fallback 결과를 돌려준다.
+     * 느린 호출은 결과를 그대로 돌려주되 느린 호출로 기록한다.
+     */
+    public <T> T execute(Supplier<T> action, Supplier<T> fallback) {
+        if (!tryAcquire()) {
+            listener.onOutcome(Outcome.REJECTED, null);
+            return fallback.get();
+        }
+
+        final long startedAt = clock.getAsLong();
+        final T result;
+        try {
+            result = action.get();
+        } catch (RuntimeException e) {
+            record(Outcome.FAILURE);
+            listener.onOutcome(Outcome.FAILURE, e);
+            return fallback.get();
+        }
+
+        final Outcome outcome = clock.getAsLong() - startedAt >= slowCallNanos ? Outcome.SLOW : Outcome.SUCCESS;
+        record(outcome);
+        listener.onOutcome(outcome, null);
+        return result;
+    }
+
+    public synchronized State getState() {
+        if (state == State.OPEN && clock.getAsLong() - openedAt >= openNanos) {
+            return State.HALF_OPEN;
+        }
+        return state;
+    }
+
+    private synchronized boolean tryAcquire() {
+        if (state == State.OPEN) {
+            if (clock.getAsLong() - openedAt < openNanos) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+            successfulProbes = 0;
+            probing = false;
+        }
+        if (state == State.HALF_OPEN) {
+            if (probing) {
+                return false;
+            }
+            probing = true;
+        }
+        return true;
+    }
+
+    private synchronized void record(Outcome outcome) {
+        if (state == State.HALF_OPEN) {
+            probing = false;
+            if (outcome != Outcome.SUCCESS) {
+                open();
+                return;
+            }
+            if (++successfulProbes >= halfOpenProbes) {
+                close();
+            }
+            return;
+        }
+        if (state == State.OPEN) {
+            return;
+        }
+
+        final Outcome evicted = window[position];
+        if (evicted == Outcome.FAILURE) {
+            failures--;
+        } else if (evicted == Outcome.SLOW) {
+            slowCalls--;
+        }
+        window[position] = outcome;
+        position = (position + 1) % windowSize;
+        recorded = Math.min(recorded + 1, windowSize);
+        if (outcome == Outcome.FAILURE) {
+            failures++;
+        } else if (outcome == Outcome.SLOW) {
+            slowCalls++;
+        }
+
+        if (recorded >= minimumCalls
+            && (failures * 100.0 / recorded >= failureRateThreshold
+            || slowCalls * 100.0 / recorded >= slowCallRateThreshold)) {
+            open();
+        }
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = clock.getAsLong();
+        probing = false;
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        Arrays.fill(window, null);
+        position = 0;
+        recorded = 0;
+        failures = 0;
+        slowCalls = 0;
+    }
+
+    @FunctionalInterface
+    public interface OutcomeListener {
+
+        void onOutcome(Outcome outcome, Throwable failure);
+    }
+}
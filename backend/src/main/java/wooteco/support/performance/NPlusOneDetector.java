@@ -0,0 +1,104 @@
+package wooteco.support.performance;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 요청 하나에서 같은 모양(fingerprint)의 SQL 이 repeatThreshold 번 이상 실행되면 N+1 로 보고, 그 순간의 호출 위치를 함께 남긴다.
+ * API 별 쿼리 예산(없으면 defaultBudget, 0 이면 제한 없음)을 넘으면 지표를 올리고,
+ * failOnBreach 면 예산을 넘는 쿼리가 정상적으로 끝난 직후 {@link QueryBudgetExceededException} 을 던져 테스트를 실패시킨다.
+ */
+@Slf4j
+public class NPlusOneDetector {
+
+    private static final String APPLICATION_PACKAGE = "wooteco.prolog";
+    private static final int STACK_SAMPLE_DEPTH = 8;
+
+    private final int repeatThreshold;
+    private final int defaultBudget;
+    private final Map<String, Integer> routeBudgets;
+    private final boolean failOnBreach;
+    private final MeterRegistry meterRegistry;
+    private final Map<RequestApi, Integer> budgets = new ConcurrentHashMap<>();
+
+    public NPlusOneDetector(int repeatThreshold, int defaultBudget, Map<String, Integer> routeBudgets,
+                            boolean failOnBreach, MeterRegistry meterRegistry) {
+        this.repeatThreshold = repeatThreshold;
+        this.defaultBudget = defaultBudget;
+        this.routeBudgets = Collections.unmodifiableMap(new HashMap<>(routeBudgets));
+        this.failOnBreach = failOnBreach;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * API 별 예산은 처음 물어볼 때 계산해 두고, 이후에는 조회만 한다.
+     */
+    public int budgetOf(RequestApi requestApi) {
+        return budgets.computeIfAbsent(requestApi,
+            it -> routeBudgets.getOrDefault(it.getMethod() + " " + it.getUrlForm(), defaultBudget));
+    }
+
+    /**
+     * 요청 스레드에서 쿼리가 하나 끝날 때마다, 성공 여부와 상관없이 호출된다.
+     */
+    void afterQuery(PerformanceLoggingForm form, PerformanceLoggingForm.QueryStat stat) {
+        if (stat.getCount() == repeatThreshold) {
+            stat.setStackSample(sampleStack());
+        }
+    }
+
+    /**
+     * 쿼리가 정상적으로 끝난 뒤에만 호출되어, 실행 중에 난 예외를 예산 초과 예외로 가리지 않는다.
+     */
+    void checkBudget(PerformanceLoggingForm form) {
+        final int budget = form.getQueryBudget();
+        if (failOnBreach && budget > 0 && form.getQueryCounts() == budget + 1) {
+            throw new QueryBudgetExceededException(route(form), budget);
+        }
+    }
+
+    /**
+     * 요청이 끝난 뒤 반복된 쿼리와 예산 초과를 로그와 지표로 남긴다.
+     */
+    public void inspect(PerformanceLoggingForm form) {
+        final String route = route(form);
+        for (Map.Entry<String, PerformanceLoggingForm.QueryStat> entry : form.getQueries().entrySet()) {
+            final PerformanceLoggingForm.QueryStat stat = entry.getValue();
+            if (stat.getCount() < repeatThreshold) {
+                continue;
+            }
+            meterRegistry.counter("api.query.repeated", "api", route).increment();
+            log.warn("{} 요청에서 같은 쿼리가 {}번 실행되었습니다. {}\n{}",
+                route, stat.getCount(), entry.getKey(), stat.getStackSample());
+        }
+
+        final int budget = form.getQueryBudget();
+        if (budget > 0 && form.getQueryCounts() > budget) {
+            meterRegistry.counter("api.query.budget.exceeded", "api", route).increment();
+            log.warn("{} 요청이 쿼리 예산 {}개를 넘어 {}개를 실행했습니다.", route, budget, form.getQueryCounts());
+        }
+    }
+
+    private static String route(PerformanceLoggingForm form) {
+        return form.getTargetMethod() + " " + form.getTargetApi();
+    }
+
+    private static String sampleStack() {
+        final StringBuilder sample = new StringBuilder();
+        int depth = 0;
+        for (StackTraceElement element : new Throwable().getStackTrace()) {
+            if (!element.getClassName().startsWith(APPLICATION_PACKAGE)) {
+                continue;
+            }
+            sample.append("\tat ").append(element).append('\n');
+            if (++depth == STACK_SAMPLE_DEPTH) {
+                break;
+            }
+        }
+        return sample.toString();
+    }
+}
@@ -0,0 +1,35 @@
+package wooteco.support.performance;
+
+/**
+ * 요청 스레드에 묶인 {@link PerformanceLoggingForm}. 요청 밖(스케줄러, 비동기 작업)에서 실행된 SQL 은 기록하지 않는다.
+ */
+public final class PerformanceContext {
+
+    private static final ThreadLocal<PerformanceLoggingForm> FORM = new ThreadLocal<>();
+
+    private PerformanceContext() {
+    }
+
+    public static PerformanceLoggingForm begin() {
+        return begin(null);
+    }
+
+    public static PerformanceLoggingForm begin(NPlusOneDetector detector) {
+        final PerformanceLoggingForm form = new PerformanceLoggingForm(detector);
+        FORM.set(form);
+        return form;
+    }
+
+    public static PerformanceLoggingForm current() {
+        return FORM.get();
+    }
+
+    public static PerformanceLoggingForm end() {
+        final PerformanceLoggingForm form = FORM.get();
+        FORM.remove();
+        if (form != null) {
+            form.complete();
+        }
+        return form;
+    }
+}
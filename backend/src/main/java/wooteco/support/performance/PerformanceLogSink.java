@@ -0,0 +1,143 @@
+package wooteco.support.performance;
+
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+
+/**
+ * 요청 스레드는 끝난 {@link PerformanceLoggingForm} 을 큐에 넣기만 하고, 별도 스레드 하나가 지표에 더한 뒤 JSON 한 줄로 만들어 PERFORMANCE 로거에 쓴다.
+ * JSON 은 한 StringBuilder 를 재사용해 직접 만들고, 큐가 가득 차면 요청을 막지 않고 버린 뒤 버린 개수만 센다.
+ */
+public class PerformanceLogSink implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger("PERFORMANCE");
+    private static final int DEFAULT_CAPACITY = 4096;
+
+    private final PerformanceMetrics performanceMetrics;
+    private final BlockingQueue<PerformanceLoggingForm> queue;
+    private final StringBuilder line = new StringBuilder(1024);
+    private final AtomicLong dropped = new AtomicLong();
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    public PerformanceLogSink(PerformanceMetrics performanceMetrics) {
+        this(performanceMetrics, DEFAULT_CAPACITY);
+    }
+
+    public PerformanceLogSink(PerformanceMetrics performanceMetrics, int capacity) {
+        this.performanceMetrics = performanceMetrics;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.writer = new Thread(this::drain, "performance-log-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    public void offer(PerformanceLoggingForm form) {
+        if (!queue.offer(form)) {
+            dropped.incrementAndGet();
+        }
+    }
+
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        writer.interrupt();
+        writer.join(1000);
+        PerformanceLoggingForm form;
+        while ((form = queue.poll()) != null) {
+            write(form);
+        }
+    }
+
+    private void drain() {
+        while (running) {
+            try {
+                write(queue.take());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.warn("성능 로그를 쓰지 못했습니다.", e);
+            }
+        }
+    }
+
+    private synchronized void write(PerformanceLoggingForm form) {
+        performanceMetrics.record(form);
+        if (!log.isInfoEnabled()) {
+            return;
+        }
+
+        line.setLength(0);
+        line.append("{\"targetApi\":");
+        appendString(form.getTargetApi());
+        line.append(",\"targetMethod\":");
+        appendString(form.getTargetMethod());
+        line.append(",\"requestTime\":");
+        appendMillis(form.getRequestNanos());
+        line.append(",\"transactionTime\":");
+        appendMillis(form.getTransactionNanos());
+        line.append(",\"queryCounts\":").append(form.getQueryCounts());
+        line.append(",\"queryTime\":");
+        appendMillis(form.getQueryNanos());
+        line.append(",\"queries\":[");
+        boolean first = true;
+        for (Map.Entry<String, PerformanceLoggingForm.QueryStat> entry : form.getQueries().entrySet()) {
+            if (!first) {
+                line.append(',');
+            }
+            first = false;
+            line.append("{\"sql\":");
+            appendString(entry.getKey());
+            line.append(",\"count\":").append(entry.getValue().getCount());
+            line.append(",\"time\":");
+            appendMillis(entry.getValue().getNanos());
+            line.append('}');
+        }
+        line.append("]}");
+        log.info(line.toString());
+    }
+
+    /**
+     * 밀리초 단위로 소수점 셋째 자리(마이크로초)까지 쓴다.
+     */
+    private void appendMillis(long nanos) {
+        final long micros = nanos / 1_000;
+        line.append(micros / 1_000).append('.');
+        final long fraction = micros % 1_000;
+        if (fraction < 100) {
+            line.append('0');
+        }
+        if (fraction < 10) {
+            line.append('0');
+        }
+        line.append(fraction);
+    }
+
+    private void appendString(String value) {
+        if (value == null) {
+            line.append("null");
+            return;
+        }
+        line.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                line.append('\\').append(c);
+            } else if (c < 0x20) {
+                line.append(String.format("\\u%04x", (int) c));
+            } else {
+                line.append(c);
+            }
+        }
+        line.append('"');
+    }
+}
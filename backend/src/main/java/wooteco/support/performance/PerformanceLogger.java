@@ -1,79 +1,62 @@
 package wooteco.support.performance;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import java.lang.reflect.Proxy;
+import java.sql.Connection;
 import lombok.RequiredArgsConstructor;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Before;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-import org.springframework.stereotype.Component;
-import org.springframework.transaction.support.TransactionSynchronization;
-import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.aspectj.lang.reflect.MethodSignature;
 
+/**
+ * 요청별 성능 기록에 API, 트랜잭션 시간을 채우고 DataSource 가 내주는 Connection 을 {@link ProfiledConnection} 으로 감싼다.
+ * 기록의 시작과 끝은 {@link PerformanceProfilingFilter} 가 정한다.
+ */
 @Aspect
 @RequiredArgsConstructor
 public class PerformanceLogger {
 
-    private static final Logger log = LoggerFactory.getLogger("PERFORMANCE");
-
-    private final ObjectMapper objectMapper;
-    private final RequestApiExtractor requestApiExtractor;
-
-    private ThreadLocal<PerformanceLoggingForm> logForm;
-
-    @Before("@within(org.springframework.transaction.annotation.Transactional) || @annotation(org.springframework.transaction.annotation.Transactional)")
-    public void beforeTransaction() {
-        final long startTransactionTime = System.currentTimeMillis();
-        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+    private final RequestApiRegistry requestApiRegistry;
+    private final NPlusOneDetector nPlusOneDetector;
+
+    /**
+     * 가장 바깥 트랜잭션 메서드의 실행 시간만 더한다. 이미 참여 중인 트랜잭션 안의 호출은 다시 재지 않는다.
+     */
+    @Around("@within(org.springframework.transaction.annotation.Transactional) || @annotation(org.springframework.transaction.annotation.Transactional)")
+    public Object aroundTransaction(ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
+        final PerformanceLoggingForm form = PerformanceContext.current();
+        if (form == null || form.isInTransaction()) {
+            return proceedingJoinPoint.proceed();
+        }
 
-            @Override
-            public void afterCompletion(int status) {
-                if(getLoggingForm().getTargetApi() == null || getLoggingForm().getTargetApi().isEmpty()) {
-                    return;
-                }
-                try {
-                    getLoggingForm()
-                        .setTransactionTime(System.currentTimeMillis() - startTransactionTime);
-                    log.info(objectMapper.writeValueAsString(getLoggingForm()));
-                } catch (JsonProcessingException ignored) {
-                } finally {
-                    logForm.remove();
-                }
-            }
-        });
+        form.beginTransaction();
+        try {
+            return proceedingJoinPoint.proceed();
+        } finally {
+            form.endTransaction();
+        }
     }
 
     @Before("@within(org.springframework.web.bind.annotation.RestController) || @annotation(org.springframework.web.bind.annotation.RestController)")
     public void beforeController(JoinPoint joinPoint) {
-        final RequestApi requestApi = requestApiExtractor.extractRequestApi(joinPoint);
+        final PerformanceLoggingForm form = PerformanceContext.current();
+        if (form == null) {
+            return;
+        }
 
-        getLoggingForm().setTargetApi(requestApi.getUrlForm());
-        getLoggingForm().setTargetMethod(requestApi.getMethod());
-    }
+        final RequestApi requestApi = requestApiRegistry.find(((MethodSignature) joinPoint.getSignature()).getMethod());
+        if (requestApi == null) {
+            return;
+        }
 
+        form.setTargetApi(requestApi.getUrlForm());
+        form.setTargetMethod(requestApi.getMethod());
+        form.setQueryBudget(nPlusOneDetector.budgetOf(requestApi));
+    }
 
     @Around("execution(* javax.sql.DataSource.getConnection())")
     public Object datasource(ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
-        final Object proceed = proceedingJoinPoint.proceed();
-        return Proxy.newProxyInstance(
-            proceed.getClass().getClassLoader(),
-            proceed.getClass().getInterfaces(),
-            new ProxyConnectionHandler(proceed, getLoggingForm()));
-    }
-
-    private PerformanceLoggingForm getLoggingForm() {
-        if (logForm == null) {
-            logForm = new ThreadLocal<>();
-        }
-
-        if (logForm.get() == null) {
-            logForm.set(new PerformanceLoggingForm());
-        }
-        return logForm.get();
+        return new ProfiledConnection((Connection) proceedingJoinPoint.proceed());
     }
 }
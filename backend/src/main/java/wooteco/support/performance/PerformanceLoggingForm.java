@@ -1,23 +1,94 @@
 package wooteco.support.performance;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 
-@Setter
+/**
+ * 요청 하나의 API, 요청/트랜잭션 시간, 쿼리 수와 시간, SQL fingerprint 별 실행 횟수와 시간.
+ * 요청 스레드만 쓰고, 요청이 끝난 뒤에는 로그를 쓰는 스레드로 넘어가 읽기만 한다.
+ */
 @Getter
 public class PerformanceLoggingForm {
 
+    @Getter(AccessLevel.NONE)
+    private final NPlusOneDetector detector;
+    private final long startedAt = System.nanoTime();
+    @Setter
     private String targetApi;
+    @Setter
     private String targetMethod;
-    private Long transactionTime;
-    private Long queryCounts = 0L;
-    private Long queryTime = 0L;
+    @Setter
+    private int queryBudget;
+    private long requestNanos;
+    private long transactionNanos;
+    private long queryCounts;
+    private long queryNanos;
+    private final Map<String, QueryStat> queries = new HashMap<>();
+    private long transactionStartedAt;
 
-    public void queryCountUp() {
+    public PerformanceLoggingForm() {
+        this(null);
+    }
+
+    public PerformanceLoggingForm(NPlusOneDetector detector) {
+        this.detector = detector;
+    }
+
+    public void addQuery(String fingerprint, long nanos) {
         queryCounts++;
+        queryNanos += nanos;
+        QueryStat stat = queries.get(fingerprint);
+        if (stat == null) {
+            stat = new QueryStat();
+            queries.put(fingerprint, stat);
+        }
+        stat.count++;
+        stat.nanos += nanos;
+        if (detector != null) {
+            detector.afterQuery(this, stat);
+        }
     }
 
-    public void addQueryTime(Long queryTime) {
-        this.queryTime += queryTime;
+    /**
+     * 쿼리가 정상적으로 끝나 기록된 뒤에만 호출된다.
+     */
+    public void checkBudget() {
+        if (detector != null) {
+            detector.checkBudget(this);
+        }
+    }
+
+    public boolean isInTransaction() {
+        return transactionStartedAt != 0;
+    }
+
+    public void beginTransaction() {
+        transactionStartedAt = System.nanoTime();
+    }
+
+    public void endTransaction() {
+        transactionNanos += System.nanoTime() - transactionStartedAt;
+        transactionStartedAt = 0;
+    }
+
+    public Map<String, QueryStat> getQueries() {
+        return Collections.unmodifiableMap(queries);
+    }
+
+    void complete() {
+        requestNanos = System.nanoTime() - startedAt;
+    }
+
+    @Getter
+    public static class QueryStat {
+
+        private long count;
+        private long nanos;
+        @Setter(AccessLevel.PACKAGE)
+        private String stackSample;
     }
 }
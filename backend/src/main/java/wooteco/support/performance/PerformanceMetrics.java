@@ -0,0 +1,119 @@
+package wooteco.support.performance;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청별 성능 기록을 API(메서드 + URL 템플릿)와 SQL fingerprint 단위의 Micrometer 지표로 내보낸다.
+ * 태그 값 종류가 끝없이 늘지 않도록 API 는 maxRoutes 개, fingerprint 는 maxFingerprints 개까지만 따로 세고 나머지는 other 로 묶는다.
+ * 로그를 쓰는 스레드 하나에서만 호출된다.
+ */
+public class PerformanceMetrics {
+
+    static final String OTHER = "other";
+    private static final int MAX_FINGERPRINT_LENGTH = 200;
+
+    private static final Duration[] TIME_SLOS = {
+        Duration.ofMillis(5), Duration.ofMillis(10), Duration.ofMillis(25), Duration.ofMillis(50),
+        Duration.ofMillis(100), Duration.ofMillis(250), Duration.ofMillis(500), Duration.ofSeconds(1)
+    };
+    private static final double[] QUERY_COUNT_SLOS = {1, 2, 5, 10, 20, 50, 100};
+
+    private final MeterRegistry meterRegistry;
+    private final int maxRoutes;
+    private final int maxFingerprints;
+    private final Map<String, RouteMeters> routes = new HashMap<>();
+    private final Map<String, Timer> fingerprints = new HashMap<>();
+
+    public PerformanceMetrics(MeterRegistry meterRegistry, int maxRoutes, int maxFingerprints) {
+        this.meterRegistry = meterRegistry;
+        this.maxRoutes = maxRoutes;
+        this.maxFingerprints = maxFingerprints;
+    }
+
+    public void record(PerformanceLoggingForm form) {
+        final RouteMeters route = route(form.getTargetMethod() + " " + form.getTargetApi());
+        route.transactionTime.record(form.getTransactionNanos(), TimeUnit.NANOSECONDS);
+        route.queryTime.record(form.getQueryNanos(), TimeUnit.NANOSECONDS);
+        route.queryCounts.record(form.getQueryCounts());
+
+        for (Map.Entry<String, PerformanceLoggingForm.QueryStat> entry : form.getQueries().entrySet()) {
+            final Timer timer = fingerprint(entry.getKey());
+            final PerformanceLoggingForm.QueryStat stat = entry.getValue();
+            // 같은 fingerprint 를 요청 안에서 여러 번 실행했으면 평균 시간으로 횟수만큼 기록한다.
+            final long average = stat.getNanos() / stat.getCount();
+            for (long i = 0; i < stat.getCount(); i++) {
+                timer.record(average, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    private RouteMeters route(String route) {
+        RouteMeters meters = routes.get(route);
+        if (meters != null) {
+            return meters;
+        }
+        final String tag = routes.size() < maxRoutes ? route : OTHER;
+        meters = routes.get(tag);
+        if (meters == null) {
+            meters = new RouteMeters(meterRegistry, tag);
+            routes.put(tag, meters);
+        }
+        return meters;
+    }
+
+    private Timer fingerprint(String fingerprint) {
+        Timer timer = fingerprints.get(fingerprint);
+        if (timer != null) {
+            return timer;
+        }
+        final String key = fingerprints.size() < maxFingerprints ? fingerprint : OTHER;
+        timer = fingerprints.get(key);
+        if (timer == null) {
+            timer = Timer.builder("db.query.time")
+                .description("SQL fingerprint 별 실행 시간")
+                .tag("sql", truncate(key))
+                .serviceLevelObjectives(TIME_SLOS)
+                .register(meterRegistry);
+            fingerprints.put(key, timer);
+        }
+        return timer;
+    }
+
+    private static String truncate(String fingerprint) {
+        if (fingerprint.length() <= MAX_FINGERPRINT_LENGTH) {
+            return fingerprint;
+        }
+        return fingerprint.substring(0, MAX_FINGERPRINT_LENGTH) + "...";
+    }
+
+    private static class RouteMeters {
+
+        private final Timer transactionTime;
+        private final Timer queryTime;
+        private final DistributionSummary queryCounts;
+
+        private RouteMeters(MeterRegistry meterRegistry, String route) {
+            this.transactionTime = Timer.builder("api.transaction.time")
+                .description("요청 하나의 트랜잭션 시간")
+                .tag("api", route)
+                .serviceLevelObjectives(TIME_SLOS)
+                .register(meterRegistry);
+            this.queryTime = Timer.builder("api.query.time")
+                .description("요청 하나에서 SQL 실행에 쓴 시간")
+                .tag("api", route)
+                .serviceLevelObjectives(TIME_SLOS)
+                .register(meterRegistry);
+            this.queryCounts = DistributionSummary.builder("api.query.count")
+                .description("요청 하나에서 실행한 SQL 수")
+                .tag("api", route)
+                .serviceLevelObjectives(QUERY_COUNT_SLOS)
+                .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package wooteco.support.performance;
+
+import java.io.IOException;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * 요청 전체(응답 직렬화 중의 지연 로딩 포함)를 하나의 {@link PerformanceLoggingForm} 으로 묶고, 끝나면 N+1 검사를 거쳐 로그 큐로 넘긴다.
+ * 컨트롤러를 거치지 않아 API 가 정해지지 않은 요청은 남기지 않는다.
+ */
+public class PerformanceProfilingFilter extends OncePerRequestFilter {
+
+    private final NPlusOneDetector nPlusOneDetector;
+    private final PerformanceLogSink performanceLogSink;
+
+    public PerformanceProfilingFilter(NPlusOneDetector nPlusOneDetector, PerformanceLogSink performanceLogSink) {
+        this.nPlusOneDetector = nPlusOneDetector;
+        this.performanceLogSink = performanceLogSink;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+        throws ServletException, IOException {
+        PerformanceContext.begin(nPlusOneDetector);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            final PerformanceLoggingForm form = PerformanceContext.end();
+            if (form.getTargetApi() != null && !form.getTargetApi().isEmpty()) {
+                nPlusOneDetector.inspect(form);
+                performanceLogSink.offer(form);
+            }
+        }
+    }
+}
@@ -0,0 +1,448 @@
+package wooteco.support.performance;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLWarning;
+import java.sql.Statement;
+
+/**
+ * 실행 시간을 현재 요청의 {@link PerformanceLoggingForm} 에 SQL fingerprint 별로 더하는 Statement.
+ * 리플렉션 없이 모든 메서드를 직접 위임하고, execute 계열만 System.nanoTime 으로 잰다.
+ */
+public class ProfiledStatement<T extends Statement> implements Statement {
+
+    protected final T delegate;
+    private final Connection connection;
+    private String batchFingerprint;
+
+    public ProfiledStatement(T delegate, Connection connection) {
+        this.delegate = delegate;
+        this.connection = connection;
+    }
+
+    protected String currentBatchFingerprint() {
+        return batchFingerprint;
+    }
+
+    protected final void recordSql(String sql, long startedAt) {
+        final PerformanceLoggingForm form = PerformanceContext.current();
+        if (form != null) {
+            form.addQuery(SqlFingerprint.of(sql), System.nanoTime() - startedAt);
+        }
+    }
+
+    protected final void recordFingerprint(String fingerprint, long startedAt) {
+        final PerformanceLoggingForm form = PerformanceContext.current();
+        if (form != null) {
+            form.addQuery(fingerprint, System.nanoTime() - startedAt);
+        }
+    }
+
+    /**
+     * 예산 검사는 실행이 정상적으로 끝나고 기록까지 마친 뒤에만 한다.
+     * 실행 중의 SQLException 을 가리지 않고, 예산을 넘으면 방금 연 ResultSet 을 닫고 던진다.
+     */
+    protected final void checkBudget() {
+        final PerformanceLoggingForm form = PerformanceContext.current();
+        if (form != null) {
+            form.checkBudget();
+        }
+    }
+
+    protected final ResultSet checkBudget(ResultSet resultSet) throws SQLException {
+        try {
+            checkBudget();
+        } catch (QueryBudgetExceededException e) {
+            resultSet.close();
+            throw e;
+        }
+        return resultSet;
+    }
+
+    @Override
+    public ResultSet executeQuery(String sql) throws SQLException {
+        final long startedAt = System.nanoTime();
+        final ResultSet result;
+        try {
+            result = delegate.executeQuery(sql);
+        } finally {
+            recordSql(sql, startedAt);
+        }
+        return checkBudget(result);
+    }
+
+    @Override
+    public int executeUpdate(String sql) throws SQLException {
+        final long startedAt = System.nanoTime();
+        final int result;
+        try {
+            result = delegate.executeUpdate(sql);
+        } finally {
+            recordSql(sql, startedAt);
+        }
+        checkBudget();
+        return result;
+    }
+
+    @Override
+    public void close() throws SQLException {
+        delegate.close();
+    }
+
+    @Override
+    public int getMaxFieldSize() throws SQLException {
+        return delegate.getMaxFieldSize();
+    }
+
+    @Override
+    public void setMaxFieldSize(int max) throws SQLException {
+        delegate.setMaxFieldSize(max);
+    }
+
+    @Override
+    public int getMaxRows() throws SQLException {
+        return delegate.getMaxRows();
+    }
+
+    @Override
+    public void setMaxRows(int max) throws SQLException {
+        delegate.setMaxRows(max);
+    }
+
+    @Override
+    public void setEscapeProcessing(boolean enable) throws SQLException {
+        delegate.setEscapeProcessing(enable);
+    }
+
+    @Override
+    public int getQueryTimeout() throws SQLException {
+        return delegate.getQueryTimeout();
+    }
+
+    @Override
+    public void setQueryTimeout(int seconds) throws SQLException {
+        delegate.setQueryTimeout(seconds);
+    }
+
+    @Override
+    public void cancel() throws SQLException {
+        delegate.cancel();
+    }
+
+    @Override
+    public SQLWarning getWarnings() throws SQLException {
+        return delegate.getWarnings();
+    }
+
+    @Override
+    public void clearWarnings() throws SQLException {
+        delegate.clearWarnings();
+    }
+
+    @Override
+    public void setCursorName(String name) throws SQLException {
+        delegate.setCursorName(name);
+    }
+
+    @Override
+    public boolean execute(String sql) throws SQLException {
+        final long startedAt = System.nanoTime();
+        final boolean result;
+        try {
+            result = delegate.execute(sql);
+        } finally {
+            recordSql(sql, startedAt);
+        }
+        checkBudget();
+        return result;
+    }
+
+    @Override
+    public ResultSet getResultSet() throws SQLException {
+        return delegate.getResultSet();
+    }
+
+    @Override
+    public int getUpdateCount() throws SQLException {
+        return delegate.getUpdateCount();
+    }
+
+    @Override
+    public boolean getMoreResults() throws SQLException {
+        return delegate.getMoreResults();
+    }
+
+    @Override
+    public void setFetchDirection(int direction) throws SQLException {
+        delegate.setFetchDirection(direction);
+    }
+
+    @Override
+    public int getFetchDirection() throws SQLException {
+        return delegate.getFetchDirection();
+    }
+
+    @Override
+    public void setFetchSize(int rows) throws SQLException {
+        delegate.setFetchSize(rows);
+    }
+
+    @Override
+    public int getFetchSize() throws SQLException {
+        return delegate.getFetchSize();
+    }
+
+    @Override
+    public int getResultSetConcurrency() throws SQLException {
+        return delegate.getResultSetConcurrency();
+    }
+
+    @Override
+    public int getResultSetType() throws SQLException {
+        return delegate.getResultSetType();
+    }
+
+    @Override
+    public void addBatch(String sql) throws SQLException {
+        if (batchFingerprint == null) {
+            batchFingerprint = SqlFingerprint.of(sql);
+        }
+        delegate.addBatch(sql);
+    }
+
+    @Override
+    public void clearBatch() throws SQLException {
+        batchFingerprint = null;
+        delegate.clearBatch();
+    }
+
+    @Override
+    public int[] executeBatch() throws SQLException {
+        final long startedAt = System.nanoTime();
+        final int[] result;
+        try {
+            result = delegate.executeBatch();
+        } finally {
+            recordFingerprint(currentBatchFingerprint(), startedAt);
+        }
+        checkBudget();
+        return result;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return connection;
+    }
+
+    @Override
+    public boolean getMoreResults(int current) throws SQLException {
+        return delegate.getMoreResults(current);
+    }
+
+    @Override
+    public ResultSet getGeneratedKeys() throws SQLException {
+        return delegate.getGeneratedKeys();
+    }
+
+    @Override
+    public int executeUpdate(String sql, int autoGeneratedKeys) throws SQLException {
+        final long startedAt = System.nanoTime();
+        final int result;
+        try {
+            result = delegate.executeUpdate(sql, autoGeneratedKeys);
+        } finally {
+            recordSql(sql, startedAt);
+        }
+        checkBudget();
+        return result;
+    }
+
+    @Override
+    public boolean execute(String sql, int autoGeneratedKeys) throws SQLException {
+        final long startedAt = System.nanoTime();
+        final boolean result;
+        try {
+            result = delegate.execute(sql, autoGeneratedKeys);
+        } finally {
+            recordSql(sql, startedAt);
+        }
+        checkBudget();
+        return result;
+    }
+
+    @Override
+    public int getResultSetHoldability() throws SQLException {
+        return delegate.getResultSetHoldability();
+    }
+
+    @Override
+    public boolean isClosed() throws SQLException {
+        return delegate.isClosed();
+    }
+
+    @Override
+    public void setPoolable(boolean poolable) throws SQLException {
+        delegate.setPoolable(poolable);
+    }
+
+    @Override
+    public boolean isPoolable() throws SQLException {
+        return delegate.isPoolable();
+    }
+
+    @Override
+    public void closeOnCompletion() throws SQLException {
+        delegate.closeOnCompletion();
+    }
+
+    @Override
+    public boolean isCloseOnCompletion() throws SQLException {
+        return delegate.isCloseOnCompletion();
+    }
+
+    @Override
+    public long getLargeUpdateCount() throws SQLException {
+        return delegate.getLargeUpdateCount();
+    }
+
+    @Override
+    public void setLargeMaxRows(long max) throws SQLException {
+        delegate.setLargeMaxRows(max);
+    }
+
+    @Override
+    public long getLargeMaxRows() throws SQLException {
+        return delegate.getLargeMaxRows();
+    }
+
+    @Override
+    public long[] executeLargeBatch() throws SQLException {
+        final long startedAt = System.nanoTime();
+        final long[] result;
+        try {
+            result = delegate.executeLargeBatch();
+        } finally {
+            recordFingerprint(currentBatchFingerprint(), startedAt);
+        }
+        checkBudget();
+        return result;
+    }
+
+    @Override
+    public long executeLargeUpdate(String sql) throws SQLException {
+        final long startedAt = System.nanoTime();
+        final long result;
+        try {
+            result = delegate.executeLargeUpdate(sql);
+        } finally {
+            recordSql(sql, startedAt);
+        }
+        checkBudget();
+        return result;
+    }
+
+    @Override
+    public long executeLargeUpdate(String sql, int autoGeneratedKeys) throws SQLException {
+        final long startedAt = System.nanoTime();
+        final long result;
+        try {
+            result = delegate.executeLargeUpdate(sql, autoGeneratedKeys);
+        } finally {
+            recordSql(sql, startedAt);
+        }
+        checkBudget();
+        return result;
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return iface.cast(this);
+        }
+        return delegate.unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(this) || delegate.isWrapperFor(iface);
+    }
+
+    @Override
+    public boolean execute(String sql, int[] columnIndexes) throws SQLException {
+        final long startedAt = System.nanoTime();
+        final boolean result;
+        try {
+            result = delegate.execute(sql, columnIndexes);
+        } finally {
+            recordSql(sql, startedAt);
+        }
+        checkBudget();
+        return result;
+    }
+
+    @Override
+    public boolean execute(String sql, String[] columnNames) throws SQLException {
+        final long startedAt = System.nanoTime();
+        final boolean result;
+        try {
+            result = delegate.execute(sql, columnNames);
+        } finally {
+            recordSql(sql, startedAt);
+        }
+        checkBudget();
+        return result;
+    }
+
+    @Override
+    public int executeUpdate(String sql, String[] columnNames) throws SQLException {
+        final long startedAt = System.nanoTime();
+        final int result;
+        try {
+            result = delegate.executeUpdate(sql, columnNames);
+        } finally {
+            recordSql(sql, startedAt);
+        }
+        checkBudget();
+        return result;
+    }
+
+    @Override
+    public int executeUpdate(String sql, int[] columnIndexes) throws SQLException {
+        final long startedAt = System.nanoTime();
+        final int result;
+        try {
+            result = delegate.executeUpdate(sql, columnIndexes);
+        } finally {
+            recordSql(sql, startedAt);
+        }
+        checkBudget();
+        return result;
+    }
+
+    @Override
+    public long executeLargeUpdate(String sql, String[] columnNames) throws SQLException {
+        final long startedAt = System.nanoTime();
+        final long result;
+        try {
+            result = delegate.executeLargeUpdate(sql, columnNames);
+        } finally {
+            recordSql(sql, startedAt);
+        }
+        checkBudget();
+        return result;
+    }
+
+    @Override
+    public long executeLargeUpdate(String sql, int[] columnIndexes) throws SQLException {
+        final long startedAt = System.nanoTime();
+        final long result;
+        try {
+            result = delegate.executeLargeUpdate(sql, columnIndexes);
+        } finally {
+            recordSql(sql, startedAt);
+        }
+        checkBudget();
+        return result;
+    }
+}
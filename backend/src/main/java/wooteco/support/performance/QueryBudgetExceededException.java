@@ -0,0 +1,8 @@
+package wooteco.support.performance;
+
+public class QueryBudgetExceededException extends RuntimeException {
+
+    public QueryBudgetExceededException(String route, int budget) {
+        super(String.format("%s 요청이 쿼리 예산 %d개를 넘었습니다.", route, budget));
+    }
+}
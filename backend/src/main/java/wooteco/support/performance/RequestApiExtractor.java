@@ -1,5 +1,6 @@
 package wooteco.support.performance;
 
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -25,22 +26,24 @@ public class RequestApiExtractor {
     }
 
     public RequestApi extractRequestApi(JoinPoint joinPoint) {
-        final String classUrl = getClassUrl(joinPoint);
         final MethodSignature methodSignature = (MethodSignature) joinPoint.getSignature();
+        return extractRequestApi(joinPoint.getTarget().getClass(), methodSignature.getMethod());
+    }
+
+    public RequestApi extractRequestApi(Class<?> targetClass, Method method) {
+        final String classUrl = getClassUrl(targetClass);
 
         final Optional<AnnotationDataExtractor> extractor = dataExtractors.stream()
-                .filter(annotationDataExtractor -> annotationDataExtractor
-                        .isAssignable(methodSignature.getMethod()))
+                .filter(annotationDataExtractor -> annotationDataExtractor.isAssignable(method))
                 .findAny();
 
         if (!extractor.isPresent()) {
             return new RequestApi();
         }
-        return extractor.get().extractRequestApi(methodSignature.getMethod(), classUrl);
+        return extractor.get().extractRequestApi(method, classUrl);
     }
 
-    private String getClassUrl(JoinPoint joinPoint) {
-        final Class<?> targetClass = joinPoint.getTarget().getClass();
+    private String getClassUrl(Class<?> targetClass) {
         if (targetClass.isAnnotationPresent(RequestMapping.class)) {
             final RequestMapping requestMapping = targetClass.getAnnotation(RequestMapping.class);
             return Arrays.stream(requestMapping.value())
@@ -0,0 +1,48 @@
+package wooteco.support.performance;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import org.springframework.web.method.HandlerMethod;
+
+/**
+ * 컨트롤러 메서드별 API(URL 템플릿, HTTP 메서드)를 시작할 때 한 번만 계산해 둔다.
+ * 요청마다 애노테이션을 읽지 않고 조회 한 번으로 API 를 찾는다.
+ */
+public class RequestApiRegistry {
+
+    private final RequestApiExtractor requestApiExtractor;
+    private volatile Map<Method, RequestApi> apis = Collections.emptyMap();
+
+    public RequestApiRegistry(RequestApiExtractor requestApiExtractor) {
+        this.requestApiExtractor = requestApiExtractor;
+    }
+
+    /**
+     * 핸들러 매핑이 찾은 핸들러 메서드로 API 표를 만든다. 만든 표는 바꾸지 않고 통째로 교체한다.
+     */
+    public void initialize(Collection<HandlerMethod> handlerMethods) {
+        final Map<Method, RequestApi> resolved = new HashMap<>();
+        for (HandlerMethod handlerMethod : handlerMethods) {
+            final RequestApi requestApi = requestApiExtractor
+                .extractRequestApi(handlerMethod.getBeanType(), handlerMethod.getMethod());
+            if (requestApi.getUrlForm() != null) {
+                resolved.put(handlerMethod.getMethod(), requestApi);
+            }
+        }
+        this.apis = Collections.unmodifiableMap(resolved);
+    }
+
+    /**
+     * 매핑 애노테이션이 없는 메서드면 null 을 돌려준다.
+     */
+    public RequestApi find(Method method) {
+        return apis.get(method);
+    }
+
+    public int size() {
+        return apis.size();
+    }
+}
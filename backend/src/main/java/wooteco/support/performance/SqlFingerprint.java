@@ -0,0 +1,92 @@
+package wooteco.support.performance;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * 값만 다른 SQL 을 같은 모양으로 묶기 위한 fingerprint.
+ * 문자열과 숫자 리터럴을 ? 로 바꾸고, 공백을 한 칸으로 줄이고, IN 목록과 여러 행 VALUES 를 한 칸으로 접은 뒤 소문자로 만든다.
+ * 애플리케이션이 쓰는 SQL 문자열 종류는 많지 않으므로 원문을 키로 결과를 캐시해서, 실행할 때는 해시 조회 한 번으로 끝난다.
+ */
+public final class SqlFingerprint {
+
+    private static final int MAX_CACHE_SIZE = 4096;
+    private static final Pattern PARAMETER_LIST = Pattern.compile("\\(\\?(?: ?, ?\\?)+\\)");
+    private static final Pattern ROW_LIST = Pattern.compile("\\(\\?\\)(?: ?, ?\\(\\?\\))+");
+    private static final Map<String, String> CACHE = new ConcurrentHashMap<>();
+
+    private SqlFingerprint() {
+    }
+
+    public static String of(String sql) {
+        if (sql == null) {
+            return "";
+        }
+        final String cached = CACHE.get(sql);
+        if (cached != null) {
+            return cached;
+        }
+
+        final String fingerprint = normalize(sql);
+        if (CACHE.size() < MAX_CACHE_SIZE) {
+            CACHE.putIfAbsent(sql, fingerprint);
+        }
+        return fingerprint;
+    }
+
+    static String normalize(String sql) {
+        final StringBuilder builder = new StringBuilder(sql.length());
+        boolean space = false;
+        for (int i = 0; i < sql.length(); i++) {
+            final char c = sql.charAt(i);
+            if (Character.isWhitespace(c)) {
+                space = builder.length() > 0;
+                continue;
+            }
+            if (space) {
+                builder.append(' ');
+                space = false;
+            }
+            if (c == '\'') {
+                i = skipStringLiteral(sql, i);
+                builder.append('?');
+                continue;
+            }
+            if (Character.isDigit(c) && !isIdentifierPart(builder)) {
+                while (i + 1 < sql.length() && (Character.isDigit(sql.charAt(i + 1)) || sql.charAt(i + 1) == '.')) {
+                    i++;
+                }
+                builder.append('?');
+                continue;
+            }
+            builder.append(Character.toLowerCase(c));
+        }
+
+        final String parameters = PARAMETER_LIST.matcher(builder).replaceAll("(?)");
+        return ROW_LIST.matcher(parameters).replaceAll("(?)");
+    }
+
+    private static int skipStringLiteral(String sql, int start) {
+        int i = start + 1;
+        while (i < sql.length()) {
+            if (sql.charAt(i) == '\'') {
+                if (i + 1 < sql.length() && sql.charAt(i + 1) == '\'') {
+                    i += 2;
+                    continue;
+                }
+                return i;
+            }
+            i++;
+        }
+        return sql.length() - 1;
+    }
+
+    private static boolean isIdentifierPart(StringBuilder builder) {
+        if (builder.length() == 0) {
+            return false;
+        }
+        final char previous = builder.charAt(builder.length() - 1);
+        return Character.isLetterOrDigit(previous) || previous == '_' || previous == '$';
+    }
+}
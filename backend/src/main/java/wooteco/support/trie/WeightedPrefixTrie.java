@@ -0,0 +1,223 @@
+package wooteco.support.trie;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 가중치가 있는 문자열을 접두어로 찾는 trie.
+ * 노드마다 자식은 정렬된 char 배열과 노드 배열로 들고, 자기 아래에서 가중치가 가장 큰 항목 topK 개를 미리 계산해 둔다.
+ * 조회는 접두어 길이만큼 내려간 뒤 그 노드의 목록을 그대로 돌려주므로 trie 크기와 상관없이 빠르다.
+ * 가중치가 바뀌면 해당 키의 경로에 있는 노드의 목록만 다시 계산한다.
+ * 동기화하지 않으므로 여러 스레드에서 공유할 때는 호출하는 쪽에서 잠금을 잡아야 한다.
+ */
+public class WeightedPrefixTrie {
+
+    private static final Comparator<Entry> BY_WEIGHT = Comparator.comparingLong(Entry::getWeight).reversed()
+        .thenComparing(Entry::getValue);
+
+    private final int topK;
+    private final Node root = new Node();
+
+    public WeightedPrefixTrie(int topK) {
+        this.topK = topK;
+    }
+
+    /**
+     * key 아래의 (category, value) 항목 가중치에 delta 를 더한다. 가중치가 0 이하가 되면 항목을 지운다.
+     */
+    public void add(String key, String category, String value, long delta) {
+        if (key.isEmpty() || delta == 0) {
+            return;
+        }
+
+        final Node[] path = new Node[key.length() + 1];
+        path[0] = root;
+        Node node = root;
+        for (int i = 0; i < key.length(); i++) {
+            final Node child = node.child(key.charAt(i));
+            if (child == null && delta < 0) {
+                return;
+            }
+            node = child == null ? node.addChild(key.charAt(i)) : child;
+            path[i + 1] = node;
+        }
+
+        if (!node.addWeight(category, value, delta)) {
+            return;
+        }
+        for (int i = key.length(); i >= 0; i--) {
+            path[i].recomputeTop(topK);
+            if (i > 0 && path[i].isEmpty()) {
+                path[i - 1].removeChild(key.charAt(i - 1));
+            }
+        }
+    }
+
+    /**
+     * prefix 로 시작하는 키의 항목을 가중치 순으로 최대 size 개 돌려준다.
+     */
+    public List<Entry> find(String prefix, int size) {
+        Node node = root;
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            node = node.child(prefix.charAt(i));
+        }
+        if (node == null) {
+            return Collections.emptyList();
+        }
+
+        return new ArrayList<>(Arrays.asList(node.top).subList(0, Math.min(size, node.top.length)));
+    }
+
+    public static class Entry {
+
+        private final String category;
+        private final String value;
+        private final long weight;
+
+        private Entry(String category, String value, long weight) {
+            this.category = category;
+            this.value = value;
+            this.weight = weight;
+        }
+
+        public String getCategory() {
+            return category;
+        }
+
+        public String getValue() {
+            return value;
+        }
+
+        public long getWeight() {
+            return weight;
+        }
+
+        private boolean isSameItem(String category, String value) {
+            return this.category.equals(category) && this.value.equals(value);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Entry entry = (Entry) o;
+            return category.equals(entry.category) && value.equals(entry.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(category, value);
+        }
+    }
+
+    private static class Node {
+
+        private static final char[] NO_LABELS = new char[0];
+        private static final Node[] NO_CHILDREN = new Node[0];
+        private static final Entry[] NO_ENTRIES = new Entry[0];
+
+        private char[] labels = NO_LABELS;
+        private Node[] children = NO_CHILDREN;
+        private Entry[] entries = NO_ENTRIES;
+        private Entry[] top = NO_ENTRIES;
+
+        private Node child(char label) {
+            final int index = Arrays.binarySearch(labels, label);
+            return index < 0 ? null : children[index];
+        }
+
+        private Node addChild(char label) {
+            final int index = -Arrays.binarySearch(labels, label) - 1;
+            final Node child = new Node();
+            labels = insert(labels, index, label);
+            final Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(children, 0, newChildren, 0, index);
+            newChildren[index] = child;
+            System.arraycopy(children, index, newChildren, index + 1, children.length - index);
+            children = newChildren;
+            return child;
+        }
+
+        private void removeChild(char label) {
+            final int index = Arrays.binarySearch(labels, label);
+            if (index < 0) {
+                return;
+            }
+            final char[] newLabels = new char[labels.length - 1];
+            final Node[] newChildren = new Node[children.length - 1];
+            System.arraycopy(labels, 0, newLabels, 0, index);
+            System.arraycopy(labels, index + 1, newLabels, index, labels.length - index - 1);
+            System.arraycopy(children, 0, newChildren, 0, index);
+            System.arraycopy(children, index + 1, newChildren, index, children.length - index - 1);
+            labels = newLabels;
+            children = newChildren;
+        }
+
+        private boolean addWeight(String category, String value, long delta) {
+            for (int i = 0; i < entries.length; i++) {
+                if (!entries[i].isSameItem(category, value)) {
+                    continue;
+                }
+                final long weight = entries[i].weight + delta;
+                if (weight > 0) {
+                    entries[i] = new Entry(category, value, weight);
+                    return true;
+                }
+                final Entry[] newEntries = new Entry[entries.length - 1];
+                System.arraycopy(entries, 0, newEntries, 0, i);
+                System.arraycopy(entries, i + 1, newEntries, i, entries.length - i - 1);
+                entries = newEntries;
+                return true;
+            }
+            if (delta < 0) {
+                return false;
+            }
+            entries = Arrays.copyOf(entries, entries.length + 1);
+            entries[entries.length - 1] = new Entry(category, value, delta);
+            return true;
+        }
+
+        /**
+         * 같은 (category, value) 가 여러 키에 들어 있으면 가중치가 가장 큰 것 하나만 남겨,
+         * 중복이 topK 자리를 차지해 다른 항목이 밀려나지 않게 한다.
+         */
+        private void recomputeTop(int topK) {
+            final List<Entry> candidates = new ArrayList<>(Arrays.asList(entries));
+            for (Node child : children) {
+                candidates.addAll(Arrays.asList(child.top));
+            }
+            candidates.sort(BY_WEIGHT);
+
+            final Set<Entry> distinct = new LinkedHashSet<>();
+            for (Entry candidate : candidates) {
+                if (distinct.size() >= topK) {
+                    break;
+                }
+                distinct.add(candidate);
+            }
+            top = distinct.toArray(NO_ENTRIES);
+        }
+
+        private boolean isEmpty() {
+            return entries.length == 0 && children.length == 0;
+        }
+
+        private static char[] insert(char[] values, int index, char value) {
+            final char[] result = new char[values.length + 1];
+            System.arraycopy(values, 0, result, 0, index);
+            result[index] = value;
+            System.arraycopy(values, index, result, index + 1, values.length - index);
+            return result;
+        }
+    }
+}
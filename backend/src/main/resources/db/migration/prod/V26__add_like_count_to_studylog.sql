@@ -0,0 +1,12 @@
+delete l1
+from likes l1
+         join likes l2
+              on l1.studylog_id = l2.studylog_id and l1.member_id = l2.member_id and l1.id > l2.id;
+
+alter table studylog
+    add column like_count INT NOT NULL DEFAULT 0;
+
+update studylog s
+set s.like_count = (select count(*) from likes l where l.studylog_id = s.id);
+
+create unique index IX_LIKES_STUDYLOG_MEMBER on likes (studylog_id, member_id);
@@ -0,0 +1,12 @@
+CREATE TABLE studylog_index_outbox(
+    id           BIGINT      NOT NULL AUTO_INCREMENT,
+    studylog_id  BIGINT      NOT NULL,
+    attempts     INT         NOT NULL DEFAULT 0,
+    available_at DATETIME(6) NOT NULL,
+    created_at   DATETIME(6) NOT NULL,
+    claim_token  VARCHAR(36),
+    PRIMARY KEY (id)
+) ENGINE=InnoDB;
+
+create index IX_STUDYLOG_INDEX_OUTBOX_AVAILABLE_AT on studylog_index_outbox (available_at);
+create index IX_STUDYLOG_INDEX_OUTBOX_CLAIM_TOKEN on studylog_index_outbox (claim_token);
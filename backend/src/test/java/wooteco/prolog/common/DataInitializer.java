@@ -12,6 +12,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import wooteco.support.cache.ClearableCache;
 import wooteco.support.fake.FakeDocumentRepository;
 
 @Component
@@ -24,6 +25,9 @@ public class DataInitializer implements InitializingBean {
     @Autowired
     private List<FakeDocumentRepository> fakeDocumentRepositories;
 
+    @Autowired
+    private List<ClearableCache> clearableCaches;
+
     @Autowired
     private DataSource dataSource;
 
@@ -48,6 +52,7 @@ public class DataInitializer implements InitializingBean {
     public void execute() {
         truncateAllTables();
         deleteAllDocuments();
+        clearAllCaches();
     }
 
     private void truncateAllTables() {
@@ -68,4 +73,8 @@ public class DataInitializer implements InitializingBean {
     private void deleteAllDocuments() {
         fakeDocumentRepositories.forEach(it -> it.deleteAll());
     }
+
+    private void clearAllCaches() {
+        clearableCaches.forEach(ClearableCache::clear);
+    }
 }
@@ -0,0 +1,66 @@
+package wooteco.prolog.studylog.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import wooteco.prolog.studylog.domain.repository.LikeRepository;
+import wooteco.prolog.studylog.domain.repository.StudylogReadRepository;
+import wooteco.prolog.studylog.domain.repository.StudylogScrapRepository;
+import wooteco.prolog.studylog.event.MemberReactionEvent;
+
+class MemberReactionCacheTest {
+
+    private StudylogReadRepository studylogReadRepository;
+    private StudylogScrapRepository studylogScrapRepository;
+    private LikeRepository likeRepository;
+    private MemberReactionCache cache;
+
+    @BeforeEach
+    void setUp() {
+        studylogReadRepository = mock(StudylogReadRepository.class);
+        studylogScrapRepository = mock(StudylogScrapRepository.class);
+        likeRepository = mock(LikeRepository.class);
+        when(studylogReadRepository.findStudylogIdsByMemberId(anyLong())).thenReturn(Collections.emptyList());
+        when(studylogScrapRepository.findStudylogIdsByMemberId(anyLong())).thenReturn(Collections.emptyList());
+        when(likeRepository.findStudylogIdsByMemberId(anyLong())).thenReturn(Collections.emptyList());
+        cache = new MemberReactionCache(studylogReadRepository, studylogScrapRepository, likeRepository, 10);
+    }
+
+    @DisplayName("캐시된 멤버에게는 커밋된 변경을 바로 반영한다.")
+    @Test
+    void applyCommittedReaction() {
+        cache.get(1L);
+
+        cache.onMemberReaction(MemberReactionEvent.like(1L, 10L));
+        cache.onMemberReaction(MemberReactionEvent.scrap(1L, 10L));
+        cache.onMemberReaction(MemberReactionEvent.unscrap(1L, 10L));
+
+        assertThat(cache.get(1L).isLiked(10L)).isTrue();
+        assertThat(cache.get(1L).isScraped(10L)).isFalse();
+        verify(likeRepository, times(1)).findStudylogIdsByMemberId(1L);
+    }
+
+    @DisplayName("읽어오는 도중 변경이 커밋되면 읽어온 값을 캐시하지 않고 다음 조회 때 다시 읽는다.")
+    @Test
+    void discardLoadRacingWithReaction() {
+        when(likeRepository.findStudylogIdsByMemberId(1L))
+            .thenAnswer(invocation -> {
+                cache.onMemberReaction(MemberReactionEvent.like(1L, 10L));
+                return Collections.emptyList();
+            })
+            .thenReturn(Collections.singletonList(10L));
+
+        assertThat(cache.get(1L).isLiked(10L)).isFalse();
+        assertThat(cache.get(1L).isLiked(10L)).isTrue();
+        assertThat(cache.get(1L).isLiked(10L)).isTrue();
+        verify(likeRepository, times(2)).findStudylogIdsByMemberId(1L);
+    }
+}
@@ -0,0 +1,93 @@
+package wooteco.prolog.studylog.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import wooteco.prolog.studylog.application.PopularStudylogRanking.Candidate;
+import wooteco.prolog.studylog.domain.Curriculum;
+
+class PopularStudylogRankingTest {
+
+    private static final String BACKEND = "백엔드 레벨1";
+    private static final String FRONTEND = "프론트엔드 레벨1";
+
+    private final LocalDateTime now = LocalDateTime.now();
+    private final PopularStudylogRanking ranking = new PopularStudylogRanking();
+
+    @DisplayName("커리큘럼별로 점수가 높은 순서대로 순위 크기만큼만 뽑는다.")
+    @Test
+    void findTopIdsByCurriculum() {
+        Map<Long, Candidate> candidates = new HashMap<>();
+        put(candidates, 1L, BACKEND, 1, 10, 0);
+        put(candidates, 2L, BACKEND, 1, 0, 5);
+        put(candidates, 3L, BACKEND, 1, 1, 0);
+        put(candidates, 4L, FRONTEND, 1, 3, 0);
+        ranking.replaceAll(candidates, 2);
+
+        assertThat(ranking.findTopIds(Curriculum.BACKEND)).containsExactly(2L, 1L);
+        assertThat(ranking.findTopIds(Curriculum.FRONTEND)).containsExactly(4L);
+        assertThat(ranking.findTopIds()).containsExactly(2L, 1L, 4L);
+    }
+
+    @DisplayName("최근 1주일 후보가 순위 크기보다 적으면 2주, 3주로 기간을 늘린다.")
+    @Test
+    void widenWindow() {
+        Map<Long, Candidate> candidates = new HashMap<>();
+        put(candidates, 1L, BACKEND, 1, 1, 0);
+        put(candidates, 2L, BACKEND, 2, 2, 0);
+        put(candidates, 3L, BACKEND, 10, 100, 0);
+        put(candidates, 4L, BACKEND, 30, 1000, 0);
+
+        ranking.replaceAll(candidates, 2);
+        assertThat(ranking.findTopIds(Curriculum.BACKEND)).containsExactly(2L, 1L);
+
+        ranking.replaceAll(candidates, 3);
+        assertThat(ranking.findTopIds(Curriculum.BACKEND)).containsExactly(3L, 2L, 1L);
+    }
+
+    @DisplayName("좋아요, 조회, 작성, 수정, 삭제 이벤트가 다음 조회의 순위에 반영된다.")
+    @Test
+    void applyIncrementalChanges() {
+        Map<Long, Candidate> candidates = new HashMap<>();
+        put(candidates, 1L, BACKEND, 1, 2, 0);
+        put(candidates, 2L, BACKEND, 1, 1, 0);
+        ranking.replaceAll(candidates, 10);
+        assertThat(ranking.findTopIds(Curriculum.BACKEND)).containsExactly(1L, 2L);
+
+        ranking.addLike(2L, 1);
+        assertThat(ranking.findTopIds(Curriculum.BACKEND)).containsExactly(2L, 1L);
+
+        ranking.addView(1L);
+        ranking.addView(1L);
+        ranking.addView(1L);
+        assertThat(ranking.findTopIds(Curriculum.BACKEND)).containsExactly(1L, 2L);
+
+        ranking.register(3L, FRONTEND, now);
+        ranking.changeSession(2L, FRONTEND);
+        assertThat(ranking.findTopIds(Curriculum.BACKEND)).containsExactly(1L);
+        assertThat(ranking.findTopIds(Curriculum.FRONTEND)).containsExactly(2L, 3L);
+
+        ranking.remove(1L);
+        assertThat(ranking.findTopIds(Curriculum.BACKEND)).isEmpty();
+        assertThat(ranking.findTopIds()).containsExactly(2L, 3L);
+    }
+
+    @DisplayName("마지막으로 교체할 때 쓴 순위 크기를 기억하고, 초기화하면 기본값으로 돌아간다.")
+    @Test
+    void rememberRankingSize() {
+        ranking.replaceAll(new HashMap<>(), 20);
+        assertThat(ranking.getRankingSize()).isEqualTo(20);
+
+        ranking.clear();
+        assertThat(ranking.getRankingSize()).isEqualTo(10);
+    }
+
+    private void put(Map<Long, Candidate> candidates, Long id, String sessionName, int daysAgo,
+                     long views, long likes) {
+        candidates.put(id, PopularStudylogRanking.candidate(id, sessionName, now.minusDays(daysAgo), views, likes));
+    }
+}
@@ -0,0 +1,89 @@
+package wooteco.prolog.studylog.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class StudylogCountCacheTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final AtomicLong counted = new AtomicLong();
+
+    @DisplayName("같은 세대에서는 한 번만 세고 정확한 값으로 돌려준다.")
+    @Test
+    void cachedInSameGeneration() {
+        StudylogCountCache cache = new StudylogCountCache(10, false, 60, now::get);
+
+        StudylogTotalCount first = cache.count("a", () -> count(5));
+        StudylogTotalCount second = cache.count("a", () -> count(7));
+
+        assertThat(second.getTotalSize()).isEqualTo(5);
+        assertThat(second.isExact()).isTrue();
+        assertThat(first.getTotalSize()).isEqualTo(5);
+        assertThat(counted.get()).isEqualTo(1);
+    }
+
+    @DisplayName("세대가 바뀌면 다시 센다.")
+    @Test
+    void recountAfterInvalidate() {
+        StudylogCountCache cache = new StudylogCountCache(10, false, 60, now::get);
+        cache.count("a", () -> count(5));
+
+        cache.invalidate();
+
+        assertThat(cache.count("a", () -> count(6)).getTotalSize()).isEqualTo(6);
+        assertThat(counted.get()).isEqualTo(2);
+    }
+
+    @DisplayName("estimated 모드에서는 max-staleness 안의 이전 세대 값을 근사값으로 돌려준다.")
+    @Test
+    void estimated() {
+        StudylogCountCache cache = new StudylogCountCache(10, true, 60, now::get);
+        cache.count("a", () -> count(5));
+        cache.invalidate();
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(30));
+        StudylogTotalCount estimated = cache.count("a", () -> count(6));
+        now.addAndGet(TimeUnit.SECONDS.toNanos(31));
+        StudylogTotalCount recounted = cache.count("a", () -> count(6));
+
+        assertThat(estimated.getTotalSize()).isEqualTo(5);
+        assertThat(estimated.isExact()).isFalse();
+        assertThat(recounted.getTotalSize()).isEqualTo(6);
+        assertThat(recounted.isExact()).isTrue();
+    }
+
+    @DisplayName("항목 수가 상한을 넘으면 가장 오래 쓰지 않은 조건부터 버린다.")
+    @Test
+    void evictLeastRecentlyUsed() {
+        StudylogCountCache cache = new StudylogCountCache(2, false, 60, now::get);
+        cache.count("a", () -> count(1));
+        cache.count("b", () -> count(2));
+        cache.count("a", () -> count(1));
+        cache.count("c", () -> count(3));
+
+        cache.count("a", () -> count(1));
+        cache.count("b", () -> count(2));
+
+        assertThat(counted.get()).isEqualTo(4);
+    }
+
+    @DisplayName("조건 순서와 중복이 달라도 같은 signature 를 만든다.")
+    @Test
+    void signatureOf() {
+        String signature = StudylogCountCache.signatureOf(Arrays.asList(2L, 1L, 1L), null,
+            Arrays.asList(0L, 3L), null, null, null, null);
+
+        assertThat(signature).isEqualTo(StudylogCountCache.signatureOf(Arrays.asList(1L, 2L), null,
+            null, null, null, null, null));
+    }
+
+    private long count(long value) {
+        counted.incrementAndGet();
+        return value;
+    }
+}
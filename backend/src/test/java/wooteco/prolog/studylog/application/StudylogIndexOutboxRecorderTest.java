@@ -0,0 +1,63 @@
+package wooteco.prolog.studylog.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import wooteco.prolog.studylog.domain.repository.JdbcStudylogIndexOutboxRepository;
+import wooteco.prolog.studylog.event.StudylogDeleteEvent;
+import wooteco.prolog.studylog.event.StudylogUpdateEvent;
+import wooteco.support.utils.IntegrationTest;
+
+@IntegrationTest
+class StudylogIndexOutboxRecorderTest {
+
+    @Autowired
+    private StudylogIndexOutboxRecorder recorder;
+
+    @Autowired
+    private JdbcStudylogIndexOutboxRepository outboxRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @DisplayName("트랜잭션이 롤백되면 outbox 에 아무것도 남지 않는다.")
+    @Test
+    void rollback() {
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            recorder.onStudylogUpdateEvent(new StudylogUpdateEvent(1L, "세션1"));
+            recorder.onStudylogDeleteEvent(new StudylogDeleteEvent(2L));
+            status.setRollbackOnly();
+        });
+
+        // then
+        assertThat(outboxRepository.count()).isZero();
+    }
+
+    @DisplayName("한 트랜잭션에서 같은 스터디로그를 여러 번 바꾸면 커밋할 때 한 건으로 기록한다.")
+    @Test
+    void mergeInTransaction() {
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            recorder.onStudylogUpdateEvent(new StudylogUpdateEvent(1L, "세션1"));
+            recorder.onStudylogUpdateEvent(new StudylogUpdateEvent(1L, "세션2"));
+            recorder.onStudylogDeleteEvent(new StudylogDeleteEvent(1L));
+            assertThat(outboxRepository.count()).isZero();
+        });
+
+        // then
+        assertThat(outboxRepository.count()).isEqualTo(1);
+    }
+}
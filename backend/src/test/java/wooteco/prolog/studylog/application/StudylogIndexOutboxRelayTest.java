@@ -0,0 +1,129 @@
+package wooteco.prolog.studylog.application;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import wooteco.prolog.studylog.domain.StudylogDocument;
+import wooteco.prolog.studylog.domain.StudylogIndexOutbox;
+import wooteco.prolog.studylog.domain.repository.JdbcStudylogDocumentReader;
+import wooteco.prolog.studylog.domain.repository.JdbcStudylogIndexOutboxRepository;
+
+class StudylogIndexOutboxRelayTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2021, 10, 1, 12, 0);
+
+    private JdbcStudylogIndexOutboxRepository outboxRepository;
+    private JdbcStudylogDocumentReader documentReader;
+    private DocumentService documentService;
+    private SimpleMeterRegistry meterRegistry;
+    private StudylogIndexOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        outboxRepository = mock(JdbcStudylogIndexOutboxRepository.class);
+        documentReader = mock(JdbcStudylogDocumentReader.class);
+        documentService = mock(DocumentService.class);
+        meterRegistry = new SimpleMeterRegistry();
+        when(outboxRepository.findOldestCreatedAt()).thenReturn(Optional.empty());
+        relay = new StudylogIndexOutboxRelay(outboxRepository, documentReader, documentService, meterRegistry,
+            () -> NOW);
+    }
+
+    @DisplayName("같은 스터디로그의 항목이 여러 개여도 한 번만 읽어 색인하고, 가져간 항목을 모두 지운다.")
+    @Test
+    void mergeSameStudylog() {
+        // given
+        final StudylogDocument document = document(10L);
+        claim(outbox(1L, 10L, 0), outbox(2L, 10L, 0), outbox(3L, 10L, 0));
+        when(documentReader.findAllByIds(singletonList(10L))).thenReturn(singletonList(document));
+
+        // when
+        relay.relay();
+
+        // then
+        verify(documentReader).findAllByIds(singletonList(10L));
+        verify(documentService).saveAll(singletonList(document));
+        verify(documentService).deleteAllByIds(emptyList());
+        verify(outboxRepository).deleteAllByIds(asList(1L, 2L, 3L));
+    }
+
+    @DisplayName("지워졌거나 없는 스터디로그는 색인에서 지운다.")
+    @Test
+    void deleteMissingStudylog() {
+        // given
+        final StudylogDocument document = document(10L);
+        claim(outbox(1L, 10L, 0), outbox(2L, 11L, 0));
+        when(documentReader.findAllByIds(asList(10L, 11L))).thenReturn(singletonList(document));
+
+        // when
+        relay.relay();
+
+        // then
+        verify(documentService).saveAll(singletonList(document));
+        verify(documentService).deleteAllByIds(singletonList(11L));
+        verify(outboxRepository).deleteAllByIds(asList(1L, 2L));
+    }
+
+    @DisplayName("색인에 실패하면 항목을 지우지 않고 시도 횟수에 따라 늘어난 시간 뒤로 미룬다.")
+    @Test
+    void postponeFailedBatch() {
+        // given
+        claim(outbox(1L, 10L, 0), outbox(2L, 11L, 3), outbox(3L, 12L, 20));
+        when(documentReader.findAllByIds(anyList())).thenReturn(emptyList());
+        doThrow(new IllegalStateException()).when(documentService).saveAll(anyList());
+
+        // when
+        relay.relay();
+
+        // then
+        verify(outboxRepository).postpone(asList(1L, 2L, 3L),
+            asList(NOW.plusSeconds(1), NOW.plusSeconds(8), NOW.plusSeconds(300)));
+        verify(outboxRepository, never()).deleteAllByIds(anyList());
+        assertThat(meterRegistry.get("studylog.index.outbox.failures").counter().count()).isEqualTo(1);
+    }
+
+    @DisplayName("남은 항목 수와 가장 오래된 항목의 대기 시간을 gauge 로 보여준다.")
+    @Test
+    void gauges() {
+        // given
+        claim();
+        when(outboxRepository.count()).thenReturn(3L);
+        when(outboxRepository.findOldestCreatedAt()).thenReturn(Optional.of(NOW.minusSeconds(42)));
+
+        // when
+        relay.relay();
+
+        // then
+        assertThat(meterRegistry.get("studylog.index.outbox.pending").gauge().value()).isEqualTo(3);
+        assertThat(meterRegistry.get("studylog.index.outbox.lag").gauge().value()).isEqualTo(42);
+    }
+
+    private void claim(StudylogIndexOutbox... outboxes) {
+        when(outboxRepository.claim(any(), any(), anyInt())).thenReturn(Arrays.asList(outboxes));
+    }
+
+    private StudylogIndexOutbox outbox(Long id, Long studylogId, int attempts) {
+        return new StudylogIndexOutbox(id, studylogId, attempts, NOW, NOW, "token");
+    }
+
+    private StudylogDocument document(Long id) {
+        return new StudylogDocument(id, "제목", "내용", emptyList(), 1L, 1L, "gracefulBrown", NOW);
+    }
+}
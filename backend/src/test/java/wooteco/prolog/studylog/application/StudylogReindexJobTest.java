@@ -0,0 +1,151 @@
+package wooteco.prolog.studylog.application;
+
+import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import wooteco.prolog.login.application.dto.GithubProfileResponse;
+import wooteco.prolog.member.application.MemberService;
+import wooteco.prolog.member.domain.Member;
+import wooteco.prolog.session.application.MissionService;
+import wooteco.prolog.session.application.SessionService;
+import wooteco.prolog.session.application.dto.MissionRequest;
+import wooteco.prolog.session.application.dto.MissionResponse;
+import wooteco.prolog.session.application.dto.SessionRequest;
+import wooteco.prolog.session.application.dto.SessionResponse;
+import wooteco.prolog.studylog.application.dto.StudylogReindexResponse;
+import wooteco.prolog.studylog.application.dto.StudylogRequest;
+import wooteco.prolog.studylog.application.dto.StudylogResponse;
+import wooteco.prolog.studylog.application.dto.TagRequest;
+import wooteco.prolog.studylog.domain.StudylogDocument;
+import wooteco.prolog.studylog.domain.repository.FakeStudylogDocumentRepository;
+import wooteco.prolog.studylog.domain.repository.JdbcStudylogDocumentReader;
+import wooteco.prolog.studylog.domain.repository.StudylogRepository;
+import wooteco.support.utils.IntegrationTest;
+
+@IntegrationTest
+class StudylogReindexJobTest {
+
+    private static final int STUDYLOG_COUNT = 503;
+    private static final String UPDATED_TITLE = "재색인 중에 수정된 제목";
+
+    @Autowired
+    private StudylogService studylogService;
+    @Autowired
+    private SessionService sessionService;
+    @Autowired
+    private MissionService missionService;
+    @Autowired
+    private MemberService memberService;
+    @Autowired
+    private StudylogRepository studylogRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final FakeStudylogDocumentRepository studylogDocumentRepository = new FakeStudylogDocumentRepository();
+    private StudylogReindexJob studylogReindexJob;
+    private Member member;
+    private List<Long> ids;
+
+    @BeforeEach
+    void setUp() {
+        SessionResponse session = sessionService.create(new SessionRequest("세션1"));
+        MissionResponse mission = missionService.create(new MissionRequest("자동차 미션", session.getId()));
+        member = memberService.findOrCreateMember(new GithubProfileResponse("이름1", "별명1", "1", "image"));
+
+        List<StudylogRequest> requests = IntStream.range(0, STUDYLOG_COUNT)
+            .mapToObj(i -> new StudylogRequest("제목" + i, "내용" + i, session.getId(), mission.getId(),
+                singletonList(new TagRequest("재색인"))))
+            .collect(toList());
+        ids = studylogService.insertStudylogs(member.getId(), requests).stream()
+            .map(StudylogResponse::getId)
+            .collect(toList());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (studylogReindexJob != null) {
+            studylogReindexJob.shutdown();
+        }
+    }
+
+    @DisplayName("청크 크기보다 많은 스터디로그를 재색인하고, 재색인 도중 수정/삭제된 스터디로그는 끝난 뒤 다시 반영한다.")
+    @Test
+    void reindex() throws InterruptedException {
+        // given
+        Long deletedBefore = ids.get(ids.size() - 1);
+        Long updatedDuring = ids.get(0);
+        Long deletedDuring = ids.get(1);
+        studylogService.deleteStudylog(member.getId(), deletedBefore);
+        studylogReindexJob = new StudylogReindexJob(new FakeStudylogDocumentService(studylogDocumentRepository,
+            studylogRepository, new ChangingReader(jdbcTemplate, updatedDuring, deletedDuring)));
+
+        // when
+        studylogReindexJob.start();
+        StudylogReindexResponse response = awaitFinished();
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(StudylogReindexProgress.Status.COMPLETED.name());
+        assertThat(response.getTotal()).isEqualTo(STUDYLOG_COUNT - 1);
+        assertThat(response.getProcessed()).isEqualTo(STUDYLOG_COUNT - 1);
+        assertThat(studylogDocumentRepository.count()).isEqualTo(STUDYLOG_COUNT - 2);
+        assertThat(studylogDocumentRepository.findById(updatedDuring))
+            .map(StudylogDocument::getTitle)
+            .hasValue(UPDATED_TITLE);
+        assertThat(studylogDocumentRepository.findById(deletedDuring)).isEmpty();
+        assertThat(studylogDocumentRepository.findById(deletedBefore)).isEmpty();
+    }
+
+    private StudylogReindexResponse awaitFinished() throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            StudylogReindexResponse response = studylogReindexJob.status();
+            if (!StudylogReindexProgress.Status.RUNNING.name().equals(response.getStatus())) {
+                return response;
+            }
+            Thread.sleep(100);
+        }
+        throw new AssertionError("재색인이 끝나지 않았습니다.");
+    }
+
+    /**
+     * 첫 청크를 읽은 직후, 이미 읽은 스터디로그 하나를 수정하고 하나를 삭제한다.
+     */
+    private static class ChangingReader extends JdbcStudylogDocumentReader {
+
+        private final JdbcTemplate jdbcTemplate;
+        private final Long updatedId;
+        private final Long deletedId;
+        private boolean changed;
+
+        ChangingReader(JdbcTemplate jdbcTemplate, Long updatedId, Long deletedId) {
+            super(jdbcTemplate);
+            this.jdbcTemplate = jdbcTemplate;
+            this.updatedId = updatedId;
+            this.deletedId = deletedId;
+        }
+
+        @Override
+        public List<StudylogDocument> findChunkAfter(long lastId, int size) {
+            List<StudylogDocument> chunk = super.findChunkAfter(lastId, size);
+            if (!changed) {
+                changed = true;
+                Timestamp now = Timestamp.valueOf(LocalDateTime.now().plusSeconds(1));
+                jdbcTemplate.update("update studylog set title = ?, updated_at = ? where id = ?",
+                    UPDATED_TITLE, now, updatedId);
+                jdbcTemplate.update("update studylog set deleted = true, updated_at = ? where id = ?",
+                    now, deletedId);
+            }
+            return chunk;
+        }
+    }
+}
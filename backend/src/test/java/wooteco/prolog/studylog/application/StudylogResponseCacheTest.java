@@ -0,0 +1,119 @@
+package wooteco.prolog.studylog.application;
+
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+import wooteco.prolog.member.domain.Member;
+import wooteco.prolog.member.domain.Role;
+import wooteco.prolog.member.domain.repository.MemberRepository;
+import wooteco.prolog.session.domain.Mission;
+import wooteco.prolog.session.domain.Session;
+import wooteco.prolog.session.domain.repository.MissionRepository;
+import wooteco.prolog.session.domain.repository.SessionRepository;
+import wooteco.prolog.studylog.domain.Studylog;
+import wooteco.prolog.studylog.domain.repository.StudylogRepository;
+import wooteco.prolog.studylog.event.StudylogDeleteEvent;
+import wooteco.prolog.studylog.event.StudylogUpdateEvent;
+import wooteco.support.utils.IntegrationTest;
+
+@IntegrationTest
+@Transactional
+class StudylogResponseCacheTest {
+
+    // 제목과 본문이 세 글자씩인 골격의 무게: 256 + 2 * (3 + 3)
+    private static final long SKELETON_WEIGHT = 268L;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private SessionRepository sessionRepository;
+
+    @Autowired
+    private MissionRepository missionRepository;
+
+    @Autowired
+    private StudylogRepository studylogRepository;
+
+    private Studylog first;
+    private Studylog second;
+    private Studylog third;
+
+    @BeforeEach
+    void setUp() {
+        final Member member = memberRepository.save(new Member("sihyung92", "웨지", Role.CREW, 2222L,
+            "https://avatars.githubusercontent.com/u/51393021?v=4"));
+        final Session session = sessionRepository.save(new Session("세션1"));
+        final Mission mission = missionRepository.save(new Mission("미션", session));
+        first = studylogRepository.save(new Studylog(member, "제목1", "내용1", mission, emptyList()));
+        second = studylogRepository.save(new Studylog(member, "제목2", "내용2", mission, emptyList()));
+        third = studylogRepository.save(new Studylog(member, "제목3", "내용3", mission, emptyList()));
+    }
+
+    @DisplayName("캐시할 때의 updatedAt 과 같은 버전으로 조회할 때만 골격을 돌려준다.")
+    @Test
+    void getWithSameUpdatedAt() {
+        // given
+        final StudylogResponseCache cache = new StudylogResponseCache(SKELETON_WEIGHT * 10);
+        cache.put(first);
+
+        // when, then
+        assertThat(cache.get(first.getId(), first.getUpdatedAt())).isNotNull();
+        assertThat(cache.get(first.getId(), first.getUpdatedAt().plusSeconds(1))).isNull();
+        assertThat(cache.get(second.getId(), second.getUpdatedAt())).isNull();
+    }
+
+    @DisplayName("전체 무게가 상한을 넘으면 가장 오래 쓰지 않은 항목부터 버리고, 상한보다 무거운 항목은 보관하지 않는다.")
+    @Test
+    void evictByWeight() {
+        // given
+        final StudylogResponseCache cache = new StudylogResponseCache(SKELETON_WEIGHT * 2);
+        cache.put(first);
+        cache.put(second);
+        cache.get(first.getId(), first.getUpdatedAt());
+
+        // when
+        cache.put(third);
+
+        // then
+        assertThat(cache.get(first.getId(), first.getUpdatedAt())).isNotNull();
+        assertThat(cache.get(second.getId(), second.getUpdatedAt())).isNull();
+        assertThat(cache.get(third.getId(), third.getUpdatedAt())).isNotNull();
+
+        final StudylogResponseCache tooSmall = new StudylogResponseCache(SKELETON_WEIGHT - 1);
+        assertThat(tooSmall.put(first)).isNotNull();
+        assertThat(tooSmall.get(first.getId(), first.getUpdatedAt())).isNull();
+    }
+
+    @DisplayName("수정/삭제 이벤트를 받으면 바로 지우고, 커밋 전에 다시 캐시된 골격도 커밋 뒤에 한 번 더 지운다.")
+    @Test
+    void evictOnUpdateAndDelete() {
+        // given
+        final StudylogResponseCache cache = new StudylogResponseCache(SKELETON_WEIGHT * 10);
+        cache.put(first);
+        cache.put(second);
+
+        // when
+        cache.onStudylogUpdateEvent(new StudylogUpdateEvent(first.getId(), "세션1"));
+        cache.onStudylogDeleteEvent(new StudylogDeleteEvent(second.getId()));
+
+        // then
+        assertThat(cache.get(first.getId(), first.getUpdatedAt())).isNull();
+        assertThat(cache.get(second.getId(), second.getUpdatedAt())).isNull();
+
+        // when
+        cache.put(first);
+        cache.put(second);
+        cache.afterStudylogUpdateCommit(new StudylogUpdateEvent(first.getId(), "세션1"));
+        cache.afterStudylogDeleteCommit(new StudylogDeleteEvent(second.getId()));
+
+        // then
+        assertThat(cache.get(first.getId(), first.getUpdatedAt())).isNull();
+        assertThat(cache.get(second.getId(), second.getUpdatedAt())).isNull();
+    }
+}
@@ -0,0 +1,149 @@
+package wooteco.prolog.studylog.application;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import wooteco.prolog.studylog.application.dto.StudylogDocumentResponse;
+
+class StudylogSearchResultCacheTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final AtomicInteger searched = new AtomicInteger();
+    private SimpleMeterRegistry meterRegistry;
+    private StudylogSearchResultCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new StudylogSearchResultCache(2, 60, 1000, meterRegistry, now::get);
+        advanceSeconds(10);
+    }
+
+    @DisplayName("같은 세대에서는 한 번만 검색하고 저장한 결과를 돌려주며, 적중과 실패를 센다.")
+    @Test
+    void hitInSameGeneration() {
+        // when
+        final StudylogDocumentResponse first = cache.getOrSearch(key("java"), () -> search(1L));
+        final StudylogDocumentResponse second = cache.getOrSearch(key("java"), () -> search(2L));
+
+        // then
+        assertThat(first.getStudylogIds()).containsExactly(1L);
+        assertThat(second.getStudylogIds()).containsExactly(1L);
+        assertThat(searched.get()).isEqualTo(1);
+        assertThat(requests("hit")).isEqualTo(1);
+        assertThat(requests("miss")).isEqualTo(1);
+    }
+
+    @DisplayName("invalidate 로 세대가 바뀌면 이전 세대의 결과는 쓰지 않는다.")
+    @Test
+    void invalidate() {
+        // given
+        cache.getOrSearch(key("java"), () -> search(1L));
+
+        // when
+        cache.invalidate();
+        advanceSeconds(2);
+
+        // then
+        assertThat(cache.getOrSearch(key("java"), () -> search(2L)).getStudylogIds()).containsExactly(2L);
+        assertThat(searched.get()).isEqualTo(2);
+    }
+
+    @DisplayName("세대를 올린 직후 refresh 간격 안에 끝난 검색 결과는 저장하지 않는다.")
+    @Test
+    void skipStoreDuringRefreshGrace() {
+        // given
+        cache.invalidate();
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+
+        // when
+        cache.getOrSearch(key("java"), () -> search(1L));
+        cache.getOrSearch(key("java"), () -> search(2L));
+
+        // then
+        assertThat(searched.get()).isEqualTo(2);
+    }
+
+    @DisplayName("검색하는 동안 세대가 바뀌면 그 결과는 저장하지 않는다.")
+    @Test
+    void skipStoreWhenGenerationChangesDuringSearch() {
+        // given
+        cache.getOrSearch(key("java"), () -> {
+            cache.invalidate();
+            advanceSeconds(2);
+            return search(1L);
+        });
+
+        // when
+        final StudylogDocumentResponse response = cache.getOrSearch(key("java"), () -> search(2L));
+
+        // then
+        assertThat(response.getStudylogIds()).containsExactly(2L);
+        assertThat(searched.get()).isEqualTo(2);
+    }
+
+    @DisplayName("TTL 이 지난 결과는 버리고 다시 검색한다.")
+    @Test
+    void expireAfterTtl() {
+        // given
+        cache.getOrSearch(key("java"), () -> search(1L));
+
+        // when
+        advanceSeconds(59);
+        cache.getOrSearch(key("java"), () -> search(2L));
+        advanceSeconds(1);
+        final StudylogDocumentResponse expired = cache.getOrSearch(key("java"), () -> search(3L));
+
+        // then
+        assertThat(expired.getStudylogIds()).containsExactly(3L);
+        assertThat(searched.get()).isEqualTo(2);
+    }
+
+    @DisplayName("항목 수 상한을 넘으면 가장 오래 쓰지 않은 결과부터 버린다.")
+    @Test
+    void evictLeastRecentlyUsed() {
+        // given
+        cache.getOrSearch(key("java"), () -> search(1L));
+        cache.getOrSearch(key("spring"), () -> search(2L));
+        cache.getOrSearch(key("java"), () -> search(1L));
+
+        // when
+        cache.getOrSearch(key("jpa"), () -> search(3L));
+
+        // then
+        assertThat(searched.get()).isEqualTo(3);
+        cache.getOrSearch(key("java"), () -> search(1L));
+        cache.getOrSearch(key("jpa"), () -> search(3L));
+        assertThat(searched.get()).isEqualTo(3);
+        cache.getOrSearch(key("spring"), () -> search(2L));
+        assertThat(searched.get()).isEqualTo(4);
+    }
+
+    private StudylogSearchResultCache.Key key(String keyword) {
+        return StudylogSearchResultCache.key(singletonList(keyword), emptyList(), emptyList(), emptyList(),
+            emptyList(), null, null, PageRequest.of(0, 10));
+    }
+
+    private StudylogDocumentResponse search(Long studylogId) {
+        searched.incrementAndGet();
+        return StudylogDocumentResponse.of(singletonList(studylogId), 1L, 1, 0);
+    }
+
+    private void advanceSeconds(long seconds) {
+        now.addAndGet(TimeUnit.SECONDS.toNanos(seconds));
+    }
+
+    private double requests(String result) {
+        return meterRegistry.get("studylog.search.cache.requests").tag("result", result).counter().count();
+    }
+}
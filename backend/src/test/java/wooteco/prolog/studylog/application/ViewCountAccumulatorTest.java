@@ -0,0 +1,57 @@
+package wooteco.prolog.studylog.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import wooteco.prolog.studylog.domain.repository.JdbcStudylogViewCountRepository;
+
+class ViewCountAccumulatorTest {
+
+    private final JdbcStudylogViewCountRepository repository = mock(JdbcStudylogViewCountRepository.class);
+    private final ViewCountAccumulator accumulator = new ViewCountAccumulator(repository);
+
+    @DisplayName("반영한 조회수는 지우고, 다음 주기에는 아무것도 쓰지 않는다.")
+    @Test
+    void flushRemovesAppliedViews() {
+        accumulator.increase(1L);
+        accumulator.increase(1L);
+
+        accumulator.flush();
+        accumulator.flush();
+
+        assertThat(accumulator.pendingOf(1L)).isZero();
+        verify(repository, times(1)).addViews(Collections.singletonList(1L), Collections.singletonList(2L));
+    }
+
+    @DisplayName("반영에 실패하면 조회수를 되돌려 다음 주기에 다시 쓴다.")
+    @Test
+    void restoreOnFailure() {
+        when(repository.addViews(anyList(), anyList()))
+            .thenThrow(new IllegalStateException())
+            .thenReturn(new int[]{1});
+        accumulator.increase(1L);
+
+        accumulator.flush();
+        assertThat(accumulator.pendingOf(1L)).isEqualTo(1);
+
+        accumulator.flush();
+        assertThat(accumulator.pendingOf(1L)).isZero();
+        verify(repository, times(2)).addViews(Collections.singletonList(1L), Collections.singletonList(1L));
+    }
+
+    @DisplayName("조회가 없었다면 반영하지 않는다.")
+    @Test
+    void flushWithoutViews() {
+        accumulator.flush();
+
+        verify(repository, never()).addViews(anyList(), anyList());
+    }
+}
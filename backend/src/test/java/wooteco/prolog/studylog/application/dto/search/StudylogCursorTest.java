@@ -0,0 +1,49 @@
+package wooteco.prolog.studylog.application.dto.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import wooteco.prolog.studylog.exception.InvalidCursorException;
+
+class StudylogCursorTest {
+
+    @DisplayName("인코딩한 커서를 디코딩하면 마지막 id 를 돌려준다.")
+    @Test
+    void encodeAndDecode() {
+        String encoded = StudylogCursor.encode(42L);
+
+        assertThat(StudylogCursor.decode(encoded).getLastId()).isEqualTo(42L);
+    }
+
+    @DisplayName("빈 커서는 첫 페이지를 뜻한다.")
+    @Test
+    void decodeEmpty() {
+        assertThat(StudylogCursor.decode("").getLastId()).isNull();
+        assertThat(StudylogCursor.decode(null).getLastId()).isNull();
+    }
+
+    @DisplayName("Base64 가 아닌 커서는 InvalidCursorException 을 던진다.")
+    @Test
+    void decodeMalformed() {
+        assertThatThrownBy(() -> StudylogCursor.decode("not base64!"))
+            .isInstanceOf(InvalidCursorException.class);
+    }
+
+    @DisplayName("접두어가 없거나 id 가 음수, 숫자가 아닌 커서는 InvalidCursorException 을 던진다.")
+    @ParameterizedTest
+    @ValueSource(strings = {"page:1", "id:", "id:abc", "id:-1", "id:99999999999999999999"})
+    void decodeInvalid(String value) {
+        assertThatThrownBy(() -> StudylogCursor.decode(encodeRaw(value)))
+            .isInstanceOf(InvalidCursorException.class);
+    }
+
+    private String encodeRaw(String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
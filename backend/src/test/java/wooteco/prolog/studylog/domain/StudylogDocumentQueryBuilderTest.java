@@ -0,0 +1,163 @@
+package wooteco.prolog.studylog.domain;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.List;
+import org.elasticsearch.index.query.BoolQueryBuilder;
+import org.elasticsearch.index.query.MatchAllQueryBuilder;
+import org.elasticsearch.index.query.MultiMatchQueryBuilder;
+import org.elasticsearch.index.query.Operator;
+import org.elasticsearch.index.query.QueryBuilder;
+import org.elasticsearch.index.query.RangeQueryBuilder;
+import org.elasticsearch.index.query.TermsQueryBuilder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.elasticsearch.core.query.NativeSearchQuery;
+
+class StudylogDocumentQueryBuilderTest {
+
+    @DisplayName("검색어로 query_string 이나 wildcard 쿼리를 만들지 않는다.")
+    @Test
+    void noQueryStringOrWildcard() {
+        // when
+        final QueryBuilder query = makeQuery(asList("자바", "j", "자바 스프링"));
+
+        // then
+        assertThat(query.toString())
+            .doesNotContain("query_string")
+            .doesNotContain("wildcard");
+    }
+
+    @DisplayName("한 단어 검색어는 ngram 하위 필드에서 AND 로 찾는다.")
+    @Test
+    void singleWordToNgram() {
+        // when
+        final MultiMatchQueryBuilder match = singleShould(StudylogDocumentQueryBuilder.keywordQuery(
+            singletonList("자바")));
+
+        // then
+        assertThat(match.fields()).containsOnlyKeys("title.ngram", "content.ngram");
+        assertThat(match.operator()).isEqualTo(Operator.AND);
+        assertThat(match.type()).isEqualTo(MultiMatchQueryBuilder.Type.BEST_FIELDS);
+    }
+
+    @DisplayName("한 글자 검색어는 edge 하위 필드에서 찾는다.")
+    @Test
+    void singleCharacterToEdge() {
+        // when
+        final MultiMatchQueryBuilder match = singleShould(StudylogDocumentQueryBuilder.keywordQuery(
+            singletonList("j")));
+
+        // then
+        assertThat(match.fields()).containsOnlyKeys("title.edge", "content.edge");
+    }
+
+    @DisplayName("여러 단어 검색어는 형태소 분석한 필드에서 구문으로 찾는다.")
+    @Test
+    void multiWordToPhrase() {
+        // when
+        final MultiMatchQueryBuilder match = singleShould(StudylogDocumentQueryBuilder.keywordQuery(
+            singletonList("자바 스프링")));
+
+        // then
+        assertThat(match.fields()).containsOnlyKeys("title", "content");
+        assertThat(match.type()).isEqualTo(MultiMatchQueryBuilder.Type.PHRASE);
+    }
+
+    @DisplayName("검색어마다 should 절을 하나씩 만들고, 하나만 맞아도 찾는다.")
+    @Test
+    void shouldPerKeyword() {
+        // when
+        final BoolQueryBuilder query = (BoolQueryBuilder) StudylogDocumentQueryBuilder.keywordQuery(
+            asList("자바", "스프링"));
+
+        // then
+        assertThat(query.should()).hasSize(2);
+        assertThat(query.minimumShouldMatch()).isEqualTo("1");
+    }
+
+    @DisplayName("검색어가 없거나 공백뿐이면 모든 문서와 일치한다.")
+    @Test
+    void emptyKeywordsToMatchAll() {
+        // when, then
+        assertThat(StudylogDocumentQueryBuilder.keywordQuery(emptyList()))
+            .isInstanceOf(MatchAllQueryBuilder.class);
+        assertThat(StudylogDocumentQueryBuilder.keywordQuery(singletonList("  ")))
+            .isInstanceOf(MatchAllQueryBuilder.class);
+        assertThat(makeQuery(emptyList()).must()).singleElement()
+            .isInstanceOf(MatchAllQueryBuilder.class);
+    }
+
+    @DisplayName("태그/미션/세션/작성자/기간 조건은 점수를 매기지 않는 filter 절에 넣는다.")
+    @Test
+    void structuredConditionsToFilter() {
+        // when
+        final BoolQueryBuilder query = makeQuery(singletonList("자바"), singletonList(1L), singletonList(2L),
+            singletonList(3L), singletonList("gracefulBrown"), LocalDate.of(2021, 7, 1), LocalDate.of(2021, 7, 31));
+
+        // then
+        assertThat(query.must()).hasSize(1);
+        assertThat(query.filter()).hasSize(5);
+        assertThat(query.filter()).filteredOn(TermsQueryBuilder.class::isInstance)
+            .extracting(it -> ((TermsQueryBuilder) it).fieldName())
+            .containsExactly("tagIds", "missionId", "levelId", "username");
+    }
+
+    @DisplayName("비어있거나 null 인 조건은 filter 절을 만들지 않는다.")
+    @Test
+    void noFilterForEmptyConditions() {
+        // when
+        final BoolQueryBuilder empty = makeQuery(singletonList("자바"));
+        final BoolQueryBuilder nulls = makeQuery(singletonList("자바"), null, null, null, null, null, null);
+
+        // then
+        assertThat(empty.filter()).isEmpty();
+        assertThat(nulls.filter()).isEmpty();
+    }
+
+    @DisplayName("기간은 dateTime 필드에 basic_date 형식으로 넣고, 주어진 쪽만 경계로 삼는다.")
+    @Test
+    void rangeInBasicDate() {
+        // when
+        final RangeQueryBuilder both = singleRange(LocalDate.of(2021, 7, 1), LocalDate.of(2021, 7, 31));
+        final RangeQueryBuilder startOnly = singleRange(LocalDate.of(2021, 7, 1), null);
+
+        // then
+        assertThat(both.fieldName()).isEqualTo("dateTime");
+        assertThat(both.from()).isEqualTo("20210701");
+        assertThat(both.to()).isEqualTo("20210731");
+        assertThat(both.includeLower()).isTrue();
+        assertThat(both.includeUpper()).isTrue();
+        assertThat(startOnly.from()).isEqualTo("20210701");
+        assertThat(startOnly.to()).isNull();
+    }
+
+    private BoolQueryBuilder makeQuery(List<String> keywords) {
+        return makeQuery(keywords, emptyList(), emptyList(), emptyList(), emptyList(), null, null);
+    }
+
+    private BoolQueryBuilder makeQuery(List<String> keywords, List<Long> tags, List<Long> missions,
+                                       List<Long> levels, List<String> usernames, LocalDate start, LocalDate end) {
+        final NativeSearchQuery query = (NativeSearchQuery) StudylogDocumentQueryBuilder.makeQuery(keywords,
+            tags, missions, levels, usernames, start, end, PageRequest.of(0, 10));
+        return (BoolQueryBuilder) query.getQuery();
+    }
+
+    private RangeQueryBuilder singleRange(LocalDate start, LocalDate end) {
+        final List<QueryBuilder> filter = makeQuery(emptyList(), emptyList(), emptyList(), emptyList(),
+            emptyList(), start, end).filter();
+        assertThat(filter).hasSize(1);
+        return (RangeQueryBuilder) filter.get(0);
+    }
+
+    private MultiMatchQueryBuilder singleShould(QueryBuilder keywordQuery) {
+        final List<QueryBuilder> should = ((BoolQueryBuilder) keywordQuery).should();
+        assertThat(should).hasSize(1);
+        return (MultiMatchQueryBuilder) should.get(0);
+    }
+}
@@ -12,7 +12,7 @@ import wooteco.prolog.session.domain.Session;
 
 class StudylogTest {
 
-    @DisplayName("좋아요와 조회를 기준으로 인기점수를 반환한다.")
+    @DisplayName("좋아요 수를 기준으로 인기점수를 반환한다.")
     @Test
     void getPopularScore() {
         // given
@@ -25,9 +25,7 @@ class StudylogTest {
 
         // when, then
         assertThat(studylog.getPopularScore()).isEqualTo(0);
-        studylog.increaseViewCount();
-        assertThat(studylog.getPopularScore()).isEqualTo(1);
-        studylog.like(1L);
-        assertThat(studylog.getPopularScore()).isEqualTo(3 + 1);
+        studylog.increaseLikeCount();
+        assertThat(studylog.getPopularScore()).isEqualTo(3);
     }
 }
@@ -0,0 +1,81 @@
+package wooteco.prolog.studylog.domain.repository;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.elasticsearch.index.query.QueryBuilders;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import wooteco.prolog.studylog.domain.StudylogDocument;
+import wooteco.prolog.studylog.domain.StudylogDocumentQueryBuilder;
+
+class FakeStudylogDocumentRepositoryTest {
+
+    private FakeStudylogDocumentRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new FakeStudylogDocumentRepository();
+        repository.save(document(1L, "자바 스트림 정리", asList(1L, 2L), "gracefulBrown", 7));
+        repository.save(document(2L, "스프링 트랜잭션 정리", singletonList(2L), "gracefulBrown", 8));
+        repository.save(document(3L, "JPA 스트림", singletonList(3L), "pomo", 9));
+    }
+
+    @DisplayName("StudylogDocumentQueryBuilder 로 만든 쿼리를 메모리 색인 검색과 같은 조건으로 검색한다.")
+    @Test
+    void searchByQuery() {
+        // when
+        final Page<StudylogDocument> page = repository.search(StudylogDocumentQueryBuilder.makeQuery(
+            asList("스트림", "트랜잭션"), singletonList(2L), emptyList(), emptyList(), singletonList("gracefulBrown"),
+            LocalDate.of(2021, 7, 1), LocalDate.of(2021, 7, 31), PageRequest.of(0, 10)));
+
+        // then
+        assertThat(page.getContent()).extracting(StudylogDocument::getId).containsExactly(1L);
+    }
+
+    @DisplayName("검색어가 없는 쿼리는 전체 문서를 최신 글부터 페이지 단위로 자른다.")
+    @Test
+    void searchAllByQuery() {
+        // when
+        final Page<StudylogDocument> page = repository.search(StudylogDocumentQueryBuilder.makeQuery(
+            emptyList(), emptyList(), emptyList(), emptyList(), emptyList(), null, null, PageRequest.of(0, 2)));
+
+        // then
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(page.getContent()).extracting(StudylogDocument::getId).containsExactly(3L, 2L);
+    }
+
+    @DisplayName("QueryBuilder 로 직접 검색할 수 있다.")
+    @Test
+    void searchByQueryBuilder() {
+        // when
+        final Iterable<StudylogDocument> documents = repository.search(QueryBuilders.boolQuery()
+            .must(QueryBuilders.multiMatchQuery("정리"))
+            .filter(QueryBuilders.termsQuery("username", "gracefulBrown")));
+
+        // then
+        assertThat(documents).extracting(StudylogDocument::getId).containsExactly(2L, 1L);
+    }
+
+    @DisplayName("메모리 색인이 흉내낼 수 없는 쿼리는 예외가 발생한다.")
+    @Test
+    void searchByUnsupportedQuery() {
+        assertThatThrownBy(() -> repository.search(QueryBuilders.boolQuery()
+            .mustNot(QueryBuilders.termsQuery("username", "pomo"))))
+            .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    private StudylogDocument document(Long id, String title, List<Long> tagIds, String username, int month) {
+        return new StudylogDocument(id, title, "", tagIds, 1L, 1L, username,
+            LocalDateTime.of(2021, month, 1, 10, 0));
+    }
+}
@@ -0,0 +1,88 @@
+package wooteco.prolog.studylog.domain.repository;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import wooteco.prolog.studylog.domain.StudylogDocument;
+
+class InMemoryStudylogDocumentIndexTest {
+
+    private InMemoryStudylogDocumentIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new InMemoryStudylogDocumentIndex();
+        index.put(document(1L, "자바 스트림 정리", "Stream API 를 공부했다.", asList(1L, 2L), 1L, "gracefulBrown"));
+        index.put(document(2L, "스프링 트랜잭션", "전파 속성 정리", singletonList(2L), 2L, "gracefulBrown"));
+        index.put(document(3L, "JPA 지연 로딩", "프록시와 스트림", singletonList(3L), 1L, "pomo"));
+    }
+
+    @DisplayName("단어의 일부만으로 title, content 를 대소문자 구분 없이 검색한다.")
+    @Test
+    void searchByPartialToken() {
+        assertThat(searchIds(singletonList("stre"), emptyList(), emptyList())).containsExactly(1L);
+        assertThat(searchIds(singletonList("스트림"), emptyList(), emptyList())).containsExactly(3L, 1L);
+    }
+
+    @DisplayName("여러 단어 검색어는 단어가 연속으로 나올 때만 일치한다.")
+    @Test
+    void searchByPhrase() {
+        assertThat(searchIds(singletonList("스트림 정리"), emptyList(), emptyList())).containsExactly(1L);
+        assertThat(searchIds(singletonList("정리 스트림"), emptyList(), emptyList())).isEmpty();
+    }
+
+    @DisplayName("태그와 작성자 조건은 검색어 결과를 AND 로 거른다.")
+    @Test
+    void searchWithFilters() {
+        assertThat(searchIds(singletonList("정리"), singletonList(2L), singletonList("gracefulBrown")))
+            .containsExactly(2L, 1L);
+        assertThat(searchIds(singletonList("정리"), singletonList(3L), emptyList())).isEmpty();
+    }
+
+    @DisplayName("수정하거나 삭제한 문서는 이전 내용으로 검색되지 않는다.")
+    @Test
+    void updateAndRemove() {
+        index.put(document(1L, "코틀린 코루틴", "비동기", singletonList(1L), 1L, "gracefulBrown"));
+        index.remove(2L);
+
+        assertThat(searchIds(singletonList("스트림"), emptyList(), emptyList())).containsExactly(3L);
+        assertThat(searchIds(singletonList("코루틴"), emptyList(), emptyList())).containsExactly(1L);
+        assertThat(index.find(2L)).isEmpty();
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @DisplayName("검색 결과를 최신 글부터 페이지 단위로 자른다.")
+    @Test
+    void paging() {
+        final Page<StudylogDocument> page = index.search(emptyList(), emptyList(), emptyList(), emptyList(),
+            emptyList(), null, null, PageRequest.of(1, 2));
+
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(page.getTotalPages()).isEqualTo(2);
+        assertThat(page.getContent()).extracting(StudylogDocument::getId).containsExactly(1L);
+    }
+
+    private List<Long> searchIds(List<String> keywords, List<Long> tags, List<String> usernames) {
+        return index.search(keywords, tags, emptyList(), emptyList(), usernames,
+                LocalDate.of(2000, 1, 1), LocalDate.of(2999, 12, 31), PageRequest.of(0, 10))
+            .stream()
+            .map(StudylogDocument::getId)
+            .collect(Collectors.toList());
+    }
+
+    private StudylogDocument document(Long id, String title, String content, List<Long> tagIds, Long missionId,
+                                      String username) {
+        return new StudylogDocument(id, title, content, tagIds, missionId, 1L, username, LocalDateTime.now());
+    }
+}
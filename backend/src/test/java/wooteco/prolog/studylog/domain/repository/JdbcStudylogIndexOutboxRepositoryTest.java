@@ -0,0 +1,88 @@
+package wooteco.prolog.studylog.domain.repository;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import wooteco.prolog.studylog.domain.StudylogIndexOutbox;
+import wooteco.support.utils.IntegrationTest;
+
+@IntegrationTest
+class JdbcStudylogIndexOutboxRepositoryTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2021, 10, 1, 12, 0);
+
+    @Autowired
+    private JdbcStudylogIndexOutboxRepository outboxRepository;
+
+    @DisplayName("처리할 수 있는 항목을 id 순으로 가져가고, 가져간 항목은 임대 시간이 지나기 전까지 다시 가져가지 않는다.")
+    @Test
+    void claim() {
+        // given
+        outboxRepository.append(asList(10L, 11L, 12L), NOW);
+        final LocalDateTime leaseUntil = NOW.plusSeconds(60);
+
+        // when
+        final List<StudylogIndexOutbox> first = outboxRepository.claim(NOW, leaseUntil, 2);
+        final List<StudylogIndexOutbox> second = outboxRepository.claim(NOW, leaseUntil, 10);
+        final List<StudylogIndexOutbox> third = outboxRepository.claim(NOW, leaseUntil, 10);
+
+        // then
+        assertThat(first).extracting(StudylogIndexOutbox::getStudylogId).containsExactly(10L, 11L);
+        assertThat(first).extracting(StudylogIndexOutbox::getAvailableAt).containsOnly(leaseUntil);
+        assertThat(second).extracting(StudylogIndexOutbox::getStudylogId).containsExactly(12L);
+        assertThat(first.get(0).getClaimToken()).isNotEqualTo(second.get(0).getClaimToken());
+        assertThat(third).isEmpty();
+    }
+
+    @DisplayName("가져간 서버가 임대 시간 안에 끝내지 못한 항목은 임대 시간이 지나면 다시 가져간다.")
+    @Test
+    void claimAfterLease() {
+        // given
+        outboxRepository.append(singletonList(10L), NOW);
+        outboxRepository.claim(NOW, NOW.plusSeconds(60), 10);
+
+        // when
+        final List<StudylogIndexOutbox> reclaimed = outboxRepository.claim(NOW.plusSeconds(60), NOW.plusSeconds(120),
+            10);
+
+        // then
+        assertThat(reclaimed).extracting(StudylogIndexOutbox::getStudylogId).containsExactly(10L);
+    }
+
+    @DisplayName("미룬 항목은 시도 횟수가 하나 늘고, 정한 시각부터 다시 가져갈 수 있다.")
+    @Test
+    void postpone() {
+        // given
+        outboxRepository.append(singletonList(10L), NOW);
+        final StudylogIndexOutbox claimed = outboxRepository.claim(NOW, NOW.plusSeconds(60), 10).get(0);
+
+        // when
+        outboxRepository.postpone(singletonList(claimed.getId()), singletonList(NOW.plusSeconds(2)));
+
+        // then
+        assertThat(outboxRepository.claim(NOW.plusSeconds(1), NOW.plusSeconds(61), 10)).isEmpty();
+        final List<StudylogIndexOutbox> retried = outboxRepository.claim(NOW.plusSeconds(2), NOW.plusSeconds(62), 10);
+        assertThat(retried).extracting(StudylogIndexOutbox::getAttempts).containsExactly(1);
+    }
+
+    @DisplayName("반영한 항목만 지운다.")
+    @Test
+    void deleteAllByIds() {
+        // given
+        outboxRepository.append(asList(10L, 11L), NOW);
+        final List<StudylogIndexOutbox> claimed = outboxRepository.claim(NOW, NOW.plusSeconds(60), 1);
+
+        // when
+        outboxRepository.deleteAllByIds(singletonList(claimed.get(0).getId()));
+
+        // then
+        assertThat(outboxRepository.count()).isEqualTo(1);
+        assertThat(outboxRepository.findOldestCreatedAt()).contains(NOW);
+    }
+}
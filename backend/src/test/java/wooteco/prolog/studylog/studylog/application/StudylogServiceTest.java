@@ -6,6 +6,7 @@ import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
 import java.time.LocalDate;
@@ -14,6 +15,8 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -28,6 +31,7 @@ import wooteco.prolog.login.application.dto.GithubProfileResponse;
 import wooteco.prolog.login.ui.LoginMember;
 import wooteco.prolog.login.ui.LoginMember.Authority;
 import wooteco.prolog.member.application.MemberService;
+import wooteco.prolog.member.application.MemberTagService;
 import wooteco.prolog.member.application.dto.MemberResponse;
 import wooteco.prolog.member.domain.Member;
 import wooteco.prolog.session.application.MissionService;
@@ -39,9 +43,14 @@ import wooteco.prolog.session.application.dto.SessionResponse;
 import wooteco.prolog.session.domain.Mission;
 import wooteco.prolog.session.domain.Session;
 import wooteco.prolog.studylog.application.DocumentService;
+import wooteco.prolog.studylog.application.MemberReactionCache;
+import wooteco.prolog.studylog.application.StudylogIndexOutboxRelay;
+import wooteco.prolog.studylog.application.StudylogListHydrator;
+import wooteco.prolog.studylog.application.StudylogResponseCache;
 import wooteco.prolog.studylog.application.StudylogScrapService;
 import wooteco.prolog.studylog.application.StudylogService;
 import wooteco.prolog.studylog.application.dto.CalendarStudylogResponse;
+import wooteco.prolog.studylog.application.dto.MemberTagResponse;
 import wooteco.prolog.studylog.application.dto.StudylogRequest;
 import wooteco.prolog.studylog.application.dto.StudylogResponse;
 import wooteco.prolog.studylog.application.dto.StudylogRssFeedResponse;
@@ -53,6 +62,7 @@ import wooteco.prolog.studylog.domain.Studylog;
 import wooteco.prolog.studylog.domain.StudylogDocument;
 import wooteco.prolog.studylog.domain.Tag;
 import wooteco.prolog.studylog.exception.StudylogDocumentNotFoundException;
+import wooteco.support.performance.PerformanceContext;
 import wooteco.support.utils.IntegrationTest;
 
 @IntegrationTest
@@ -87,6 +97,18 @@ class StudylogServiceTest {
     private MemberService memberService;
     @Autowired
     private DocumentService studylogDocumentService;
+    @Autowired
+    private StudylogIndexOutboxRelay studylogIndexOutboxRelay;
+    @Autowired
+    private MemberTagService memberTagService;
+    @Autowired
+    private StudylogListHydrator studylogListHydrator;
+    @Autowired
+    private StudylogResponseCache studylogResponseCache;
+    @Autowired
+    private MemberReactionCache memberReactionCache;
+    @PersistenceContext
+    private EntityManager entityManager;
 
     private Member member1;
     private Member member2;
@@ -192,6 +214,7 @@ class StudylogServiceTest {
         // given
         List<StudylogResponse> studylogResponses = insertStudylogs(member1, studylog1);
         Long id = studylogResponses.get(0).getId();
+        studylogIndexOutboxRelay.relay();
 
         // when
         StudylogDocument studylogDocument = studylogDocumentService.findById(id);
@@ -241,8 +264,8 @@ class StudylogServiceTest {
         //given
         insertStudylogs(member1, studylog1, studylog2);
         insertStudylogs(member2, studylog3, studylog4);
+        studylogIndexOutboxRelay.relay();
 
-        // document 초기화 어떻게...
         StudylogsResponse studylogsResponse = studylogService.findStudylogs(
             new StudylogsSearchRequest(
                 keyword,
@@ -279,6 +302,7 @@ class StudylogServiceTest {
         List<StudylogResponse> studylogResponses = insertStudylogs(member2, studylog3, studylog4);
         StudylogResponse studylog3Response = studylogResponses.get(0);
         StudylogResponse studylog4Response = studylogResponses.get(1);
+        studylogIndexOutboxRelay.relay();
 
         studylogScrapService.registerScrap(member1.getId(), studylog3Response.getId());
         studylogScrapService.registerScrap(member1.getId(), studylog4Response.getId());
@@ -417,6 +441,7 @@ class StudylogServiceTest {
                                                                     toTagRequests(tags));
 
         studylogService.updateStudylog(member1.getId(), id, updateStudylogRequest);
+        studylogIndexOutboxRelay.relay();
 
         // when
         StudylogDocument studylogDocument = studylogDocumentService.findById(id);
@@ -468,7 +493,9 @@ class StudylogServiceTest {
         List<StudylogResponse> studylogResponses = insertStudylogs(member1, studylog1);
         Long id = studylogResponses.get(0).getId();
 
+        studylogIndexOutboxRelay.relay();
         studylogService.deleteStudylog(member1.getId(), id);
+        studylogIndexOutboxRelay.relay();
 
         // when - then
         assertThatThrownBy(() -> studylogDocumentService.findById(id))
@@ -510,6 +537,57 @@ class StudylogServiceTest {
             .containsExactlyInAnyOrderElementsOf(studylogLinks);
     }
 
+    @DisplayName("태그를 공유하는 스터디로그를 한 번에 삽입하면 id, 태그, 멤버 태그 수가 모두 맞게 저장된다.")
+    @Test
+    void insertStudylogsWithSharedTags() {
+        // when
+        List<StudylogResponse> firstBatch = insertStudylogs(member1, studylog1, studylog2, studylog3);
+        List<StudylogResponse> secondBatch = insertStudylogs(member1, studylog1);
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        List<Long> ids = Stream.concat(firstBatch.stream(), secondBatch.stream())
+            .map(StudylogResponse::getId)
+            .collect(toList());
+        assertThat(ids).doesNotHaveDuplicates().isSorted();
+        assertThat(ids).extracting(id -> studylogService.findStudylogById(id).getTitle())
+            .containsExactly(STUDYLOG1_TITLE, STUDYLOG2_TITLE, STUDYLOG3_TITLE, STUDYLOG1_TITLE);
+        assertThat(firstBatch.get(0).getTags()).extracting(TagResponse::getName)
+            .containsExactlyInAnyOrder(tag1.getName(), tag2.getName());
+        assertThat(firstBatch.get(1).getTags()).extracting(TagResponse::getName)
+            .containsExactlyInAnyOrder(tag2.getName(), tag3.getName());
+        assertThat(firstBatch.get(2).getTags()).extracting(TagResponse::getName)
+            .containsExactlyInAnyOrder(tag3.getName(), tag4.getName(), tag5.getName());
+        assertThat(memberTagService.findByMember(member1.getUsername()))
+            .extracting(MemberTagResponse::getCount, response -> response.getTagResponse().getName())
+            .containsExactlyInAnyOrder(
+                tuple(4, "ALL"),
+                tuple(2, tag1.getName()),
+                tuple(3, tag2.getName()),
+                tuple(2, tag3.getName()),
+                tuple(1, tag4.getName()),
+                tuple(1, tag5.getName())
+            );
+    }
+
+    @DisplayName("목록 응답을 채우는 쿼리 수는 페이지 크기와 상관없이 같다.")
+    @Test
+    void hydrateWithConstantQueryCount() {
+        // given
+        List<Long> ids = insertStudylogs(member1, studylog1, studylog2, studylog3, studylog4).stream()
+            .map(StudylogResponse::getId)
+            .collect(toList());
+
+        // when
+        long queryCountOfOne = countHydrationQueries(ids.subList(0, 1));
+        long queryCountOfAll = countHydrationQueries(ids);
+
+        // then
+        assertThat(queryCountOfOne).isPositive();
+        assertThat(queryCountOfAll).isEqualTo(queryCountOfOne);
+    }
+
     public List<StudylogResponse> insertStudylogs(Member member, Studylog... studylogs) {
         return insertStudylogs(member, asList(studylogs));
     }
@@ -530,6 +608,21 @@ class StudylogServiceTest {
         return studylogService.insertStudylogs(member.getId(), studylogRequests);
     }
 
+    private long countHydrationQueries(List<Long> ids) {
+        entityManager.flush();
+        entityManager.clear();
+        studylogResponseCache.clear();
+        memberReactionCache.clear();
+
+        PerformanceContext.begin();
+        try {
+            studylogListHydrator.hydrateByIds(ids, member2.getId());
+            return PerformanceContext.current().getQueryCounts();
+        } finally {
+            PerformanceContext.end();
+        }
+    }
+
     private List<TagRequest> toTagRequests(List<Tag> tags) {
         return tags.stream()
             .map(tag -> new TagRequest(tag.getName()))
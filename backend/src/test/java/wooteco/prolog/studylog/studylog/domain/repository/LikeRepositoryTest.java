@@ -0,0 +1,65 @@
+package wooteco.prolog.studylog.studylog.domain.repository;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.assertj.core.util.Lists;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import wooteco.prolog.member.domain.Member;
+import wooteco.prolog.member.domain.Role;
+import wooteco.prolog.member.domain.repository.MemberRepository;
+import wooteco.prolog.session.domain.Mission;
+import wooteco.prolog.session.domain.Session;
+import wooteco.prolog.session.domain.repository.MissionRepository;
+import wooteco.prolog.session.domain.repository.SessionRepository;
+import wooteco.prolog.studylog.domain.Like;
+import wooteco.prolog.studylog.domain.Studylog;
+import wooteco.prolog.studylog.domain.repository.LikeRepository;
+import wooteco.prolog.studylog.domain.repository.StudylogRepository;
+import wooteco.support.utils.RepositoryTest;
+
+@RepositoryTest
+class LikeRepositoryTest {
+
+    private static final Member 웨지 = new Member("sihyung92", "웨지", Role.CREW, 2222L,
+        "https://avatars.githubusercontent.com/u/51393021?v=4");
+
+    private Studylog studylog;
+    private Member member;
+
+    @Autowired
+    private StudylogRepository studylogRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private SessionRepository sessionRepository;
+
+    @Autowired
+    private MissionRepository missionRepository;
+
+    @Autowired
+    private LikeRepository likeRepository;
+
+    @BeforeEach
+    void setUp() {
+        member = memberRepository.save(웨지);
+        Session session = sessionRepository.save(new Session("세션1"));
+        Mission mission = missionRepository.save(new Mission("미션", session));
+        studylog = studylogRepository
+            .save(new Studylog(member, "제목", "내용", mission, Lists.emptyList()));
+    }
+
+    @DisplayName("같은 멤버가 같은 스터디로그에 좋아요를 두 번 저장하면 예외가 발생한다.")
+    @Test
+    void saveDuplicatedLike() {
+        likeRepository.saveAndFlush(new Like(studylog, member.getId()));
+
+        assertThatThrownBy(() -> likeRepository.saveAndFlush(new Like(studylog, member.getId())))
+            .isInstanceOf(DataIntegrityViolationException.class);
+    }
+}
@@ -16,6 +16,8 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.transaction.annotation.Transactional;
 import wooteco.prolog.member.domain.Member;
@@ -233,4 +235,40 @@ class StudylogRepositoryTest {
         // then
         assertThat(studylogs).hasSize(50);
     }
+
+    @DisplayName("id 가 아닌 컬럼으로 정렬해도 태그 조인 조건과 함께 중복 없는 id 페이지를 조회한다.")
+    @Test
+    void findIdsSortedByNonIdColumn() {
+        // given
+        Specification<Studylog> specs = StudylogSpecification.findByTagIn(asList(tag2.getId(), tag3.getId()))
+            .and(StudylogSpecification.distinct(true));
+
+        // when
+        List<Long> byTitle = studylogRepository.findIds(specs,
+            PageRequest.of(0, 10, Sort.by(Direction.ASC, "title.title")));
+        List<Long> byCreatedAt = studylogRepository.findIds(specs,
+            PageRequest.of(0, 2, Sort.by(Direction.DESC, "createdAt")));
+
+        // then
+        assertThat(byTitle).containsExactly(studylog3.getId(), studylog2.getId(), studylog1.getId());
+        assertThat(byCreatedAt).hasSize(2).doesNotHaveDuplicates();
+    }
+
+    @DisplayName("커서 이전의 id 를 큰 순서대로 limit 만큼 조회하고, 마지막 id 로 다음 페이지를 이어서 조회한다.")
+    @Test
+    void findIdsBefore() {
+        // given
+        Specification<Studylog> specs = StudylogSpecification.findByTagIn(asList(tag2.getId(), tag3.getId()))
+            .and(StudylogSpecification.distinct(true));
+
+        // when
+        List<Long> firstPage = studylogRepository.findIdsBefore(specs, null, 2);
+        List<Long> secondPage = studylogRepository.findIdsBefore(specs, firstPage.get(firstPage.size() - 1), 2);
+        List<Long> lastPage = studylogRepository.findIdsBefore(specs, secondPage.get(secondPage.size() - 1), 2);
+
+        // then
+        assertThat(firstPage).containsExactly(studylog3.getId(), studylog2.getId());
+        assertThat(secondPage).containsExactly(studylog1.getId());
+        assertThat(lastPage).isEmpty();
+    }
 }
@@ -1,7 +1,10 @@
 package wooteco.prolog.studylog.studylog.domain.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
+import java.util.Arrays;
+import java.util.List;
 import org.assertj.core.util.Lists;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -17,6 +20,7 @@ import wooteco.prolog.session.domain.repository.MissionRepository;
 import wooteco.prolog.studylog.domain.Studylog;
 import wooteco.prolog.studylog.domain.StudylogScrap;
 import wooteco.prolog.studylog.domain.repository.StudylogRepository;
+import wooteco.prolog.studylog.domain.repository.StudylogScrapCount;
 import wooteco.prolog.studylog.domain.repository.StudylogScrapRepository;
 import wooteco.support.utils.RepositoryTest;
 
@@ -26,6 +30,9 @@ public class StudylogScrapRepositoryTest {
     private static final Member 웨지 = new Member("sihyung92", "웨지", Role.CREW, 2222L,
         "https://avatars.githubusercontent.com/u/51393021?v=4");
 
+    private static final Member 바다 = new Member("xrabcde", "바다", Role.CREW, 1111L,
+        "https://avatars.githubusercontent.com/u/56033755?v=4");
+
     private Studylog studylog;
     private Member member;
 
@@ -84,4 +91,27 @@ public class StudylogScrapRepositoryTest {
         //then
         assertThat(expectedStudylogScrap).isEqualTo(studylogScrap);
     }
+
+    @DisplayName("스터디로그 id 목록으로 스크랩 수를 한 번에 세고, 스크랩이 없는 스터디로그는 결과에서 빠진다.")
+    @Test
+    void countByStudylogIdIn() {
+        //given
+        Member bada = memberRepository.save(바다);
+        Studylog other = studylogRepository
+            .save(new Studylog(member, "제목2", "내용2", studylog.getMission(), Lists.emptyList()));
+        Studylog notScraped = studylogRepository
+            .save(new Studylog(member, "제목3", "내용3", studylog.getMission(), Lists.emptyList()));
+        studylogScrapRepository.save(new StudylogScrap(member, studylog));
+        studylogScrapRepository.save(new StudylogScrap(bada, studylog));
+        studylogScrapRepository.save(new StudylogScrap(bada, other));
+
+        //when
+        List<StudylogScrapCount> counts = studylogScrapRepository
+            .countByStudylogIdIn(Arrays.asList(studylog.getId(), other.getId(), notScraped.getId()));
+
+        //then
+        assertThat(counts)
+            .extracting(StudylogScrapCount::getStudylogId, StudylogScrapCount::getScrapCount)
+            .containsExactlyInAnyOrder(tuple(studylog.getId(), 2L), tuple(other.getId(), 1L));
+    }
 }
@@ -0,0 +1,45 @@
+package wooteco.support.autoceptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import wooteco.prolog.login.domain.AuthMemberPrincipal;
+import wooteco.prolog.member.domain.Member;
+import wooteco.support.autoceptor.test_classes.ControllerClass;
+import wooteco.support.autoceptor.test_classes.RestControllerClass;
+
+class HandlerMappingPatternMakerTest {
+
+    @DisplayName("핸들러 매핑에서 대상 애노테이션이 붙은 핸들러의 URI Patterns를 반환한다.")
+    @Test
+    void extractPatterns() throws NoSuchMethodException {
+        // given
+        Map<RequestMappingInfo, HandlerMethod> handlerMethods = new HashMap<>();
+        handlerMethods.put(RequestMappingInfo.paths("/api2/test").build(),
+            new HandlerMethod(new ControllerClass(), "annotationExists", Member.class));
+        handlerMethods.put(RequestMappingInfo.paths("/api2/test/{testId}").build(),
+            new HandlerMethod(new ControllerClass(), "pattern", Member.class, Long.class));
+        handlerMethods.put(RequestMappingInfo.paths("/api/test").build(),
+            new HandlerMethod(new RestControllerClass(), "annotationNotExists"));
+
+        HandlerMappingPatternMaker maker = new HandlerMappingPatternMaker(
+            handlerMethods,
+            AuthMemberPrincipal.class
+        );
+
+        // when
+        List<String> patterns = maker.extractPatterns();
+
+        //then
+        assertThat(patterns).containsOnly(
+            "/api2/test",
+            "/api2/test/*"
+        );
+    }
+}
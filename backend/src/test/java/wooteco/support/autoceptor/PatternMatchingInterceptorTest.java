@@ -0,0 +1,70 @@
+package wooteco.support.autoceptor;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+class PatternMatchingInterceptorTest {
+
+    private HandlerInterceptor delegate;
+    private PatternMatchingInterceptor interceptor;
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        delegate = mock(HandlerInterceptor.class);
+        when(delegate.preHandle(any(), any(), any())).thenReturn(false);
+        interceptor = new PatternMatchingInterceptor(delegate);
+        response = new MockHttpServletResponse();
+    }
+
+    @DisplayName("패턴이 정해지기 전에는 모든 요청에 delegate 를 실행한다.")
+    @Test
+    void delegateAllBeforeInitialize() throws Exception {
+        // given
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/posts");
+
+        // when
+        final boolean result = interceptor.preHandle(request, response, new Object());
+        interceptor.afterCompletion(request, response, new Object(), null);
+
+        // then
+        assertThat(result).isFalse();
+        verify(delegate).preHandle(any(), any(), any());
+        verify(delegate).afterCompletion(any(), any(), any(), any());
+    }
+
+    @DisplayName("패턴이 정해진 뒤에는 패턴에 맞는 요청에만 delegate 를 실행한다.")
+    @Test
+    void delegateOnlyMatchingAfterInitialize() throws Exception {
+        // given
+        interceptor.initialize(singletonList("/members/*"));
+
+        // when
+        final boolean notMatched = interceptor.preHandle(new MockHttpServletRequest("GET", "/posts"),
+            response, new Object());
+
+        // then
+        assertThat(notMatched).isTrue();
+        verify(delegate, never()).preHandle(any(), any(), any());
+
+        // when
+        final boolean matched = interceptor.preHandle(new MockHttpServletRequest("GET", "/members/1"),
+            response, new Object());
+
+        // then
+        assertThat(matched).isFalse();
+        verify(delegate).preHandle(any(), any(), any());
+    }
+}
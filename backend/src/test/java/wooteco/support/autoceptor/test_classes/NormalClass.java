@@ -1,5 +0,0 @@
-package wooteco.support.autoceptor.test_classes;
-
-public class NormalClass {
-
-}
@@ -0,0 +1,62 @@
+package wooteco.support.bitmap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RoaringLongSetTest {
+
+    @DisplayName("추가한 id 만 포함한다.")
+    @Test
+    void contains() {
+        RoaringLongSet set = RoaringLongSet.of(Arrays.asList(1L, 65_537L, 10_000_000_000L));
+
+        assertThat(set.contains(1L)).isTrue();
+        assertThat(set.contains(65_537L)).isTrue();
+        assertThat(set.contains(10_000_000_000L)).isTrue();
+        assertThat(set.contains(2L)).isFalse();
+        assertThat(set.size()).isEqualTo(3);
+    }
+
+    @DisplayName("이미 있는 id 를 추가하면 크기가 변하지 않는다.")
+    @Test
+    void addDuplicate() {
+        RoaringLongSet set = new RoaringLongSet();
+
+        assertThat(set.add(7L)).isTrue();
+        assertThat(set.add(7L)).isFalse();
+        assertThat(set.size()).isEqualTo(1);
+    }
+
+    @DisplayName("id 가 많아져 bitmap 으로 바뀐 뒤에도 추가, 삭제가 동작한다.")
+    @Test
+    void bitmapContainer() {
+        RoaringLongSet set = new RoaringLongSet();
+        for (long id = 0; id < 10_000; id++) {
+            set.add(id * 2);
+        }
+
+        for (long id = 0; id < 9_000; id++) {
+            set.remove(id * 2);
+        }
+
+        assertThat(set.size()).isEqualTo(1_000);
+        assertThat(set.contains(17_998L)).isFalse();
+        assertThat(set.contains(18_000L)).isTrue();
+        assertThat(set.contains(18_001L)).isFalse();
+    }
+
+    @DisplayName("모든 id 를 삭제하면 비어있다.")
+    @Test
+    void removeAll() {
+        RoaringLongSet set = RoaringLongSet.of(Arrays.asList(1L, 100_000L));
+
+        set.remove(1L);
+        set.remove(100_000L);
+
+        assertThat(set.isEmpty()).isTrue();
+        assertThat(set.contains(1L)).isFalse();
+    }
+}
@@ -0,0 +1,37 @@
+package wooteco.support.bloom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BloomFilterTest {
+
+    @DisplayName("처음 넣는 값은 true, 이미 넣은 값은 false 를 반환한다.")
+    @Test
+    void put() {
+        BloomFilter bloomFilter = new BloomFilter(1_000, 0.01);
+
+        assertThat(bloomFilter.put(123_456_789L)).isTrue();
+        assertThat(bloomFilter.put(123_456_789L)).isFalse();
+        assertThat(bloomFilter.mightContain(123_456_789L)).isTrue();
+    }
+
+    @DisplayName("예상 원소 수만큼 넣어도 오탐률이 설정값 근처로 유지된다.")
+    @Test
+    void falsePositiveRate() {
+        BloomFilter bloomFilter = new BloomFilter(10_000, 0.01);
+        for (long i = 0; i < 10_000; i++) {
+            bloomFilter.put(i * 0x9e3779b97f4a7c15L);
+        }
+
+        int falsePositives = 0;
+        for (long i = 10_000; i < 20_000; i++) {
+            if (bloomFilter.mightContain(i * 0x9e3779b97f4a7c15L)) {
+                falsePositives++;
+            }
+        }
+
+        assertThat(falsePositives).isLessThan(300);
+    }
+}
@@ -0,0 +1,84 @@
+package wooteco.support.circuitbreaker;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import wooteco.support.circuitbreaker.CircuitBreaker.State;
+
+class CircuitBreakerTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private CircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        circuitBreaker = new CircuitBreaker(4, 4, 50, 50, Duration.ofMillis(100), Duration.ofSeconds(10), 2,
+            (outcome, failure) -> {
+            }, now::get);
+    }
+
+    @DisplayName("최소 호출 수를 채운 뒤 실패율이 기준을 넘으면 열리고, 열린 동안에는 원래 호출 없이 대체 결과를 돌려준다.")
+    @Test
+    void openOnFailureRate() {
+        call("ok");
+        call("ok");
+        call(null);
+        assertThat(circuitBreaker.getState()).isEqualTo(State.CLOSED);
+
+        call(null);
+
+        assertThat(circuitBreaker.getState()).isEqualTo(State.OPEN);
+        assertThat(circuitBreaker.execute(() -> "ok", () -> "fallback")).isEqualTo("fallback");
+    }
+
+    @DisplayName("느린 호출 비율이 기준을 넘어도 열린다.")
+    @Test
+    void openOnSlowCallRate() {
+        call("ok");
+        call("ok");
+        slowCall();
+        slowCall();
+
+        assertThat(circuitBreaker.getState()).isEqualTo(State.OPEN);
+    }
+
+    @DisplayName("열린 시간이 지나면 시험 호출이 연속으로 성공해야 닫히고, 시험 호출이 실패하면 다시 열린다.")
+    @Test
+    void halfOpen() {
+        openCircuit();
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+        assertThat(circuitBreaker.getState()).isEqualTo(State.HALF_OPEN);
+
+        call("ok");
+        call(null);
+        assertThat(circuitBreaker.getState()).isEqualTo(State.OPEN);
+
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+        call("ok");
+        call("ok");
+        assertThat(circuitBreaker.getState()).isEqualTo(State.CLOSED);
+    }
+
+    private void openCircuit() {
+        for (int i = 0; i < 4; i++) {
+            call(null);
+        }
+    }
+
+    private String call(String result) {
+        return circuitBreaker.execute(() -> {
+            if (result == null) {
+                throw new IllegalStateException();
+            }
+            return result;
+        }, () -> "fallback");
+    }
+
+    private void slowCall() {
+        circuitBreaker.execute(() -> now.addAndGet(Duration.ofMillis(100).toNanos()), () -> 0L);
+    }
+}
@@ -0,0 +1,73 @@
+package wooteco.support.performance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Collections;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class NPlusOneDetectorTest {
+
+    private static final String FINGERPRINT = "select count(*) from studylog_scrap where studylog_id = ?";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @DisplayName("같은 쿼리가 기준 횟수만큼 반복되면 호출 위치를 남기고 지표를 올린다.")
+    @Test
+    void repeated() {
+        final NPlusOneDetector detector = new NPlusOneDetector(3, 0, Collections.emptyMap(), false, meterRegistry);
+        final PerformanceLoggingForm form = form(detector, "/studylogs/popular");
+
+        for (int i = 0; i < 3; i++) {
+            form.addQuery(FINGERPRINT, 1_000);
+        }
+        detector.inspect(form);
+
+        assertThat(form.getQueries().get(FINGERPRINT).getStackSample()).isNotNull();
+        assertThat(meterRegistry.get("api.query.repeated").tag("api", "GET /studylogs/popular").counter().count())
+            .isEqualTo(1);
+    }
+
+    @DisplayName("failOnBreach 면 예산을 넘는 쿼리가 끝난 뒤의 예산 검사에서 예외를 던진다.")
+    @Test
+    void failOnBreach() {
+        final NPlusOneDetector detector = new NPlusOneDetector(10,
+            0, Collections.singletonMap("GET /studylogs", 2), true, meterRegistry);
+        final PerformanceLoggingForm form = form(detector, "/studylogs");
+
+        form.addQuery(FINGERPRINT, 1_000);
+        form.checkBudget();
+        form.addQuery(FINGERPRINT, 1_000);
+        form.checkBudget();
+        form.addQuery(FINGERPRINT, 1_000);
+
+        assertThatThrownBy(form::checkBudget)
+            .isInstanceOf(QueryBudgetExceededException.class);
+    }
+
+    @DisplayName("failOnBreach 가 아니면 예산 초과를 지표로만 남긴다.")
+    @Test
+    void countBreach() {
+        final NPlusOneDetector detector = new NPlusOneDetector(10,
+            2, Collections.emptyMap(), false, meterRegistry);
+        final PerformanceLoggingForm form = form(detector, "/members");
+
+        for (int i = 0; i < 3; i++) {
+            form.addQuery(FINGERPRINT, 1_000);
+        }
+        detector.inspect(form);
+
+        assertThat(meterRegistry.get("api.query.budget.exceeded").tag("api", "GET /members").counter().count())
+            .isEqualTo(1);
+    }
+
+    private PerformanceLoggingForm form(NPlusOneDetector detector, String api) {
+        final PerformanceLoggingForm form = new PerformanceLoggingForm(detector);
+        form.setTargetApi(api);
+        form.setTargetMethod("GET");
+        form.setQueryBudget(detector.budgetOf(new RequestApi(api, "GET")));
+        return form;
+    }
+}
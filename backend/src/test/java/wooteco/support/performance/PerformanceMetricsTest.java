@@ -0,0 +1,51 @@
+package wooteco.support.performance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PerformanceMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @DisplayName("API 별 쿼리 수와 fingerprint 별 실행 횟수를 기록한다.")
+    @Test
+    void record() {
+        final PerformanceMetrics performanceMetrics = new PerformanceMetrics(meterRegistry, 10, 10);
+
+        performanceMetrics.record(form("/studylogs", "select * from studylog",
+            "select * from tag where id = ?", "select * from tag where id = ?"));
+
+        assertThat(meterRegistry.get("api.query.count").tag("api", "GET /studylogs").summary().totalAmount())
+            .isEqualTo(3);
+        assertThat(meterRegistry.get("db.query.time").tag("sql", "select * from tag where id = ?").timer().count())
+            .isEqualTo(2);
+    }
+
+    @DisplayName("상한을 넘는 API 와 fingerprint 는 other 태그로 묶는다.")
+    @Test
+    void boundedCardinality() {
+        final PerformanceMetrics performanceMetrics = new PerformanceMetrics(meterRegistry, 1, 1);
+
+        performanceMetrics.record(form("/studylogs", "select * from studylog"));
+        performanceMetrics.record(form("/members", "select * from member"));
+
+        assertThat(meterRegistry.get("api.query.count").summaries()).hasSize(2);
+        assertThat(meterRegistry.get("api.query.count").tag("api", PerformanceMetrics.OTHER).summary().count())
+            .isEqualTo(1);
+        assertThat(meterRegistry.get("db.query.time").tag("sql", PerformanceMetrics.OTHER).timer().count())
+            .isEqualTo(1);
+    }
+
+    private PerformanceLoggingForm form(String api, String... fingerprints) {
+        final PerformanceLoggingForm form = new PerformanceLoggingForm();
+        form.setTargetApi(api);
+        form.setTargetMethod("GET");
+        for (String fingerprint : fingerprints) {
+            form.addQuery(fingerprint, 1_000_000);
+        }
+        return form;
+    }
+}
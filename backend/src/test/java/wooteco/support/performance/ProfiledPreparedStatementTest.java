@@ -0,0 +1,67 @@
+package wooteco.support.performance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collections;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ProfiledPreparedStatementTest {
+
+    private static final String SQL = "select * from studylog where id = ?";
+
+    private final PreparedStatement delegate = mock(PreparedStatement.class);
+    private final ProfiledPreparedStatement statement = new ProfiledPreparedStatement(delegate,
+        mock(Connection.class), SQL);
+    private PerformanceLoggingForm form;
+
+    @BeforeEach
+    void setUp() {
+        final NPlusOneDetector detector = new NPlusOneDetector(10, 1, Collections.emptyMap(), true,
+            new SimpleMeterRegistry());
+        form = PerformanceContext.begin(detector);
+        form.setTargetApi("/studylogs");
+        form.setTargetMethod("GET");
+        form.setQueryBudget(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        PerformanceContext.end();
+    }
+
+    @DisplayName("예산을 넘는 쿼리가 성공하면 방금 연 ResultSet 을 닫고 예산 초과 예외를 던진다.")
+    @Test
+    void closeResultSetOnBreach() throws SQLException {
+        final ResultSet resultSet = mock(ResultSet.class);
+        when(delegate.executeQuery()).thenReturn(resultSet);
+        statement.executeQuery();
+
+        assertThatThrownBy(statement::executeQuery)
+            .isInstanceOf(QueryBudgetExceededException.class);
+        verify(resultSet).close();
+        assertThat(form.getQueryCounts()).isEqualTo(2);
+    }
+
+    @DisplayName("예산을 넘는 쿼리가 실패하면 SQLException 을 그대로 던지고 실행은 기록한다.")
+    @Test
+    void keepSqlException() throws SQLException {
+        final SQLException failure = new SQLException("boom");
+        when(delegate.executeUpdate()).thenReturn(1).thenThrow(failure);
+        statement.executeUpdate();
+
+        assertThatThrownBy(statement::executeUpdate).isSameAs(failure);
+        assertThat(form.getQueryCounts()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,29 @@
+package wooteco.support.performance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.method.HandlerMethod;
+import wooteco.support.autoceptor.test_classes.RestControllerClass;
+
+class RequestApiRegistryTest {
+
+    @DisplayName("핸들러 메서드의 API 를 미리 계산해 두고 메서드로 찾는다.")
+    @Test
+    void find() throws NoSuchMethodException {
+        // given
+        RequestApiRegistry registry = new RequestApiRegistry(new RequestApiExtractor());
+        registry.initialize(Collections.singletonList(
+            new HandlerMethod(new RestControllerClass(), "annotationNotExists")
+        ));
+
+        // when
+        RequestApi requestApi = registry.find(RestControllerClass.class.getMethod("annotationNotExists"));
+
+        // then
+        assertThat(requestApi).isEqualTo(new RequestApi("/api/test", "GET"));
+        assertThat(registry.find(Object.class.getMethod("toString"))).isNull();
+    }
+}
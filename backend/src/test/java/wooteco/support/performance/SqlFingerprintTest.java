@@ -0,0 +1,25 @@
+package wooteco.support.performance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SqlFingerprintTest {
+
+    @DisplayName("리터럴은 ? 로 바꾸고 공백과 대소문자를 정리한다.")
+    @Test
+    void literals() {
+        assertThat(SqlFingerprint.of("SELECT *  FROM studylog\n WHERE title = 'it''s' AND id = 42"))
+            .isEqualTo("select * from studylog where title = ? and id = ?");
+    }
+
+    @DisplayName("IN 목록과 여러 행 VALUES 는 길이와 상관없이 같은 모양이 된다.")
+    @Test
+    void lists() {
+        assertThat(SqlFingerprint.of("select * from tag where id in (1, 2, 3)"))
+            .isEqualTo(SqlFingerprint.of("select * from tag where id in (?)"));
+        assertThat(SqlFingerprint.of("insert into tag (name) values ('a'), ('b')"))
+            .isEqualTo(SqlFingerprint.of("insert into tag (name) values (?)"));
+    }
+}
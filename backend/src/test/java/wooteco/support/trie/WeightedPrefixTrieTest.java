@@ -0,0 +1,54 @@
+package wooteco.support.trie;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class WeightedPrefixTrieTest {
+
+    private WeightedPrefixTrie trie;
+
+    @BeforeEach
+    void setUp() {
+        trie = new WeightedPrefixTrie(3);
+        trie.add("spring", "TAG", "spring", 5);
+        trie.add("spring boot", "TITLE", "Spring Boot", 10);
+        trie.add("sql", "TAG", "sql", 1);
+        trie.add("java", "TAG", "java", 7);
+    }
+
+    @DisplayName("접두어로 시작하는 항목을 가중치가 큰 순서로 찾는다.")
+    @Test
+    void find() {
+        assertThat(trie.find("s", 10)).extracting(WeightedPrefixTrie.Entry::getValue)
+            .containsExactly("Spring Boot", "spring", "sql");
+        assertThat(trie.find("sp", 1)).extracting(WeightedPrefixTrie.Entry::getValue)
+            .containsExactly("Spring Boot");
+        assertThat(trie.find("kotlin", 10)).isEmpty();
+    }
+
+    @DisplayName("가중치를 바꾸면 경로에 있는 순위가 다시 계산되고, 0 이하가 되면 지워진다.")
+    @Test
+    void addWeight() {
+        trie.add("sql", "TAG", "sql", 20);
+        trie.add("spring boot", "TITLE", "Spring Boot", -10);
+
+        assertThat(trie.find("s", 10)).extracting(WeightedPrefixTrie.Entry::getValue)
+            .containsExactly("sql", "spring");
+        assertThat(trie.find("spring ", 10)).isEmpty();
+    }
+
+    @DisplayName("같은 항목이 여러 키로 들어 있어도 한 번만, 가장 큰 가중치로 세고 나머지 자리는 다른 항목으로 채운다.")
+    @Test
+    void distinct() {
+        trie.add("boot", "TITLE", "Spring Boot", 3);
+        trie.add("b", "TAG", "b", 1);
+
+        assertThat(trie.find("", 10)).extracting(WeightedPrefixTrie.Entry::getValue)
+            .containsExactly("Spring Boot", "java", "spring");
+        assertThat(trie.find("", 1)).extracting(WeightedPrefixTrie.Entry::getWeight)
+            .containsExactly(10L);
+    }
+}